@@ -50,10 +50,14 @@
 import java.awt.Dimension;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -80,6 +84,7 @@
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
 import org.knime.workbench.editor2.svgexport.SVGExportException;
+import org.knime.workbench.editor2.svgexport.WorkflowSVGExport.SVGWriter;
 import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
@@ -106,23 +111,38 @@ private SVGExporter() {
      * @throws SVGExportException Wraps potential I/O or batik exceptions.
      */
     public static void export(final WorkflowEditor editor, final File file) throws SVGExportException {
-        try {
-            exportInternal(editor, file);
-        } catch (IOException ioe) {
-            throw new SVGExportException(ioe);
-        } catch (TranscoderException te) {
-            throw new SVGExportException(te);
+        SVGWriter writer = capture(editor);
+        if (writer != null) {
+            writer.write(file);
         }
     }
 
-    private static void exportInternal(final WorkflowEditor editor, final File file)
-            throws IOException, TranscoderException {
-        // Obtain WorkflowRootEditPart, which holds all the nodes
+    /**
+     * Paints the given workflow into an in-memory SVG document. Needs to be called in the UI thread, the (more
+     * expensive) serialization of the document by the returned writer can then take place in any thread.
+     *
+     * @param editor The editor of the workflow being exported as SVG.
+     * @return the writer for the captured document or <code>null</code> if the editor has no viewer (yet)
+     */
+    public static SVGWriter capture(final WorkflowEditor editor) {
         final GraphicalViewer viewer = editor.getViewer();
         if (viewer == null) {
             NodeLogger.getLogger(SVGExporter.class).debug("Not saving SVG to workflow (viewer is null)");
-            return;
+            return null;
         }
+        return capture(viewer);
+    }
+
+    /**
+     * Paints the workflow shown in the given viewer into an in-memory SVG document. The viewer does not need to be
+     * part of an editor, it may also be an offscreen viewer whose contents is a workflow. Needs to be called in the UI
+     * thread.
+     *
+     * @param viewer a viewer whose root edit part has a {@link WorkflowRootEditPart} as its only child
+     * @return the writer for the captured document
+     */
+    public static SVGWriter capture(final GraphicalViewer viewer) {
+        // Obtain WorkflowRootEditPart, which holds all the nodes
         WorkflowRootEditPart part = (WorkflowRootEditPart)viewer.getRootEditPart().getChildren().get(0);
         // export workflow (unfortunately without connections)
         IFigure figure = part.getFigure();
@@ -177,36 +197,88 @@ private static void exportInternal(final WorkflowEditor editor, final File file)
         for (ConnectionContainerEditPart ep : connections) {
             ep.getFigure().paint(svgExporter);
         }
-        SVGTranscoder transcoder = new SVGTranscoder();
-        Writer fileOut =  new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
-        fileOut.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
-        TranscoderOutput out = new TranscoderOutput(fileOut);
         Document doc = svgExporter.getDocument();
         doc.replaceChild(svgExporter.getRoot(), doc.getDocumentElement());
-        // fix font sizes
-        int dpix = DisplayUtils.getDisplay().getDPI().x;
-        if (dpix > 72) {
+        return new CapturedSVG(doc, DisplayUtils.getDisplay().getDPI().x);
+    }
+
+    /**
+     * A captured SVG document, independent of the editor it has been painted from.
+     */
+    private static final class CapturedSVG implements SVGWriter {
+
+        private final Document m_doc;
+
+        private final int m_dpix;
+
+        private boolean m_fontSizesFixed;
+
+        CapturedSVG(final Document doc, final int dpix) {
+            m_doc = doc;
+            m_dpix = dpix;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void write(final File file) throws SVGExportException {
             try {
-                XPathExpression xpath = XPathFactory.newInstance().newXPath().compile("//@font-size");
-                NodeList fontSizes = (NodeList)xpath.evaluate(doc, XPathConstants.NODESET);
-                for (int i = 0; i < fontSizes.getLength(); i++) {
-                    Attr attribute = (Attr)fontSizes.item(i);
-                    String value = attribute.getNodeValue();
-                    try {
-                        double size = Double.parseDouble(value);
-                        size = Math.floor(size / dpix * 72.0) * dpix / 72.0;
-                        attribute.setNodeValue(Integer.toString((int)size));
-                    } catch (NumberFormatException ex) {
-                        // ignore it
+                writeInternal(file);
+            } catch (IOException ioe) {
+                throw new SVGExportException(ioe);
+            } catch (TranscoderException te) {
+                throw new SVGExportException(te);
+            }
+        }
+
+        private void writeInternal(final File file) throws IOException, TranscoderException {
+            if (!m_fontSizesFixed) {
+                fixFontSizes();
+                m_fontSizesFixed = true;
+            }
+            // write to a temporary file and move it in place afterwards such that readers never see a partially
+            // written file; it's created next to the destination (a temp directory might be on another file system,
+            // where the move isn't atomic) and hidden by its leading dot, which uploads and exports skip
+            Path tmpFile =
+                File.createTempFile("." + file.getName(), ".tmp", file.getAbsoluteFile().getParentFile()).toPath();
+            try {
+                try (Writer fileOut = new BufferedWriter(
+                    new OutputStreamWriter(Files.newOutputStream(tmpFile), StandardCharsets.UTF_8))) {
+                    fileOut.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+                    SVGTranscoder transcoder = new SVGTranscoder();
+                    transcoder.transcode(new TranscoderInput(m_doc), new TranscoderOutput(fileOut));
+                }
+                try {
+                    Files.move(tmpFile, file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmpFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        }
+
+        private void fixFontSizes() {
+            if (m_dpix > 72) {
+                try {
+                    XPathExpression xpath = XPathFactory.newInstance().newXPath().compile("//@font-size");
+                    NodeList fontSizes = (NodeList)xpath.evaluate(m_doc, XPathConstants.NODESET);
+                    for (int i = 0; i < fontSizes.getLength(); i++) {
+                        Attr attribute = (Attr)fontSizes.item(i);
+                        String value = attribute.getNodeValue();
+                        try {
+                            double size = Double.parseDouble(value);
+                            size = Math.floor(size / m_dpix * 72.0) * m_dpix / 72.0;
+                            attribute.setNodeValue(Integer.toString((int)size));
+                        } catch (NumberFormatException ex) {
+                            // ignore it
+                        }
                     }
+                } catch (XPathExpressionException ex) {
+                    // ignore
                 }
-            } catch (XPathExpressionException ex) {
-                // ignore
             }
         }
-        TranscoderInput in = new TranscoderInput(doc);
-        transcoder.transcode(in, out);
-        fileOut.close();
     }
 
 }
@@ -0,0 +1,427 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor.svgexport.batch;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.gef.EditDomain;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.EditorUIInformation;
+import org.knime.core.node.workflow.WorkflowContext;
+import org.knime.core.node.workflow.WorkflowLoadHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.workbench.editor.svgexport.actions.SVGExporter;
+import org.knime.workbench.editor2.ConnectionSelectingScalableFreeformRootEditPart;
+import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.WorkflowEditPartFactory;
+import org.knime.workbench.editor2.svgexport.WorkflowSVGExport.SVGWriter;
+
+/**
+ * Headless application that (re-)creates the preview images (<tt>workflow.svg</tt>) of all workflows below a
+ * workspace directory without opening them in an editor. Workflows whose preview is newer than their
+ * <tt>workflow.knime</tt> are skipped unless <tt>-force</tt> is given.
+ *
+ * <p>
+ * Loading the workflows and serializing the SVG documents runs in a pool of worker threads. Painting the workflows
+ * must happen in the UI thread; it is done in offscreen viewers, i.e. viewers in a shell that is never opened. The
+ * number of workflows held in memory at the same time is bounded by a small multiple of the number of threads.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BatchSVGExportApplication implements IApplication {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BatchSVGExportApplication.class);
+
+    private static final String WORKSPACE_ARG = "-workspace";
+
+    private static final String THREADS_ARG = "-threads";
+
+    private static final String FORCE_ARG = "-force";
+
+    /** Number of workflows that are loaded or written concurrently per worker thread. */
+    private static final int WORKFLOWS_PER_THREAD = 2;
+
+    /** Time the UI thread waits for a loaded workflow before it dispatches pending UI events again. */
+    private static final long POLL_INTERVAL_MS = 20;
+
+    /** Exit code if the arguments are invalid or not all images could be exported. */
+    private static final Integer EXIT_ERROR = Integer.valueOf(1);
+
+    private volatile boolean m_stopped;
+
+    private static void printUsage() {
+        System.err.println("Usage: BatchSVGExport options");
+        System.err.println("Allowed options are:");
+        System.err.println("\t-workspace dir : directory that is searched for workflows");
+        System.err.println("\t-threads n : number of threads loading workflows and writing images "
+            + "(default: number of processors)");
+        System.err.println("\t-force : re-create all images, also those that are newer than their workflow");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object start(final IApplicationContext context) throws Exception {
+        File workspace = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean force = false;
+        Object o = context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+        if (o instanceof String[]) {
+            String[] args = (String[])o;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(WORKSPACE_ARG) && (i + 1 < args.length)) {
+                    workspace = new File(args[++i]);
+                } else if (args[i].equals(THREADS_ARG) && (i + 1 < args.length)) {
+                    try {
+                        threads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException ex) {
+                        threads = -1;
+                    }
+                } else if (args[i].equals(FORCE_ARG)) {
+                    force = true;
+                } else if (args[i].equals("-help")) {
+                    printUsage();
+                    return EXIT_OK;
+                }
+            }
+        }
+
+        if (workspace == null || !workspace.isDirectory()) {
+            System.err.println("No workspace directory specified or directory does not exist");
+            printUsage();
+            return EXIT_ERROR;
+        } else if (threads < 1) {
+            System.err.println("Number of threads must be a positive number");
+            printUsage();
+            return EXIT_ERROR;
+        }
+
+        Display display = Display.getDefault();
+        context.applicationRunning();
+
+        long start = System.currentTimeMillis();
+        List<File> workflows = new ArrayList<>();
+        int upToDate = collectWorkflows(workspace.toPath(), force, workflows);
+        System.out.println("Found " + (workflows.size() + upToDate) + " workflows in " + workspace.getAbsolutePath()
+            + ", " + upToDate + " with up-to-date images");
+
+        Map<File, String> failures = new ConcurrentHashMap<>();
+        int exported = export(display, workflows, threads, failures);
+
+        double seconds = Math.max(System.currentTimeMillis() - start, 1) / 1000.0;
+        System.out.println(String.format("Exported %d images in %.1f s (%.2f workflows/s), %d skipped, %d failed",
+            exported, seconds, exported / seconds, upToDate, failures.size()));
+        for (Map.Entry<File, String> e : failures.entrySet()) {
+            System.out.println("Failed: " + e.getKey().getAbsolutePath() + ": " + e.getValue());
+        }
+        if (m_stopped) {
+            System.out.println("Export has been stopped, " + (workflows.size() - exported - failures.size())
+                + " workflows have not been processed");
+        }
+        return failures.isEmpty() ? EXIT_OK : EXIT_ERROR;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        m_stopped = true;
+    }
+
+    /**
+     * Searches the given directory for workflows. Directories starting with a dot and the contents of workflows
+     * (metanodes and components) are not searched.
+     *
+     * @param root the workspace directory
+     * @param force whether to also add workflows whose image is newer than the workflow file
+     * @param workflows the list the directories of the workflows to export are added to
+     * @return the number of workflows that have been skipped because their image is up to date
+     * @throws IOException if the workspace cannot be read
+     */
+    static int collectWorkflows(final Path root, final boolean force, final List<File> workflows)
+        throws IOException {
+        final AtomicInteger upToDate = new AtomicInteger();
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                if (!dir.equals(root) && dir.getFileName().toString().startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                File workflowFile = dir.resolve(WorkflowPersistor.WORKFLOW_FILE).toFile();
+                if (!workflowFile.isFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                File svgFile = dir.resolve(WorkflowPersistor.SVG_WORKFLOW_FILE).toFile();
+                if (!force && svgFile.lastModified() > workflowFile.lastModified()) {
+                    upToDate.incrementAndGet();
+                } else {
+                    workflows.add(dir.toFile());
+                }
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                LOGGER.warn("Could not read " + file + ": " + exc.getMessage(), exc);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return upToDate.get();
+    }
+
+    /**
+     * Loads, paints and writes the given workflows. Must be called in the UI thread.
+     *
+     * @return the number of successfully written images
+     */
+    private int export(final Display display, final List<File> workflows, final int threads,
+        final Map<File, String> failures) throws InterruptedException {
+        final AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "KNIME-SVG-Export-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        CompletionService<Step> completion = new ExecutorCompletionService<>(pool);
+        Shell shell = new Shell(display);
+        int next = 0;
+        int inFlight = 0;
+        int exported = 0;
+        try {
+            while (inFlight > 0 || (next < workflows.size() && !m_stopped)) {
+                while (inFlight < threads * WORKFLOWS_PER_THREAD && next < workflows.size() && !m_stopped) {
+                    File dir = workflows.get(next++);
+                    completion.submit(() -> load(dir));
+                    inFlight++;
+                }
+                Future<Step> future = completion.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                while (display.readAndDispatch()) {
+                    // process events posted by the edit parts and the workflows
+                }
+                if (future == null) {
+                    continue;
+                }
+                Step step;
+                try {
+                    step = future.get();
+                } catch (ExecutionException ex) {
+                    // load and write never throw, they report their errors in the returned step
+                    LOGGER.error(ex.getCause().getMessage(), ex.getCause());
+                    inFlight--;
+                    continue;
+                }
+                if (step.m_error != null) {
+                    failures.put(step.m_dir, step.m_error);
+                    inFlight--;
+                } else if (step.m_writer == null) {
+                    SVGWriter writer = paint(shell, step);
+                    if (writer != null) {
+                        completion.submit(() -> write(step.m_dir, step.m_wfm, writer));
+                    } else {
+                        failures.put(step.m_dir, step.m_error);
+                        inFlight--;
+                    }
+                } else {
+                    exported++;
+                    inFlight--;
+                    if (exported % 100 == 0) {
+                        System.out.println("Exported " + exported + " of " + workflows.size() + " images");
+                    }
+                }
+            }
+        } finally {
+            shell.dispose();
+            pool.shutdown();
+        }
+        return exported;
+    }
+
+    /** Loads the workflow in the given directory, called in a worker thread. */
+    private static Step load(final File dir) {
+        try {
+            WorkflowContext ctx = new WorkflowContext.Factory(dir).createContext();
+            WorkflowLoadResult result =
+                WorkflowManager.loadProject(dir, new ExecutionMonitor(), new WorkflowLoadHelper(false, ctx));
+            WorkflowManager wfm = result.getWorkflowManager();
+            if (wfm == null) {
+                return new Step(dir, "Workflow could not be loaded: "
+                    + result.getFilteredError("", LoadResultEntryType.Error));
+            }
+            return new Step(dir, wfm, null);
+        } catch (Exception ex) {
+            LOGGER.debug("Could not load workflow " + dir.getAbsolutePath() + ": " + ex.getMessage(), ex);
+            return new Step(dir, "Workflow could not be loaded: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Paints the loaded workflow in an offscreen viewer, called in the UI thread. The workflow is closed if painting
+     * fails, otherwise the returned writer closes it once the image has been written.
+     */
+    private static SVGWriter paint(final Shell shell, final Step step) {
+        try {
+            return render(shell, step.m_wfm);
+        } catch (RuntimeException ex) {
+            LOGGER.debug("Could not paint workflow " + step.m_dir.getAbsolutePath() + ": " + ex.getMessage(), ex);
+            step.m_error = "Workflow could not be painted: " + ex.getMessage();
+            close(step.m_wfm);
+            return null;
+        }
+    }
+
+    /**
+     * Paints the given workflow in an offscreen viewer, must be called in the UI thread. There is no workflow editor
+     * the edit parts could take the editor settings from, they are provided by the viewer instead.
+     *
+     * @param shell the (unopened) shell the viewer is created in
+     * @param wfm the workflow to paint
+     * @return the writer of the captured image
+     */
+    static SVGWriter render(final Shell shell, final WorkflowManager wfm) {
+        GraphicalViewer viewer = new ScrollingGraphicalViewer();
+        viewer.createControl(shell);
+        try {
+            viewer.getControl().setBackground(ColorConstants.white);
+            viewer.setEditDomain(new EditDomain());
+            final EditorUIInformation settings = wfm.getEditorUIInformation();
+            if (settings != null && settings.getGridX() != -1) {
+                // otherwise the edit parts fall back to the preferences, as the workflow editor does
+                viewer.setProperty(WorkflowEditor.VIEWER_PROPERTY_EDITOR_SETTINGS, settings);
+            }
+            viewer.setRootEditPart(new ConnectionSelectingScalableFreeformRootEditPart());
+            viewer.setEditPartFactory(new WorkflowEditPartFactory());
+            viewer.setContents(WorkflowManagerWrapper.wrap(wfm));
+            // figures are laid out lazily, make sure the bounds are valid before they are painted
+            ((GraphicalEditPart)viewer.getRootEditPart()).getFigure().getUpdateManager().performValidation();
+            return SVGExporter.capture(viewer);
+        } finally {
+            // deactivates all edit parts, which unregister their listeners from the workflow
+            viewer.getControl().dispose();
+        }
+    }
+
+    /** Writes the image of a painted workflow and closes the workflow, called in a worker thread. */
+    private static Step write(final File dir, final WorkflowManager wfm, final SVGWriter writer) {
+        try {
+            writer.write(new File(dir, WorkflowPersistor.SVG_WORKFLOW_FILE));
+            return new Step(dir, null, writer);
+        } catch (Exception ex) {
+            LOGGER.debug("Could not write image of " + dir.getAbsolutePath() + ": " + ex.getMessage(), ex);
+            return new Step(dir, "Image could not be written: " + ex.getMessage());
+        } finally {
+            close(wfm);
+        }
+    }
+
+    private static void close(final WorkflowManager wfm) {
+        try {
+            WorkflowManager.ROOT.removeProject(wfm.getID());
+        } catch (Exception ex) {
+            LOGGER.warn("Could not close workflow " + wfm.getNameWithID() + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * State of a single workflow while it passes through the export: loaded (workflow set), written (writer set) or
+     * failed (error set).
+     */
+    private static final class Step {
+
+        private final File m_dir;
+
+        private final WorkflowManager m_wfm;
+
+        private final SVGWriter m_writer;
+
+        private String m_error;
+
+        Step(final File dir, final WorkflowManager wfm, final SVGWriter writer) {
+            m_dir = dir;
+            m_wfm = wfm;
+            m_writer = writer;
+        }
+
+        Step(final File dir, final String error) {
+            this(dir, null, null);
+            m_error = error;
+        }
+    }
+}
@@ -68,4 +68,10 @@ public void exportToSVG(final WorkflowEditor editor, final File svgOutputFile) t
         SVGExporter.export(editor, svgOutputFile);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public SVGWriter captureSVG(final WorkflowEditor editor) throws SVGExportException {
+        return SVGExporter.capture(editor);
+    }
+
 }
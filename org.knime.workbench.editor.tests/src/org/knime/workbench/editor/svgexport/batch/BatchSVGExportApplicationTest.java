@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor.svgexport.batch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeUIInformation;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.util.FileUtil;
+import org.knime.workbench.editor2.svgexport.WorkflowSVGExport.SVGWriter;
+
+/**
+ * Tests the search for workflows and the offscreen painting of {@link BatchSVGExportApplication}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BatchSVGExportApplicationTest {
+
+    private static final long WORKFLOW_MODIFIED = 1_000_000_000_000L;
+
+    private File m_dir;
+
+    private WorkflowManager m_wfm;
+
+    /**
+     * Creates the directory the workspace and the images are created in.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    @Before
+    public void createDirectory() throws IOException {
+        m_dir = FileUtil.createTempDir(getClass().getSimpleName());
+    }
+
+    /**
+     * Closes the painted workflow and deletes the directory.
+     */
+    @After
+    public void cleanUp() {
+        if (m_wfm != null) {
+            WorkflowManager.ROOT.removeProject(m_wfm.getID());
+        }
+        FileUtil.deleteRecursively(m_dir);
+    }
+
+    /**
+     * Checks that workflows with an outdated or missing image are found, also in workflow groups, and that hidden
+     * directories and the contents of workflows are not searched.
+     *
+     * @throws IOException if the workspace cannot be created
+     */
+    @Test
+    public void testCollectWorkflows() throws IOException {
+        final Path root = m_dir.toPath();
+        final File noImage = createWorkflow(root.resolve("noImage"));
+        final File outdated = createWorkflow(root.resolve("group").resolve("outdated"));
+        createImage(outdated, -10_000);
+        final File upToDate = createWorkflow(root.resolve("upToDate"));
+        createImage(upToDate, 10_000);
+        createWorkflow(root.resolve(".hidden").resolve("hidden"));
+        // a metanode of the workflow without image
+        createWorkflow(noImage.toPath().resolve("Metanode (#1)"));
+
+        final List<File> workflows = new ArrayList<>();
+        assertThat("Wrong number of up-to-date workflows",
+            BatchSVGExportApplication.collectWorkflows(root, false, workflows), is(1));
+        assertThat("Wrong workflows to export", workflows, containsInAnyOrder(noImage, outdated));
+
+        workflows.clear();
+        assertThat("Up-to-date workflows must not be skipped if forced",
+            BatchSVGExportApplication.collectWorkflows(root, true, workflows), is(0));
+        assertThat("Wrong workflows to export", workflows, containsInAnyOrder(noImage, outdated, upToDate));
+    }
+
+    /**
+     * Paints a workflow with a connection in an offscreen viewer, i.e. without a workflow editor the connection could
+     * take the editor settings from, and writes the image.
+     *
+     * @throws Exception if the image cannot be written
+     */
+    @Test
+    public void testRenderWorkflowWithConnection() throws Exception {
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Connected", new WorkflowCreationHelper());
+        final PortType[] ports = new PortType[]{BufferedDataTable.TYPE};
+        final NodeID source = addMetanode(ports, 50);
+        final NodeID dest = addMetanode(ports, 250);
+        m_wfm.addConnection(source, 0, dest, 0);
+
+        final Display display = Display.getDefault();
+        final Shell shell = new Shell(display);
+        final SVGWriter writer;
+        try {
+            writer = BatchSVGExportApplication.render(shell, m_wfm);
+        } finally {
+            shell.dispose();
+        }
+        assertThat("No image captured", writer, is(notNullValue()));
+
+        final File svg = new File(m_dir, WorkflowPersistor.SVG_WORKFLOW_FILE);
+        writer.write(svg);
+        assertThat("Image not written", svg.isFile(), is(true));
+        assertThat("Image is not an SVG document",
+            new String(Files.readAllBytes(svg.toPath()), StandardCharsets.UTF_8), containsString("<svg"));
+    }
+
+    private NodeID addMetanode(final PortType[] ports, final int x) {
+        final NodeID id = m_wfm.createAndAddSubWorkflow(ports, ports, "Metanode").getID();
+        m_wfm.getNodeContainer(id).setUIInformation(NodeUIInformation.builder().setNodeLocation(x, 50, -1, -1).build());
+        return id;
+    }
+
+    /** Creates a workflow directory with a workflow file. */
+    private static File createWorkflow(final Path dir) throws IOException {
+        Files.createDirectories(dir);
+        final File workflowFile = dir.resolve(WorkflowPersistor.WORKFLOW_FILE).toFile();
+        Files.write(workflowFile.toPath(), new byte[0]);
+        workflowFile.setLastModified(WORKFLOW_MODIFIED);
+        return dir.toFile();
+    }
+
+    /** Creates the image of a workflow modified the given number of milliseconds after the workflow file. */
+    private static void createImage(final File dir, final long offset) throws IOException {
+        final File svgFile = new File(dir, WorkflowPersistor.SVG_WORKFLOW_FILE);
+        Files.write(svgFile.toPath(), new byte[0]);
+        svgFile.setLastModified(WORKFLOW_MODIFIED + offset);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.knime.core.node.workflow.NodeContainerState;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeStateChangeListener;
+import org.knime.core.node.workflow.NodeStateEvent;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.core.ui.node.workflow.async.AsyncWorkflowManagerUI;
+
+/**
+ * Tests the interval adaption of {@link AdaptiveWorkflowRefresh} against a local fake {@link AsyncWorkflowManagerUI}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AdaptiveWorkflowRefreshTest {
+
+    private static final long MIN = 100;
+
+    private static final long MAX = 1000;
+
+    /**
+     * Idle refreshes back off exponentially up to the maximum interval.
+     *
+     * @throws Exception if the refresh fails
+     */
+    @Test
+    public void testBackoffWhileIdle() throws Exception {
+        FakeWorkflow wf = new FakeWorkflow();
+        AdaptiveWorkflowRefresh refresh = new AdaptiveWorkflowRefresh(wf.m_wfm, MIN, MAX, null);
+        List<Long> delays = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            delays.add(refresh.refresh());
+        }
+        assertThat(delays, contains(200L, 400L, 800L, 1000L, 1000L, 1000L));
+        assertThat(wf.m_refreshCount.get(), is(6));
+    }
+
+    /**
+     * A refresh that brings in changes or finds the workflow executing resets the interval to the minimum.
+     *
+     * @throws Exception if the refresh fails
+     */
+    @Test
+    public void testFastPollingOnChangesAndExecution() throws Exception {
+        FakeWorkflow wf = new FakeWorkflow();
+        AdaptiveWorkflowRefresh refresh = new AdaptiveWorkflowRefresh(wf.m_wfm, MIN, MAX, null);
+        refresh.refresh();
+        refresh.refresh();
+        assertThat(refresh.getInterval(), is(400L));
+
+        wf.m_remoteChanges.add(new NodeID(1));
+        assertThat(refresh.refresh(), is(MIN));
+        assertThat(refresh.refresh(), is(200L));
+
+        wf.m_executing = true;
+        assertThat(refresh.refresh(), is(MIN));
+        assertThat(refresh.refresh(), is(MIN));
+
+        wf.m_executing = false;
+        assertThat(refresh.refresh(), is(200L));
+    }
+
+    /**
+     * A failed refresh is passed on to the caller and resets a backed-off interval to the minimum.
+     *
+     * @throws Exception if a refresh that is expected to succeed fails
+     */
+    @Test
+    public void testFailureResetsInterval() throws Exception {
+        FakeWorkflow wf = new FakeWorkflow();
+        AdaptiveWorkflowRefresh refresh = new AdaptiveWorkflowRefresh(wf.m_wfm, MIN, MAX, null);
+        refresh.refresh();
+        refresh.refresh();
+        refresh.refresh();
+        assertThat(refresh.getInterval(), is(800L));
+
+        wf.m_fail = true;
+        try {
+            refresh.refresh();
+            fail("Failed refresh not passed on to the caller");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("timeout"));
+        }
+        assertThat(refresh.getInterval(), is(MIN));
+
+        wf.m_fail = false;
+        assertThat(refresh.refresh(), is(200L));
+    }
+
+    /**
+     * Changes observed in between two refreshes are reported to the activity callback, changes fired by the refresh
+     * itself are not; disposing unregisters all listeners.
+     *
+     * @throws Exception if the refresh fails
+     */
+    @Test
+    public void testActivityCallback() throws Exception {
+        FakeWorkflow wf = new FakeWorkflow();
+        AtomicInteger activity = new AtomicInteger();
+        AdaptiveWorkflowRefresh refresh =
+            new AdaptiveWorkflowRefresh(wf.m_wfm, MIN, MAX, activity::incrementAndGet);
+
+        wf.m_remoteChanges.add(new NodeID(1));
+        refresh.refresh();
+        assertThat(activity.get(), is(0));
+
+        wf.fireNodeAdded(new NodeID(2));
+        wf.fireStateChanged(new NodeID(2));
+        assertThat(activity.get(), is(2));
+        // the local change counts as activity for the next refresh, too
+        assertThat(refresh.refresh(), is(MIN));
+
+        refresh.dispose();
+        assertThat(wf.m_workflowListeners, is(empty()));
+        assertThat(wf.m_stateListeners, is(empty()));
+    }
+
+    /**
+     * A fake remote workflow whose refresh fires a node-added event for each queued remote change.
+     */
+    private static final class FakeWorkflow {
+
+        private final List<WorkflowListener> m_workflowListeners = new ArrayList<>();
+
+        private final List<NodeStateChangeListener> m_stateListeners = new ArrayList<>();
+
+        private final List<NodeID> m_remoteChanges = new ArrayList<>();
+
+        private final AtomicInteger m_refreshCount = new AtomicInteger();
+
+        private boolean m_executing;
+
+        private boolean m_fail;
+
+        private final AsyncWorkflowManagerUI m_wfm;
+
+        FakeWorkflow() {
+            NodeContainerState state = (NodeContainerState)Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{NodeContainerState.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("isExecutionInProgress")) {
+                        return m_executing;
+                    }
+                    return defaultValue(method.getReturnType());
+                });
+            m_wfm = (AsyncWorkflowManagerUI)Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{AsyncWorkflowManagerUI.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "addListener":
+                            m_workflowListeners.add((WorkflowListener)args[0]);
+                            return null;
+                        case "removeListener":
+                            m_workflowListeners.remove(args[0]);
+                            return null;
+                        case "addNodeStateChangeListener":
+                            return m_stateListeners.add((NodeStateChangeListener)args[0]);
+                        case "removeNodeStateChangeListener":
+                            return m_stateListeners.remove(args[0]);
+                        case "getNodeContainerState":
+                            return state;
+                        case "refreshOrFail":
+                            refresh();
+                            return defaultValue(method.getReturnType());
+                        default:
+                            return defaultValue(method.getReturnType());
+                    }
+                });
+        }
+
+        private void refresh() throws Exception {
+            m_refreshCount.incrementAndGet();
+            if (m_fail) {
+                // unchecked, so that the proxy passes it on unwrapped
+                throw new IllegalStateException("timeout");
+            }
+            for (NodeID id : m_remoteChanges) {
+                fireNodeAdded(id);
+            }
+            m_remoteChanges.clear();
+        }
+
+        void fireNodeAdded(final NodeID id) {
+            WorkflowEvent event = new WorkflowEvent(WorkflowEvent.Type.NODE_ADDED, id, null, null);
+            new ArrayList<>(m_workflowListeners).forEach(l -> l.workflowChanged(event));
+        }
+
+        void fireStateChanged(final NodeID id) {
+            NodeStateEvent event = new NodeStateEvent(id);
+            new ArrayList<>(m_stateListeners).forEach(l -> l.stateChanged(event));
+        }
+
+        private static Object defaultValue(final Class<?> type) {
+            if (type == boolean.class) {
+                return false;
+            } else if (type == int.class) {
+                return 0;
+            } else if (type == long.class) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.commands.CommandStack;
+import org.eclipse.gef.commands.CompoundCommand;
+import org.eclipse.jface.preference.PreferenceStore;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.workbench.editor2.commands.EvictableUndoData;
+import org.knime.workbench.editor2.commands.UndoDataHolder;
+import org.knime.workbench.ui.preferences.PreferenceConstants;
+
+/**
+ * Tests the eviction of undo data by {@link UndoHistoryBudget}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class UndoHistoryBudgetTest {
+
+    private static final long KB = 1024;
+
+    private PreferenceStore m_preferenceStore;
+
+    private CommandStack m_commandStack;
+
+    private UndoHistoryBudget m_budget;
+
+    /** Creates a command stack with a budget of 1 MB. */
+    @Before
+    public void setUp() {
+        m_preferenceStore = new PreferenceStore();
+        m_preferenceStore.setValue(PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB, 1);
+        m_commandStack = new CommandStack();
+        m_budget = new UndoHistoryBudget(m_commandStack, m_preferenceStore);
+    }
+
+    /** Unregisters the budget. */
+    @After
+    public void tearDown() {
+        m_budget.dispose();
+    }
+
+    /**
+     * The undo data of the oldest commands is evicted once the budget is exceeded, evicted commands can't be undone.
+     */
+    @Test
+    public void testEvictOldestFirst() {
+        UndoDataCommand first = execute(512 * KB);
+        UndoDataCommand second = execute(512 * KB);
+        assertThat(m_budget.getRetainedSize(), is(1024 * KB));
+        assertThat(first.canUndo(), is(true));
+
+        UndoDataCommand third = execute(512 * KB);
+        assertThat(m_budget.getRetainedSize(), is(1024 * KB));
+        assertThat(first.canUndo(), is(false));
+        assertThat(first.getUndoData().getRetainedSize(), is(0L));
+        assertThat(second.canUndo(), is(true));
+        assertThat(third.canUndo(), is(true));
+    }
+
+    /**
+     * The data of the most recent command is kept even if it exceeds the budget on its own.
+     */
+    @Test
+    public void testMostRecentIsKept() {
+        UndoDataCommand small = execute(256 * KB);
+        UndoDataCommand large = execute(2048 * KB);
+        assertThat(small.canUndo(), is(false));
+        assertThat(large.canUndo(), is(true));
+        assertThat(m_budget.getRetainedSize(), is(2048 * KB));
+    }
+
+    /**
+     * Undone commands still account for their data (needed for the redo), executing a new command drops them.
+     */
+    @Test
+    public void testUndoRedo() {
+        execute(256 * KB);
+        UndoDataCommand second = execute(256 * KB);
+        m_commandStack.undo();
+        assertThat(m_budget.getRetainedSize(), is(512 * KB));
+
+        m_commandStack.redo();
+        assertThat(second.canUndo(), is(true));
+        assertThat(m_budget.getRetainedSize(), is(512 * KB));
+
+        m_commandStack.undo();
+        execute(256 * KB);
+        assertThat(m_budget.getRetainedSize(), is(512 * KB));
+    }
+
+    /**
+     * Undo data held by the children of compound commands is accounted, too.
+     */
+    @Test
+    public void testCompoundCommand() {
+        CompoundCommand compound = new CompoundCommand();
+        UndoDataCommand child1 = new UndoDataCommand(512 * KB);
+        UndoDataCommand child2 = new UndoDataCommand(256 * KB);
+        compound.add(child1);
+        compound.add(child2);
+        m_commandStack.execute(compound);
+        assertThat(m_budget.getRetainedSize(), is(768 * KB));
+
+        execute(512 * KB);
+        assertThat(child1.canUndo(), is(false));
+        assertThat(child2.canUndo(), is(true));
+        assertThat(m_budget.getRetainedSize(), is(768 * KB));
+    }
+
+    /**
+     * Without a budget (the default) nothing is evicted, the retained size is tracked nonetheless.
+     */
+    @Test
+    public void testUnlimitedByDefault() {
+        m_preferenceStore.setValue(PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB,
+            PreferenceConstants.P_DEFAULT_EDITOR_UNDO_HISTORY_BUDGET_MB);
+        UndoDataCommand first = execute(2048 * KB);
+        UndoDataCommand second = execute(2048 * KB);
+        assertThat(first.canUndo(), is(true));
+        assertThat(second.canUndo(), is(true));
+        assertThat(m_budget.getRetainedSize(), is(4096 * KB));
+    }
+
+    /**
+     * Lowering the budget evicts right away.
+     */
+    @Test
+    public void testBudgetChange() {
+        m_preferenceStore.setValue(PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB, 4);
+        UndoDataCommand first = execute(1024 * KB);
+        UndoDataCommand second = execute(1024 * KB);
+        assertThat(m_budget.getRetainedSize(), is(2048 * KB));
+
+        m_preferenceStore.setValue(PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB, 1);
+        assertThat(first.canUndo(), is(false));
+        assertThat(second.canUndo(), is(true));
+        assertThat(m_budget.getRetainedSize(), is(1024 * KB));
+    }
+
+    private UndoDataCommand execute(final long size) {
+        UndoDataCommand command = new UndoDataCommand(size);
+        m_commandStack.execute(command);
+        return command;
+    }
+
+    /** A command retaining undo data of the given size. */
+    private static final class UndoDataCommand extends Command implements UndoDataHolder {
+
+        private final EvictableUndoData<Object> m_undoData;
+
+        UndoDataCommand(final long size) {
+            m_undoData = new EvictableUndoData<>(new Object(), size);
+        }
+
+        @Override
+        public boolean canUndo() {
+            return m_undoData.isAvailable();
+        }
+
+        @Override
+        public EvictableUndoData<?> getUndoData() {
+            return m_undoData;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.actions.search;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.knime.workbench.editor2.actions.search.NodeSearchIndex.NO_MATCH;
+import static org.knime.workbench.editor2.actions.search.NodeSearchIndex.rank;
+import static org.knime.workbench.editor2.actions.search.NodeSearchIndex.rankId;
+
+import org.junit.Test;
+
+/**
+ * Tests the ranking of the {@link NodeSearchIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeSearchIndexTest {
+
+    private static int rankNode(final String name, final String annotation, final String id, final String query) {
+        final String searchText = (name + " " + annotation + " (" + id + ")").toLowerCase();
+        return rank(name.toLowerCase(), searchText, query);
+    }
+
+    /**
+     * Tests the order of the match categories.
+     */
+    @Test
+    public void testRankCategories() {
+        final int namePrefix = rankNode("Column Filter", "", "0:1", "col");
+        final int nameWord = rankNode("Table Column Renamer", "", "0:2", "col");
+        final int annotationWord = rankNode("Row Filter", "drop columns", "0:3", "col");
+        final int substring = rankNode("Protocol Reader", "", "0:4", "col");
+        final int fuzzy = rankNode("Cell Outlier", "", "0:5", "col");
+
+        assertThat(namePrefix, is(0));
+        assertThat(namePrefix, lessThan(nameWord));
+        assertThat(nameWord, lessThan(annotationWord));
+        assertThat(annotationWord, lessThan(substring));
+        assertThat(substring, lessThan(fuzzy));
+        assertThat(rankNode("Row Filter", "", "0:6", "col"), is(NO_MATCH));
+    }
+
+    /**
+     * Tests that fuzzy matches are ranked by their span, ignore whitespace in the query and need a minimum length.
+     */
+    @Test
+    public void testFuzzy() {
+        final int tight = rankNode("Group Loop Start", "", "0:1", "grplp");
+        final int loose = rankNode("Group by then do some other loop", "", "0:2", "grplp");
+        assertThat(tight, greaterThan(NO_MATCH));
+        assertThat(tight, lessThan(loose));
+
+        assertThat(rankNode("Column Filter", "", "0:1", "cl flt"), greaterThan(NO_MATCH));
+        assertThat(rankNode("Column Filter", "", "0:1", "cf"), is(NO_MATCH));
+    }
+
+    /**
+     * Tests ranking node ids.
+     */
+    @Test
+    public void testRankId() {
+        assertThat(rankId("0:12", "0:1"), is(0));
+        assertThat(rankId("0:7:12", "12"), lessThan(rankId("0:112", "12")));
+        assertThat(rankId("0:3", "12"), is(NO_MATCH));
+    }
+}
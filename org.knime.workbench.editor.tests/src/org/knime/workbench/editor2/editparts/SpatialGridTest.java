@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Tests {@link SpatialGrid} and benchmarks the per-frame work of dragging nodes with the grid versus a linear scan,
+ * as done by the editor tools before the workflow got a spatial index.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SpatialGridTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(SpatialGridTest.class);
+
+    private static final int NODE_SIZE = 60;
+
+    private static final int NODE_SPACING = 150;
+
+    private static final int DRAGGED_NODES = 20;
+
+    private static final int FRAMES = 200;
+
+    /**
+     * Tests adding, moving and removing items, including negative coordinates.
+     */
+    @Test
+    public void testPutQueryRemove() {
+        final SpatialGrid<String> grid = new SpatialGrid<>(100);
+        grid.put("a", new Rectangle(10, 10, 50, 50));
+        grid.put("b", new Rectangle(-250, -250, 20, 20));
+        grid.put("c", new Rectangle(10, 400, 20, 20), new Rectangle(400, 400, 20, 20));
+
+        assertThat(grid.size(), is(3));
+        assertThat(grid.query(new Rectangle(0, 0, 20, 20)), containsInAnyOrder("a"));
+        assertThat(grid.query(new Rectangle(-240, -240, 5, 5)), containsInAnyOrder("b"));
+        assertThat(grid.query(new Rectangle(405, 405, 5, 5)), containsInAnyOrder("c"));
+        // area between the two rectangles of "c" is not covered
+        assertThat(grid.query(new Rectangle(210, 410, 5, 5)), is(empty()));
+        assertThat(grid.query(new Rectangle(-1000, -1000, 2000, 2000)), containsInAnyOrder("a", "b", "c"));
+
+        grid.put("a", new Rectangle(800, 800, 10, 10));
+        assertThat(grid.query(new Rectangle(0, 0, 20, 20)), is(empty()));
+        assertThat(grid.query(new Rectangle(805, 805, 1, 1)), containsInAnyOrder("a"));
+
+        grid.remove("c");
+        assertThat(grid.contains("c"), is(false));
+        assertThat(grid.query(new Rectangle(405, 405, 5, 5)), is(empty()));
+        grid.clear();
+        assertThat(grid.size(), is(0));
+    }
+
+    /**
+     * Tests that items covering a huge area are still found.
+     */
+    @Test
+    public void testOversizedItem() {
+        final SpatialGrid<String> grid = new SpatialGrid<>(10);
+        grid.put("huge", new Rectangle(0, 0, 100000, 100000));
+        assertThat(grid.query(new Rectangle(50000, 50000, 1, 1)), hasItem("huge"));
+        grid.remove("huge");
+        assertThat(grid.query(new Rectangle(50000, 50000, 1, 1)), not(hasItem("huge")));
+    }
+
+    /**
+     * Tests that connection segment areas cover the control points of curved (backwards) connections.
+     */
+    @Test
+    public void testSegmentAreasCoverCurves() {
+        final PointList points = new PointList();
+        points.addPoint(500, 100);
+        points.addPoint(100, 300);
+        final Rectangle[] areas = WorkflowSpatialIndex.getSegmentAreas(points);
+        assertThat(areas.length, is(1));
+        // control points are placed 30% of the segment length outside of the end points
+        assertThat(areas[0].contains(new Point(500 + 130, 100)), is(true));
+        assertThat(areas[0].contains(new Point(100 - 130, 300)), is(true));
+    }
+
+    /**
+     * Simulates dragging a selection of nodes over workflows of increasing size. Each frame updates the bounds of the
+     * dragged nodes and their connections and looks up the drop target under the cursor, once with the grid and once
+     * with a linear scan. Results of both must be identical; the average frame times are logged.
+     */
+    @Test
+    public void benchmarkDragFrameTimes() {
+        for (int nodeCount : new int[]{500, 1000, 3000, 6000}) {
+            final Map<Integer, Rectangle> bounds = createWorkflow(nodeCount);
+            final SpatialGrid<Integer> grid = new SpatialGrid<>();
+            bounds.forEach((id, r) -> grid.put(id, r));
+
+            long gridNanos = 0;
+            long linearNanos = 0;
+            final int columns = (int)Math.ceil(Math.sqrt(nodeCount));
+            for (int frame = 0; frame < FRAMES; frame++) {
+                final Point cursor = new Point((frame * 37) % (columns * NODE_SPACING),
+                    (frame * 53) % (columns * NODE_SPACING));
+                moveDraggedNodes(bounds, frame);
+
+                long start = System.nanoTime();
+                for (int id = 0; id < DRAGGED_NODES; id++) {
+                    grid.put(id, bounds.get(id));
+                }
+                final Set<Integer> gridHits = new HashSet<>();
+                for (Integer id : grid.query(new Rectangle(cursor.x, cursor.y, 1, 1))) {
+                    if (bounds.get(id).contains(cursor)) {
+                        gridHits.add(id);
+                    }
+                }
+                gridNanos += System.nanoTime() - start;
+
+                start = System.nanoTime();
+                final Set<Integer> linearHits = new HashSet<>();
+                for (Map.Entry<Integer, Rectangle> e : bounds.entrySet()) {
+                    if (e.getValue().contains(cursor)) {
+                        linearHits.add(e.getKey());
+                    }
+                }
+                linearNanos += System.nanoTime() - start;
+
+                assertThat("Different hits in frame " + frame, gridHits, is(linearHits));
+            }
+            LOGGER.infoWithFormat("Drag frame time with %d nodes: grid %.1f us, linear scan %.1f us", nodeCount,
+                gridNanos / 1000.0 / FRAMES, linearNanos / 1000.0 / FRAMES);
+        }
+    }
+
+    /** Nodes on a square grid plus one connection (as a single segment) between horizontal neighbors. */
+    private static Map<Integer, Rectangle> createWorkflow(final int nodeCount) {
+        final Map<Integer, Rectangle> bounds = new HashMap<>();
+        final int columns = (int)Math.ceil(Math.sqrt(nodeCount));
+        final List<Rectangle> connections = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            final int x = (i % columns) * NODE_SPACING;
+            final int y = (i / columns) * NODE_SPACING;
+            bounds.put(i, new Rectangle(x, y, NODE_SIZE, NODE_SIZE));
+            if (i % columns != 0) {
+                connections.add(new Rectangle(x - NODE_SPACING + NODE_SIZE, y + NODE_SIZE / 2 - 5,
+                    NODE_SPACING - NODE_SIZE, 10));
+            }
+        }
+        int id = nodeCount;
+        for (Rectangle r : connections) {
+            bounds.put(id++, r);
+        }
+        return bounds;
+    }
+
+    private static void moveDraggedNodes(final Map<Integer, Rectangle> bounds, final int frame) {
+        for (int id = 0; id < DRAGGED_NODES; id++) {
+            bounds.get(id).translate(frame % 2 == 0 ? 7 : -3, frame % 3 == 0 ? 5 : -2);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.EditDomain;
+import org.eclipse.gef.GraphicalViewer;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeAnnotation;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.workbench.editor2.ConnectionSelectingScalableFreeformRootEditPart;
+import org.knime.workbench.editor2.WorkflowEditPartFactory;
+
+/**
+ * Tests the incremental reconciliation of the children of {@link WorkflowRootEditPart} with the workflow on bursts of
+ * added and removed nodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowRootEditPartTest {
+
+    private static final PortType[] NO_PORTS = new PortType[0];
+
+    private WorkflowManager m_wfm;
+
+    private Shell m_shell;
+
+    private GraphicalViewer m_viewer;
+
+    private WorkflowRootEditPart m_root;
+
+    /**
+     * Shows an empty workflow in an offscreen viewer.
+     */
+    @Before
+    public void setUp() {
+        m_wfm = WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        m_shell = new Shell(Display.getDefault());
+        m_viewer = new ScrollingGraphicalViewer();
+        m_viewer.createControl(m_shell);
+        m_viewer.setEditDomain(new EditDomain());
+        m_viewer.setRootEditPart(new ConnectionSelectingScalableFreeformRootEditPart());
+        m_viewer.setEditPartFactory(new WorkflowEditPartFactory());
+        m_viewer.setContents(WorkflowManagerWrapper.wrap(m_wfm));
+        m_root = (WorkflowRootEditPart)m_viewer.getContents();
+        // the workflow notifies its listeners asynchronously, the tests feed the events themselves to control the
+        // batches
+        m_root.getWorkflowManager().removeListener(m_root);
+    }
+
+    /**
+     * Disposes the viewer and closes the workflow.
+     */
+    @After
+    public void tearDown() {
+        if (m_shell != null) {
+            // deactivates all edit parts
+            m_shell.dispose();
+        }
+        if (m_wfm != null) {
+            WorkflowManager.ROOT.removeProject(m_wfm.getID());
+        }
+    }
+
+    /**
+     * Adds and removes nodes in bursts and checks that the children follow, in the z-order of the full refresh, and
+     * that the parts of unaffected nodes are kept.
+     */
+    @Test
+    public void testAddAndRemoveBursts() {
+        final NodeID a = addNode();
+        final NodeID b = addNode();
+        final NodeID c = addNode();
+        fire(WorkflowEvent.Type.NODE_ADDED, a, b, c);
+        m_root.processPendingWorkflowEvents();
+        assertChildren(a, b, c);
+        final NodeContainerEditPart partA = findNodePart(a);
+
+        m_wfm.removeNode(b);
+        final NodeID d = addNode();
+        final NodeID e = addNode();
+        fire(WorkflowEvent.Type.NODE_REMOVED, b);
+        fire(WorkflowEvent.Type.NODE_ADDED, d, e);
+        m_root.processPendingWorkflowEvents();
+        assertChildren(a, c, d, e);
+        assertThat("Part of unaffected node was replaced", findNodePart(a), is(sameInstance(partA)));
+
+        m_wfm.removeNode(a);
+        m_wfm.removeNode(e);
+        fire(WorkflowEvent.Type.NODE_REMOVED, e, a);
+        m_root.processPendingWorkflowEvents();
+        assertChildren(c, d);
+    }
+
+    /**
+     * A node that is added and removed again before the display thread gets to the events must not show up, neither
+     * must events for nodes that already have a part duplicate it.
+     */
+    @Test
+    public void testAddAndRemoveInOneBatch() {
+        final NodeID a = addNode();
+        fire(WorkflowEvent.Type.NODE_ADDED, a);
+        m_root.processPendingWorkflowEvents();
+
+        final NodeID b = addNode();
+        final NodeID c = addNode();
+        m_wfm.removeNode(b);
+        fire(WorkflowEvent.Type.NODE_ADDED, b, c);
+        fire(WorkflowEvent.Type.NODE_REMOVED, b);
+        m_root.processPendingWorkflowEvents();
+        assertChildren(a, c);
+
+        // the other way round: the node was removed and its removal only arrives after the (duplicate) addition
+        m_wfm.removeNode(c);
+        fire(WorkflowEvent.Type.NODE_ADDED, a, c);
+        fire(WorkflowEvent.Type.NODE_REMOVED, c);
+        m_root.processPendingWorkflowEvents();
+        assertChildren(a);
+    }
+
+    /**
+     * Bursts exceeding the incremental limit are handled by a full refresh, with the same result.
+     */
+    @Test
+    public void testLargeBurst() {
+        final NodeID[] ids = new NodeID[WorkflowRootEditPart.MAX_INCREMENTAL_EVENTS + 10];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = addNode();
+        }
+        fire(WorkflowEvent.Type.NODE_ADDED, ids);
+        m_root.processPendingWorkflowEvents();
+        assertChildren(ids);
+
+        final NodeID[] remaining = new NodeID[ids.length / 2];
+        final List<NodeID> removed = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (i % 2 == 0) {
+                remaining[i / 2] = ids[i];
+            } else {
+                m_wfm.removeNode(ids[i]);
+                removed.add(ids[i]);
+            }
+        }
+        fire(WorkflowEvent.Type.NODE_REMOVED, removed.toArray(new NodeID[0]));
+        m_root.processPendingWorkflowEvents();
+        assertChildren(remaining);
+    }
+
+    private NodeID addNode() {
+        return m_wfm.createAndAddSubWorkflow(NO_PORTS, NO_PORTS, "Metanode").getID();
+    }
+
+    private void fire(final WorkflowEvent.Type type, final NodeID... ids) {
+        for (NodeID id : ids) {
+            m_root.workflowChanged(new WorkflowEvent(type, id, null, null));
+        }
+    }
+
+    private NodeContainerEditPart findNodePart(final NodeID id) {
+        for (Object child : m_root.getChildren()) {
+            if (child instanceof NodeContainerEditPart
+                && ((NodeContainerEditPart)child).getNodeContainer().getID().equals(id)) {
+                return (NodeContainerEditPart)child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks that the children are the annotations of the given nodes followed by the nodes themselves, both in the
+     * given order, as created by the full refresh (see {@link WorkflowRootEditPart#getModelChildren()}).
+     */
+    private void assertChildren(final NodeID... ids) {
+        final List<String> expected = new ArrayList<>();
+        for (NodeID id : ids) {
+            expected.add("annotation " + id);
+        }
+        for (NodeID id : ids) {
+            expected.add("node " + id);
+        }
+        final List<String> actual = new ArrayList<>();
+        for (Object child : m_root.getChildren()) {
+            if (child instanceof NodeAnnotationEditPart) {
+                actual.add("annotation " + ((NodeAnnotation)((NodeAnnotationEditPart)child).getModel()).getNodeID());
+            } else if (child instanceof NodeContainerEditPart) {
+                actual.add("node " + ((NodeContainerEditPart)child).getNodeContainer().getID());
+            } else {
+                actual.add("unexpected " + child);
+            }
+        }
+        assertThat("Wrong children", actual, contains(expected.toArray(new String[0])));
+    }
+}
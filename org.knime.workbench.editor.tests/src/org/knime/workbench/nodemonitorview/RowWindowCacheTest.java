@@ -0,0 +1,250 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.nodemonitorview;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+
+/**
+ * Tests the row window and the iterator reuse of {@link RowWindowCache}. Chunks are loaded via
+ * {@link RowWindowCache#preload(long)}, i.e. in the test thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowWindowCacheTest {
+
+    private static final int CHUNK = RowWindowCache.CHUNK_SIZE;
+
+    private final List<String> m_loaded = new ArrayList<>();
+
+    private RowWindowCache m_cache;
+
+    /** Disposes the cache under test. */
+    @After
+    public void tearDown() {
+        if (m_cache != null) {
+            m_cache.dispose();
+        }
+    }
+
+    /**
+     * Preloaded rows are served from the window and reported to the listener; asking whether a row is loaded doesn't
+     * load it.
+     */
+    @Test
+    public void testPreloadAndGetRow() {
+        CountingTable table = new CountingTable(1000);
+        m_cache = newCache(table, 1000, 10);
+
+        assertThat(m_cache.isLoaded(5), is(false));
+        assertThat(table.m_nextCount, is(0));
+        m_cache.preload(5);
+        assertThat(m_loaded, contains("0-" + (CHUNK - 1)));
+        assertThat(m_cache.isLoaded(0), is(true));
+        assertThat(m_cache.isLoaded(CHUNK - 1), is(true));
+        assertThat(m_cache.isLoaded(CHUNK), is(false));
+        for (int i = 0; i < CHUNK; i++) {
+            assertThat(m_cache.getRow(i).getKey().getString(), is("Row" + i));
+        }
+        // already in the window, not read again
+        m_cache.preload(CHUNK - 1);
+        assertThat(table.m_nextCount, is(CHUNK));
+    }
+
+    /**
+     * Reading the chunks one after the other continues with the parked iterator instead of starting over.
+     */
+    @Test
+    public void testSequentialReadsContinueIterator() {
+        CountingTable table = new CountingTable(1000);
+        m_cache = newCache(table, 1000, 10);
+
+        m_cache.preload(0);
+        m_cache.preload(CHUNK);
+        m_cache.preload(2 * CHUNK);
+        assertThat(table.m_nextCount, is(3 * CHUNK));
+        assertThat(table.m_openCount, is(1));
+        assertThat(m_cache.getRow(2 * CHUNK + 1).getKey().getString(), is("Row" + (2 * CHUNK + 1)));
+    }
+
+    /**
+     * The window is bounded, the least recently used chunks are evicted (wide tables keep the minimum of two).
+     */
+    @Test
+    public void testEviction() {
+        CountingTable table = new CountingTable(1000);
+        // that many columns only leave room for the minimum number of chunks
+        m_cache = newCache(table, 1000, 100_000);
+
+        m_cache.preload(0);
+        m_cache.preload(CHUNK);
+        // chunk 0 is used more recently than chunk 1 now
+        assertThat(m_cache.getRow(0), is(notNullValue()));
+        m_cache.preload(2 * CHUNK);
+
+        assertThat(m_cache.getRow(2 * CHUNK), is(notNullValue()));
+        assertThat(m_cache.getRow(0), is(notNullValue()));
+        // evicted (the miss schedules it to be loaded again)
+        assertThat(m_cache.getRow(CHUNK), is(nullValue()));
+    }
+
+    /**
+     * A chunk far from any iterator position is read along with the chunks preceding it, such that scrolling up
+     * doesn't need a pass over the table for each chunk.
+     */
+    @Test
+    public void testFarChunkReadsPrecedingChunks() {
+        CountingTable table = new CountingTable(100 * CHUNK);
+        m_cache = newCache(table, 100 * CHUNK, 10);
+
+        m_cache.preload(40L * CHUNK);
+        assertThat(table.m_openCount, is(1));
+        assertThat(m_cache.getRow(40L * CHUNK).getKey().getString(), is("Row" + 40 * CHUNK));
+        assertThat(m_cache.getRow(30L * CHUNK).getKey().getString(), is("Row" + 30 * CHUNK));
+        assertThat(m_loaded.size(), is(1));
+
+        // nothing read again for the preceding chunks
+        final int nextCount = table.m_nextCount;
+        m_cache.preload(30L * CHUNK);
+        assertThat(table.m_nextCount, is(nextCount));
+    }
+
+    /**
+     * Rows the table doesn't deliver (e.g. because it is shorter than announced) are marked as unreadable.
+     */
+    @Test
+    public void testMissingRowsAreUnreadable() {
+        CountingTable table = new CountingTable(CHUNK + 10);
+        m_cache = newCache(table, CHUNK + 20, 10);
+
+        m_cache.preload(CHUNK);
+        assertThat(m_cache.getRow(CHUNK + 9).getKey().getString(), is("Row" + (CHUNK + 9)));
+        assertThat(m_cache.getRow(CHUNK + 10), is(sameInstance(RowWindowCache.UNREADABLE_ROW)));
+        assertThat(m_cache.getRow(CHUNK + 19), is(sameInstance(RowWindowCache.UNREADABLE_ROW)));
+    }
+
+    /**
+     * Parked iterators are closed on dispose.
+     */
+    @Test
+    public void testDisposeClosesIterators() {
+        CountingTable table = new CountingTable(1000);
+        m_cache = newCache(table, 1000, 10);
+
+        m_cache.preload(0);
+        assertThat(table.m_closeCount, is(0));
+        m_cache.dispose();
+        assertThat(table.m_closeCount, is(1));
+    }
+
+    private RowWindowCache newCache(final DataTable table, final long numRows, final int numColumns) {
+        return new RowWindowCache(table, numRows, numColumns,
+            (firstRow, lastRow) -> m_loaded.add(firstRow + "-" + lastRow));
+    }
+
+    /** A (non-buffered) table of the given number of rows, counting opened iterators and rows read. */
+    private static final class CountingTable implements DataTable {
+
+        private final long m_numRows;
+
+        private int m_openCount;
+
+        private int m_nextCount;
+
+        private int m_closeCount;
+
+        CountingTable(final long numRows) {
+            m_numRows = numRows;
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return new DataTableSpec();
+        }
+
+        @Override
+        public RowIterator iterator() {
+            m_openCount++;
+            return new CloseableRowIterator() {
+                private long m_index;
+
+                @Override
+                public boolean hasNext() {
+                    return m_index < m_numRows;
+                }
+
+                @Override
+                public DataRow next() {
+                    m_nextCount++;
+                    return new DefaultRow("Row" + m_index++);
+                }
+
+                @Override
+                public void close() {
+                    m_closeCount++;
+                }
+            };
+        }
+    }
+}
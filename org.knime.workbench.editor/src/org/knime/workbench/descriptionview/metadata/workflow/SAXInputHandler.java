@@ -48,12 +48,16 @@
  */
 package org.knime.workbench.descriptionview.metadata.workflow;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.knime.core.node.workflow.metadata.MetadataXML;
+import org.knime.workbench.descriptionview.metadata.workflow.WorkflowMetadataCache.Element;
+import org.knime.workbench.descriptionview.metadata.workflow.WorkflowMetadataCache.ParsedMetadata;
 import org.knime.workbench.ui.workflow.metadata.MetaInfoFile;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
@@ -84,6 +88,10 @@ public class SAXInputHandler extends DefaultHandler {
 
     private final MetadataModelFacilitator m_modelFacilitator = new MetadataModelFacilitator();
 
+    // the calls made on the model facilitator, recorded for the WorkflowMetadataCache
+    private Integer m_metadataVersion;
+    private final List<Element> m_elements = new ArrayList<>();
+
     @SuppressWarnings("unused")
     private String m_currentFormValue;
     private String m_currentLabelValue;
@@ -129,6 +137,7 @@ public void startElement(final String uri, final String localName, final String
             }
 
             m_modelFacilitator.setMetadataVersion(version);
+            m_metadataVersion = Integer.valueOf(version);
         }
     }
 
@@ -139,7 +148,10 @@ public void startElement(final String uri, final String localName, final String
     public void endElement(final String uri, final String localName, final String name)
             throws SAXException {
         if (localName.equals(MetadataXML.ATOM_ELEMENT)) {
-            m_modelFacilitator.processElement(m_currentLabelValue, m_currentTypeValue, m_elementContent.toString(),
+            final String content = m_elementContent.toString();
+            m_elements.add(new Element(m_currentLabelValue, m_currentTypeValue, content, m_currentElementIsReadOnly,
+                (m_currentOtherAttributes == null) ? null : new HashMap<>(m_currentOtherAttributes)));
+            m_modelFacilitator.processElement(m_currentLabelValue, m_currentTypeValue, content,
                 m_currentElementIsReadOnly, m_currentOtherAttributes);
 
             m_currentFormValue = null;
@@ -162,6 +174,13 @@ MetadataModelFacilitator getModelFacilitator() {
         return m_modelFacilitator;
     }
 
+    /**
+     * @return the parsed content, from which further model facilitators can be created without parsing again
+     */
+    ParsedMetadata getParsedMetadata() {
+        return new ParsedMetadata(m_metadataVersion, m_elements);
+    }
+
     private void populateOtherAttributeMap(final Attributes attributes) {
         m_currentOtherAttributes = new HashMap<>();
 
@@ -55,11 +55,12 @@
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
-
-import javax.xml.parsers.SAXParser;
-import javax.xml.parsers.SAXParserFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.resources.ResourcesPlugin;
@@ -80,6 +81,7 @@
 import org.knime.core.ui.wrapper.Wrapper;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.descriptionview.metadata.AbstractMetaView;
+import org.knime.workbench.descriptionview.metadata.workflow.WorkflowMetadataCache.ParsedMetadata;
 import org.knime.workbench.editor2.WorkflowEditor;
 import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileInfo;
@@ -108,14 +110,37 @@
 public class WorkflowMetaView extends AbstractMetaView {
     private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowMetaView.class);
 
+    /** Local explorer items are only resolved once the selection has rested for this long (in ms). */
+    private static final long SELECTION_DEBOUNCE_DELAY = 150;
+
+    private static final int MAX_KNOWN_LOCAL_ASSETS = 256;
+
 
     private File m_metadataFile;
+    private ParsedMetadata m_displayedMetadata;
+
+    /** Incremented on each selection; results of the load job for an outdated selection are dropped. */
+    private final AtomicLong m_selectionGeneration = new AtomicLong();
+    private final LocalAssetLoadJob m_loadJob = new LocalAssetLoadJob();
+
+    /** The local explorer items resolved so far, by mount id and path; lets us render a re-selection instantly. */
+    private final Map<String, LocalAsset> m_knownLocalAssets =
+        Collections.synchronizedMap(new LinkedHashMap<String, LocalAsset>(64, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, LocalAsset> eldest) {
+                return size() > MAX_KNOWN_LOCAL_ASSETS;
+            }
+        });
 
     /**
      * @param parent
      */
     public WorkflowMetaView(final Composite parent) {
         super(parent, EnumSet.of(HiddenSection.UPPER, HiddenSection.LOWER));
+
+        addDisposeListener(e -> m_loadJob.cancel());
     }
 
     /**
@@ -134,6 +159,8 @@ public WorkflowMetaView(final Composite parent) {
      */
     public void handleAsynchronousRemoteMetadataPopulation(final String author, final String legacyDescription,
         final Calendar creationDate, final boolean shouldShowCCBY40License) {
+        m_selectionGeneration.incrementAndGet();
+
         m_modelFacilitator = new MetadataModelFacilitator(author, legacyDescription, creationDate);
         m_modelFacilitator.parsingHasFinishedWithDefaultTitleName(m_currentAssetName);
         m_modelFacilitator.setModelObserver(this);
@@ -144,6 +171,7 @@ public void handleAsynchronousRemoteMetadataPopulation(final String author, fina
         }
 
         m_metadataFile = null;
+        m_displayedMetadata = null;
 
         m_waitingForAsynchronousMetadata.set(false);
         m_asynchronousMetadataFetchFailed
@@ -158,60 +186,63 @@ public void handleAsynchronousRemoteMetadataPopulation(final String author, fina
 
     /**
      * {@inheritDoc}
+     *
+     * Items of the local workspace are resolved and their metadata parsed by a background job, once the selection has
+     * rested for a moment; if the item has been displayed before, its last known metadata is displayed right away and
+     * only refreshed should the metadata file have changed since.
      */
     @Override
     public void selectionChanged(final IStructuredSelection selection) {
+        final long generation = m_selectionGeneration.incrementAndGet();
         final Object o = selection.getFirstElement();
-        final boolean knimeExplorerItem = (o instanceof ContentObject);
+
+        if (o instanceof ContentObject) {
+            final AbstractExplorerFileStore fs = ((ContentObject) o).getFileStore();
+            if (!fs.getContentProvider().isRemote()) {
+                final LocalAsset known = m_knownLocalAssets.get(fs.getMountIDWithFullPath());
+                if (known != null) {
+                    final ParsedMetadata cached = (known.m_metadataFile == null) ? null
+                                                        : WorkflowMetadataCache.getIfPresent(known.m_metadataFile);
+                    if ((known.m_metadataFile == null) || (cached != null)) {
+                        displayLocalAsset(known, cached);
+                    }
+                }
+
+                m_loadJob.load(fs, generation);
+
+                return;
+            }
+        }
 
         final File metadataFile;
         final boolean canEditMetadata;
 
-        m_waitingForAsynchronousMetadata.set(false);
-        m_asynchronousMetadataFetchFailed.set(false);
-        m_assetRepresentsATemplate.set(false);
-        m_assetRepresentsAJob.set(false);
-        m_shouldDisplayLicenseSection.set(!SHOW_LICENSE_ONLY_FOR_HUB);
-        m_assetIsReadable.set(true);
-        if (knimeExplorerItem) {
+        resetAssetState();
+        if (o instanceof ContentObject) {
             final AbstractExplorerFileStore fs = ((ContentObject) o).getFileStore();
             final AbstractExplorerFileInfo fileInfo = fs.fetchInfo();
-            if (!(fileInfo instanceof RemoteExplorerFileInfo) && !(fileInfo instanceof LocalWorkspaceFileInfo)) {
+            if (!(fileInfo instanceof RemoteExplorerFileInfo)) {
                 LOGGER.debug("Received unexpected file info type: " + fileInfo.getClass());
                 return;
             }
 
-            final boolean isWorkflow = AbstractExplorerFileStore.isWorkflow(fs);
-            final boolean isTemplate = AbstractExplorerFileStore.isWorkflowTemplate(fs);
-            final boolean isRemote = fs.getContentProvider().isRemote();
-            final boolean isJob = isRemote ? ((RemoteExplorerFileInfo)fileInfo).isWorkflowJob() : false;
-            final boolean isReadable = fs.fetchInfo().isReadable();
+            final boolean exists = fileInfo.exists();
+            final boolean isTemplate = exists && fileInfo.isWorkflowTemplate();
+            final boolean isJob = ((RemoteExplorerFileInfo)fileInfo).isWorkflowJob();
             final boolean validFS =
-                (isWorkflow || AbstractExplorerFileStore.isWorkflowGroup(fs) || isTemplate || isJob);
+                (exists && (fileInfo.isWorkflow() || fileInfo.isWorkflowGroup())) || isTemplate || isJob;
             if (!validFS) {
                 return;
             }
 
             m_currentAssetName = fs.getName();
-            if (isRemote || isTemplate || isJob) {
-                m_waitingForAsynchronousMetadata.set(isRemote && !isTemplate && !isJob);
-                m_assetRepresentsATemplate.set(isTemplate);
-                m_assetRepresentsAJob.set(isJob);
-                m_assetIsReadable.set(isReadable);
+            m_waitingForAsynchronousMetadata.set(!isTemplate && !isJob);
+            m_assetRepresentsATemplate.set(isTemplate);
+            m_assetRepresentsAJob.set(isJob);
+            m_assetIsReadable.set(fileInfo.isReadable());
 
-                metadataFile = null;
-                canEditMetadata = false;
-            } else {
-                final AbstractExplorerFileStore metaInfo = fs.getChild(WorkflowPersistor.METAINFO_FILE);
-                try {
-                    metadataFile = metaInfo.toLocalFile(EFS.NONE, null);
-                } catch (final CoreException ce) {
-                    LOGGER.error("Unable to convert EFS to local file.", ce);
-
-                    return;
-                }
-                canEditMetadata = true;
-            }
+            metadataFile = null;
+            canEditMetadata = false;
         } else {
             final WorkflowRootEditPart wrep = (WorkflowRootEditPart)o;
             final WorkflowManagerUI wmUI = wrep.getWorkflowManager();
@@ -239,27 +270,57 @@ public void selectionChanged(final IStructuredSelection selection) {
             }
         }
 
-        if ((m_metadataFile != null) && m_metadataFile.equals(metadataFile)) {
+        ParsedMetadata parsed = null;
+        if (metadataFile != null) {
+            try {
+                parsed = WorkflowMetadataCache.get(metadataFile);
+            } catch (Exception e) {
+                LOGGER.error("Failed to parse the workflow metadata file.", e);
+
+                return;
+            }
+        }
+
+        displayMetadata(metadataFile, parsed, canEditMetadata);
+    }
+
+    private void resetAssetState() {
+        m_waitingForAsynchronousMetadata.set(false);
+        m_asynchronousMetadataFetchFailed.set(false);
+        m_assetRepresentsATemplate.set(false);
+        m_assetRepresentsAJob.set(false);
+        m_shouldDisplayLicenseSection.set(!SHOW_LICENSE_ONLY_FOR_HUB);
+        m_assetIsReadable.set(true);
+    }
+
+    private void displayLocalAsset(final LocalAsset asset, final ParsedMetadata parsed) {
+        resetAssetState();
+
+        m_currentAssetName = asset.m_name;
+        if (asset.m_isTemplate) {
+            m_assetRepresentsATemplate.set(true);
+            m_assetIsReadable.set(asset.m_isReadable);
+        }
+
+        displayMetadata(asset.m_metadataFile, parsed, !asset.m_isTemplate);
+    }
+
+    private void displayMetadata(final File metadataFile, final ParsedMetadata parsed,
+        final boolean canEditMetadata) {
+        if ((m_metadataFile != null) && m_metadataFile.equals(metadataFile) && (m_displayedMetadata == parsed)) {
             return;
         }
 
         currentAssetNameHasChanged();
 
-        if ((metadataFile != null) && metadataFile.exists()) {
-            final SAXInputHandler handler = new SAXInputHandler();
+        if (parsed != null) {
             try {
-                final SAXParserFactory parserFactory = SAXParserFactory.newInstance();
-                parserFactory.setNamespaceAware(true);
-
-                final SAXParser parser = parserFactory.newSAXParser();
-                parser.parse(metadataFile, handler);
+                m_modelFacilitator = parsed.createModelFacilitator();
             } catch (Exception e) {
                 LOGGER.error("Failed to parse the workflow metadata file.", e);
 
                 return;
             }
-
-            m_modelFacilitator = handler.getModelFacilitator();
         } else {
             m_modelFacilitator = new MetadataModelFacilitator();
         }
@@ -272,6 +333,7 @@ public void selectionChanged(final IStructuredSelection selection) {
         }
 
         m_metadataFile = metadataFile;
+        m_displayedMetadata = parsed;
 
         getDisplay().asyncExec(() -> {
             if (!isDisposed()) {
@@ -311,4 +373,124 @@ public IStatus runInWorkspace(final IProgressMonitor monitor) throws CoreExcepti
             LOGGER.error("Failed to save metadata.", e);
         }
     }
+
+
+    /**
+     * What the description needs to know about an item of the local workspace; resolved by the load job as fetching
+     * the file info can be slow (e.g. for a workspace on a network share.)
+     */
+    private static final class LocalAsset {
+        private final String m_name;
+        private final boolean m_isTemplate;
+        private final boolean m_isReadable;
+        private final File m_metadataFile;
+
+        private LocalAsset(final String name, final boolean isTemplate, final boolean isReadable,
+            final File metadataFile) {
+            m_name = name;
+            m_isTemplate = isTemplate;
+            m_isReadable = isReadable;
+            m_metadataFile = metadataFile;
+        }
+
+        /**
+         * @return the resolved asset, or null if the item is no workflow, workflow group or template
+         */
+        private static LocalAsset resolve(final AbstractExplorerFileStore fs) {
+            // fetched once, each fetch may hit the file system
+            final AbstractExplorerFileInfo fileInfo = fs.fetchInfo();
+            if (!(fileInfo instanceof RemoteExplorerFileInfo) && !(fileInfo instanceof LocalWorkspaceFileInfo)) {
+                LOGGER.debug("Received unexpected file info type: " + fileInfo.getClass());
+                return null;
+            }
+
+            final boolean exists = fileInfo.exists();
+            final boolean isTemplate = exists && fileInfo.isWorkflowTemplate();
+            if (!isTemplate && !(exists && (fileInfo.isWorkflow() || fileInfo.isWorkflowGroup()))) {
+                return null;
+            }
+
+            File metadataFile = null;
+            if (!isTemplate) {
+                final AbstractExplorerFileStore metaInfo = fs.getChild(WorkflowPersistor.METAINFO_FILE);
+                try {
+                    metadataFile = metaInfo.toLocalFile(EFS.NONE, null);
+                } catch (final CoreException ce) {
+                    LOGGER.error("Unable to convert EFS to local file.", ce);
+
+                    return null;
+                }
+            }
+
+            return new LocalAsset(fs.getName(), isTemplate, fileInfo.isReadable(), metadataFile);
+        }
+    }
+
+
+    /**
+     * Resolves the selected local item and parses its metadata off the UI thread; a selection arriving while the job
+     * waits (or runs) replaces the pending one, so arrowing through the explorer only loads the item rested on.
+     */
+    private final class LocalAssetLoadJob extends Job {
+        private AbstractExplorerFileStore m_fileStore;
+        private long m_generation;
+
+        private LocalAssetLoadJob() {
+            super("Loading workflow metadata...");
+            setSystem(true);
+        }
+
+        private synchronized void load(final AbstractExplorerFileStore fileStore, final long generation) {
+            m_fileStore = fileStore;
+            m_generation = generation;
+
+            cancel();
+            schedule(SELECTION_DEBOUNCE_DELAY);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected IStatus run(final IProgressMonitor monitor) {
+            final AbstractExplorerFileStore fs;
+            final long generation;
+            synchronized (this) {
+                fs = m_fileStore;
+                generation = m_generation;
+            }
+            if ((fs == null) || (generation != m_selectionGeneration.get())) {
+                return Status.CANCEL_STATUS;
+            }
+
+            final LocalAsset asset = LocalAsset.resolve(fs);
+            if (asset == null) {
+                return Status.OK_STATUS;
+            }
+            m_knownLocalAssets.put(fs.getMountIDWithFullPath(), asset);
+
+            ParsedMetadata parsed = null;
+            if (asset.m_metadataFile != null) {
+                try {
+                    parsed = WorkflowMetadataCache.get(asset.m_metadataFile);
+                } catch (Exception e) {
+                    LOGGER.error("Failed to parse the workflow metadata file.", e);
+
+                    return Status.OK_STATUS;
+                }
+            }
+            if (monitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+
+            final ParsedMetadata metadata = parsed;
+            PlatformUI.getWorkbench().getDisplay().asyncExec(() -> {
+                if (!isDisposed() && (generation == m_selectionGeneration.get())) {
+                    displayLocalAsset(asset, metadata);
+                }
+            });
+
+            return Status.OK_STATUS;
+        }
+    }
 }
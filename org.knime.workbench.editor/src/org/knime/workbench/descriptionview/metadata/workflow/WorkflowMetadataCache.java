@@ -0,0 +1,233 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.descriptionview.metadata.workflow;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Caches the parsed content of workflow metadata files ({@code workflowset.meta}) by their path; an entry is only
+ * used while the file's modification time and size are unchanged. The cached content is immutable - each display gets
+ * its own {@link MetadataModelFacilitator} replayed from it, as the facilitator is edited in place by the view.
+ *
+ * The SAX parsers are pooled as creating a parser (and its factory) is the costly part of reading these small files.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowMetadataCache {
+    private static final int MAX_CACHED_FILES = 256;
+    private static final int MAX_POOLED_PARSERS = 4;
+
+    private static final Map<String, CacheEntry> CACHE =
+        Collections.synchronizedMap(new LinkedHashMap<String, CacheEntry>(64, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CacheEntry> eldest) {
+                return size() > MAX_CACHED_FILES;
+            }
+        });
+
+    private static final Queue<SAXParser> PARSER_POOL = new ConcurrentLinkedQueue<>();
+
+    private static SAXParserFactory parserFactory;
+
+    private WorkflowMetadataCache() { }
+
+    /**
+     * Returns the last parsed content of the file without touching the file system, hence without checking whether the
+     * file has changed since; meant to render something instantly while {@link #get(File)} runs in the background.
+     *
+     * @param metadataFile the metadata file
+     * @return the last parsed content, or null if the file has not been parsed yet
+     */
+    static ParsedMetadata getIfPresent(final File metadataFile) {
+        final CacheEntry entry = CACHE.get(metadataFile.getAbsolutePath());
+        return (entry == null) ? null : entry.m_metadata;
+    }
+
+    /**
+     * Returns the parsed content of the file, parsing it only if it is not cached or has changed since.
+     *
+     * @param metadataFile the metadata file
+     * @return the parsed content, or null if the file does not exist
+     * @throws IOException if the file cannot be read
+     * @throws SAXException if the file cannot be parsed
+     * @throws ParserConfigurationException if no parser can be created
+     */
+    static ParsedMetadata get(final File metadataFile) throws IOException, SAXException, ParserConfigurationException {
+        final String key = metadataFile.getAbsolutePath();
+        // lastModified() yields 0 if the file does not exist
+        final long lastModified = metadataFile.lastModified();
+        if ((lastModified == 0) && !metadataFile.exists()) {
+            CACHE.remove(key);
+            return null;
+        }
+        final long length = metadataFile.length();
+
+        final CacheEntry cached = CACHE.get(key);
+        if ((cached != null) && (cached.m_lastModified == lastModified) && (cached.m_length == length)) {
+            return cached.m_metadata;
+        }
+
+        final SAXInputHandler handler = new SAXInputHandler();
+        final SAXParser parser = borrowParser();
+        try {
+            parser.parse(metadataFile, handler);
+        } finally {
+            returnParser(parser);
+        }
+        final ParsedMetadata parsed = handler.getParsedMetadata();
+        CACHE.put(key, new CacheEntry(lastModified, length, parsed));
+        return parsed;
+    }
+
+    private static SAXParser borrowParser() throws ParserConfigurationException, SAXException {
+        final SAXParser pooled = PARSER_POOL.poll();
+        if (pooled != null) {
+            return pooled;
+        }
+        // factories are not thread-safe
+        synchronized (PARSER_POOL) {
+            if (parserFactory == null) {
+                parserFactory = SAXParserFactory.newInstance();
+                parserFactory.setNamespaceAware(true);
+            }
+            return parserFactory.newSAXParser();
+        }
+    }
+
+    private static void returnParser(final SAXParser parser) {
+        try {
+            parser.reset();
+        } catch (final UnsupportedOperationException e) {
+            // parsers not supporting a reset are not reused
+            return;
+        }
+        if (PARSER_POOL.size() < MAX_POOLED_PARSERS) {
+            PARSER_POOL.offer(parser);
+        }
+    }
+
+
+    private static final class CacheEntry {
+        private final long m_lastModified;
+        private final long m_length;
+        private final ParsedMetadata m_metadata;
+
+        private CacheEntry(final long lastModified, final long length, final ParsedMetadata metadata) {
+            m_lastModified = lastModified;
+            m_length = length;
+            m_metadata = metadata;
+        }
+    }
+
+
+    /**
+     * The immutable content of a parsed metadata file, i.e. the recorded calls the {@link SAXInputHandler} made on
+     * its model facilitator.
+     */
+    static final class ParsedMetadata {
+        private final Integer m_version;
+        private final List<Element> m_elements;
+
+        ParsedMetadata(final Integer version, final List<Element> elements) {
+            m_version = version;
+            m_elements = Collections.unmodifiableList(new ArrayList<>(elements));
+        }
+
+        /**
+         * @return a new model facilitator populated with the parsed content; the consumer should invoke
+         *         {@link MetadataModelFacilitator#parsingHasFinishedWithDefaultTitleName(String)} appropriately.
+         * @throws SAXException if an element is rejected by the facilitator (which does not happen for content having
+         *             been parsed by the {@link SAXInputHandler})
+         */
+        MetadataModelFacilitator createModelFacilitator() throws SAXException {
+            final MetadataModelFacilitator facilitator = new MetadataModelFacilitator();
+            if (m_version != null) {
+                facilitator.setMetadataVersion(m_version.intValue());
+            }
+            for (final Element element : m_elements) {
+                facilitator.processElement(element.m_label, element.m_type, element.m_value, element.m_readOnly,
+                    (element.m_otherAttributes == null) ? null : new LinkedHashMap<>(element.m_otherAttributes));
+            }
+            return facilitator;
+        }
+    }
+
+
+    static final class Element {
+        private final String m_label;
+        private final String m_type;
+        private final String m_value;
+        private final boolean m_readOnly;
+        private final Map<String, String> m_otherAttributes;
+
+        Element(final String label, final String type, final String value, final boolean readOnly,
+            final Map<String, String> otherAttributes) {
+            m_label = label;
+            m_type = type;
+            m_value = value;
+            m_readOnly = readOnly;
+            m_otherAttributes = otherAttributes;
+        }
+    }
+}
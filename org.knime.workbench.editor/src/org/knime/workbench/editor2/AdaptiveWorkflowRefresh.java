@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.knime.core.node.workflow.NodeStateChangeListener;
+import org.knime.core.node.workflow.NodeStateEvent;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.core.ui.node.workflow.async.AsyncWorkflowManagerUI;
+
+/**
+ * Refreshes a single {@link AsyncWorkflowManagerUI} and determines the delay until the next refresh from what has
+ * been observed.
+ *
+ * Whether a refresh actually brought in changes is derived from the workflow and node state events the workflow
+ * manager fires while updating itself - an unchanged snapshot doesn't fire any. Refreshes that brought in changes or
+ * that find the workflow executing reset the delay to the minimum interval, each idle refresh doubles it up to the
+ * maximum interval. Events that arrive in between two refreshes (e.g. caused by an edit operation or pushed by the
+ * workflow implementation) are reported to the activity callback such that the next refresh can be brought forward.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AdaptiveWorkflowRefresh {
+
+    private final AsyncWorkflowManagerUI m_wfm;
+
+    private final long m_minInterval;
+
+    private final long m_maxInterval;
+
+    private final Runnable m_activityCallback;
+
+    /** Whether any event has been received since the last refresh started. */
+    private final AtomicBoolean m_changed = new AtomicBoolean();
+
+    /** Whether a refresh is currently in progress, events fired meanwhile are the result of that refresh. */
+    private volatile boolean m_refreshing;
+
+    private long m_interval;
+
+    private final WorkflowListener m_workflowListener = this::workflowChanged;
+
+    private final NodeStateChangeListener m_stateListener = this::stateChanged;
+
+    /**
+     * Creates a new instance and registers the listeners on the given workflow manager.
+     *
+     * @param wfm the workflow manager to refresh
+     * @param minInterval the refresh interval (in ms) used while the workflow changes or executes
+     * @param maxInterval the refresh interval (in ms) the delay is backed off to while the workflow is idle, values
+     *            smaller than the minimum interval disable the backoff
+     * @param activityCallback called (on the thread firing the event) when a change is observed in between two
+     *            refreshes, can be <code>null</code>
+     */
+    AdaptiveWorkflowRefresh(final AsyncWorkflowManagerUI wfm, final long minInterval, final long maxInterval,
+        final Runnable activityCallback) {
+        m_wfm = wfm;
+        m_minInterval = minInterval;
+        m_maxInterval = Math.max(minInterval, maxInterval);
+        m_activityCallback = activityCallback;
+        m_interval = minInterval;
+        m_wfm.addListener(m_workflowListener);
+        m_wfm.addNodeStateChangeListener(m_stateListener);
+    }
+
+    /**
+     * Refreshes the workflow manager and adapts the refresh interval.
+     *
+     * @return the delay in ms until the next refresh should take place
+     * @throws Exception whatever {@link AsyncWorkflowManagerUI#refreshOrFail(boolean)} throws; the interval is reset
+     *             to the minimum in that case
+     */
+    synchronized long refresh() throws Exception {
+        m_changed.set(false);
+        m_refreshing = true;
+        try {
+            m_wfm.refreshOrFail(false);
+        } catch (Exception e) {
+            m_interval = m_minInterval;
+            throw e;
+        } finally {
+            m_refreshing = false;
+        }
+        if (m_changed.getAndSet(false) || m_wfm.getNodeContainerState().isExecutionInProgress()) {
+            m_interval = m_minInterval;
+        } else {
+            m_interval = Math.min(m_interval * 2, m_maxInterval);
+        }
+        return m_interval;
+    }
+
+    /**
+     * @return the delay in ms the last refresh has determined
+     */
+    synchronized long getInterval() {
+        return m_interval;
+    }
+
+    /**
+     * @return the refresh interval used while the workflow changes or executes
+     */
+    long getMinInterval() {
+        return m_minInterval;
+    }
+
+    /**
+     * Unregisters the listeners from the workflow manager.
+     */
+    void dispose() {
+        m_wfm.removeListener(m_workflowListener);
+        m_wfm.removeNodeStateChangeListener(m_stateListener);
+    }
+
+    private void workflowChanged(final WorkflowEvent event) {
+        if (event.getType() != WorkflowEvent.Type.WORKFLOW_DIRTY) {
+            onChange();
+        }
+    }
+
+    private void stateChanged(final NodeStateEvent event) {
+        onChange();
+    }
+
+    private void onChange() {
+        m_changed.set(true);
+        if (!m_refreshing && m_activityCallback != null) {
+            m_activityCallback.run();
+        }
+    }
+}
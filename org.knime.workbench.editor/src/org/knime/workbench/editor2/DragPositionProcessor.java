@@ -72,6 +72,7 @@
 import org.knime.workbench.editor2.editparts.ConnectionContainerEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowSpatialIndex;
 import org.knime.workbench.editor2.figures.ProgressPolylineConnection;
 
 /**
@@ -215,7 +216,7 @@ void processDragEventAtPoint(final Point p, final boolean shouldAffectMark,
             }
         }
 
-        if (ep == null) {
+        if ((ep == null) && mayHitTarget()) {
             ep = m_parentViewer.findObjectAt(m_lastPosition);
         }
 
@@ -408,6 +409,27 @@ org.eclipse.draw2d.geometry.Point getLastPosition() {
     // Only private functionality follows
     //
 
+    /**
+     * Consults the spatial index of the workflow to check whether any node, annotation or connection is under the
+     * last position; if not, the (linear) hit detection of the viewer can be skipped since it could only find the
+     * workflow background. Hits are still resolved by the viewer to respect figure z-order and child figures.
+     *
+     * @return false if there is definitely nothing to target at the last position
+     */
+    private boolean mayHitTarget() {
+        final EditPart contents = m_parentViewer.getContents();
+        if (!(contents instanceof WorkflowRootEditPart)) {
+            return true;
+        }
+        final WorkflowSpatialIndex index = ((WorkflowRootEditPart)contents).getSpatialIndex();
+        if (index.size() == 0) {
+            return true;
+        }
+        final org.eclipse.draw2d.geometry.Point p = m_lastPosition.getCopy();
+        ((WorkflowRootEditPart)contents).getContentPane().translateToRelative(p);
+        return !index.findAt(p).isEmpty();
+    }
+
     private void translateFigureLocation(final Rectangle bounds) {
         final Viewport vp = ((FigureCanvas)m_parentViewer.getControl()).getViewport();
         final org.eclipse.draw2d.geometry.Point location = vp.getViewLocation();
@@ -0,0 +1,229 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.commands.CommandStack;
+import org.eclipse.gef.commands.CommandStackEvent;
+import org.eclipse.gef.commands.CommandStackEventListener;
+import org.eclipse.gef.commands.CompoundCommand;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.util.IPropertyChangeListener;
+import org.eclipse.jface.util.PropertyChangeEvent;
+import org.knime.core.node.NodeLogger;
+import org.knime.workbench.editor2.commands.EvictableUndoData;
+import org.knime.workbench.editor2.commands.UndoDataHolder;
+import org.knime.workbench.ui.KNIMEUIPlugin;
+import org.knime.workbench.ui.preferences.PreferenceConstants;
+
+/**
+ * Keeps the undo data retained by the commands on an editor's command stack within the heap budget configured in
+ * {@link PreferenceConstants#P_EDITOR_UNDO_HISTORY_BUDGET_MB}. If exceeded, the undo data of the oldest commands is
+ * evicted (see {@link EvictableUndoData#release()}), except for the data of the most recent command which is always
+ * kept. The budget is opt-in; by default (0) nothing is evicted and the retained size is only tracked.
+ *
+ * GEF's {@link CommandStack} doesn't expose its stacks, the commands are therefore tracked via the stack events.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class UndoHistoryBudget implements CommandStackEventListener, IPropertyChangeListener {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(UndoHistoryBudget.class);
+
+    private final CommandStack m_commandStack;
+
+    private final IPreferenceStore m_preferenceStore;
+
+    /** The commands that can be undone, oldest first. */
+    private final LinkedList<Command> m_undoable = new LinkedList<>();
+
+    /** The commands that can be redone, most recently undone last. */
+    private final LinkedList<Command> m_redoable = new LinkedList<>();
+
+    private long m_budget;
+
+    private long m_retainedSize;
+
+    /**
+     * Creates a new budget and registers it on the given command stack.
+     *
+     * @param commandStack the editor's command stack
+     */
+    UndoHistoryBudget(final CommandStack commandStack) {
+        this(commandStack, KNIMEUIPlugin.getDefault().getPreferenceStore());
+    }
+
+    /**
+     * Creates a new budget reading its size from the given preference store and registers it on the given command
+     * stack.
+     *
+     * @param commandStack the editor's command stack
+     * @param preferenceStore the store holding {@link PreferenceConstants#P_EDITOR_UNDO_HISTORY_BUDGET_MB}
+     */
+    UndoHistoryBudget(final CommandStack commandStack, final IPreferenceStore preferenceStore) {
+        m_commandStack = commandStack;
+        m_preferenceStore = preferenceStore;
+        m_budget = readBudget();
+        m_preferenceStore.addPropertyChangeListener(this);
+        m_commandStack.addCommandStackEventListener(this);
+    }
+
+    private long readBudget() {
+        return m_preferenceStore.getInt(PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB) * 1024L * 1024L;
+    }
+
+    /**
+     * @return the estimated heap size in bytes of the undo data currently held in memory by the command stack
+     */
+    long getRetainedSize() {
+        return m_retainedSize;
+    }
+
+    /** Unregisters the listeners. */
+    void dispose() {
+        m_commandStack.removeCommandStackEventListener(this);
+        m_preferenceStore.removePropertyChangeListener(this);
+        m_undoable.clear();
+        m_redoable.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void propertyChange(final PropertyChangeEvent event) {
+        if (PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB.equals(event.getProperty())) {
+            m_budget = readBudget();
+            enforceBudget();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stackChanged(final CommandStackEvent event) {
+        if ((event.getDetail() & CommandStack.POST_MASK) == 0) {
+            return;
+        }
+        if (m_commandStack.getUndoCommand() == null && m_commandStack.getRedoCommand() == null) {
+            // flushed (or nothing has been done yet)
+            m_undoable.clear();
+            m_redoable.clear();
+        }
+        switch (event.getDetail()) {
+            case CommandStack.POST_EXECUTE:
+                if (m_commandStack.getUndoCommand() == event.getCommand()) {
+                    m_undoable.add(event.getCommand());
+                }
+                m_redoable.clear();
+                break;
+            case CommandStack.POST_UNDO:
+                if (!m_undoable.isEmpty()) {
+                    m_redoable.add(m_undoable.removeLast());
+                }
+                break;
+            case CommandStack.POST_REDO:
+                if (!m_redoable.isEmpty()) {
+                    m_undoable.add(m_redoable.removeLast());
+                }
+                break;
+            default:
+        }
+        enforceBudget();
+    }
+
+    private void enforceBudget() {
+        List<EvictableUndoData<?>> undoable = collectUndoData(m_undoable);
+        long retained = sum(undoable) + sum(collectUndoData(m_redoable));
+        long before = retained;
+        // evict the oldest first, but keep the data of the most recent command
+        for (int i = 0; m_budget > 0 && i < undoable.size() - 1 && retained > m_budget; i++) {
+            EvictableUndoData<?> data = undoable.get(i);
+            long size = data.getRetainedSize();
+            if (size > 0) {
+                data.release();
+                retained -= size;
+            }
+        }
+        m_retainedSize = retained;
+        if (before != retained) {
+            LOGGER.infoWithFormat("Undo history exceeded its budget of %d MB, the oldest steps can't be undone "
+                + "anymore (retained undo data reduced from %d KB to %d KB)", m_budget / (1024 * 1024), before / 1024,
+                retained / 1024);
+        } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugWithFormat("Undo history retains %d KB of undo data (%d commands)", retained / 1024,
+                m_undoable.size() + m_redoable.size());
+        }
+    }
+
+    private static long sum(final List<EvictableUndoData<?>> data) {
+        return data.stream().mapToLong(EvictableUndoData::getRetainedSize).sum();
+    }
+
+    private static List<EvictableUndoData<?>> collectUndoData(final List<Command> commands) {
+        List<EvictableUndoData<?>> result = new ArrayList<>();
+        for (Command command : commands) {
+            collectUndoData(command, result);
+        }
+        return result;
+    }
+
+    private static void collectUndoData(final Command command, final List<EvictableUndoData<?>> result) {
+        if (command instanceof UndoDataHolder) {
+            EvictableUndoData<?> data = ((UndoDataHolder)command).getUndoData();
+            if (data != null) {
+                result.add(data);
+            }
+        } else if (command instanceof CompoundCommand) {
+            for (Object child : ((CompoundCommand)command).getCommands()) {
+                collectUndoData((Command)child, result);
+            }
+        }
+    }
+}
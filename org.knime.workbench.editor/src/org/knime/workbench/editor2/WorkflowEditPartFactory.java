@@ -115,10 +115,16 @@ public final class WorkflowEditPartFactory implements EditPartFactory, IPartList
     private boolean m_isTop = true;
 
     /**
-     * Adds a part listener to activate the KNIME command context if the KNIME editor is visible.
+     * Adds a part listener to activate the KNIME command context if the KNIME editor is visible. No listener is added
+     * if there is no workbench window, e.g. for offscreen viewers used by the batch SVG export.
      */
     public WorkflowEditPartFactory() {
-        PlatformUI.getWorkbench().getActiveWorkbenchWindow().getPartService().addPartListener(this);
+        if (PlatformUI.isWorkbenchRunning()) {
+            final IWorkbenchWindow iww = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+            if (iww != null) {
+                iww.getPartService().addPartListener(this);
+            }
+        }
     }
 
     /**
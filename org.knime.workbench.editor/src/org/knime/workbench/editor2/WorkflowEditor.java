@@ -56,6 +56,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EventObject;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -247,6 +248,7 @@
 import org.knime.workbench.editor2.actions.SaveAsMetaNodeTemplateAction;
 import org.knime.workbench.editor2.actions.SaveAsSubNodeTemplateAction;
 import org.knime.workbench.editor2.actions.SelectLoopAction;
+import org.knime.workbench.editor2.actions.SelectionCapabilities;
 import org.knime.workbench.editor2.actions.SendAnnotationBackwardAction;
 import org.knime.workbench.editor2.actions.SendAnnotationToBackAction;
 import org.knime.workbench.editor2.actions.SetNodeDescriptionAction;
@@ -260,10 +262,12 @@
 import org.knime.workbench.editor2.actions.ZoomOutAlternateIncrementAction;
 import org.knime.workbench.editor2.actions.ZoomResetAction;
 import org.knime.workbench.editor2.actions.search.FindResults;
+import org.knime.workbench.editor2.actions.search.NodeSearchIndex;
 import org.knime.workbench.editor2.commands.CreateNewConnectedMetaNodeCommand;
 import org.knime.workbench.editor2.commands.CreateNewConnectedNodeCommand;
 import org.knime.workbench.editor2.commands.CreateNodeCommand;
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
+import org.knime.workbench.editor2.editparts.EditPartUpdateDispatcher;
 import org.knime.workbench.editor2.editparts.GUIWorkflowCipherPrompt;
 import org.knime.workbench.editor2.editparts.NodeAnnotationEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
@@ -271,7 +275,9 @@
 import org.knime.workbench.editor2.figures.ProgressPolylineConnection;
 import org.knime.workbench.editor2.figures.WorkflowFigure;
 import org.knime.workbench.editor2.menu.MRUFileMenuItem;
+import org.knime.workbench.editor2.svgexport.SVGExportException;
 import org.knime.workbench.editor2.svgexport.WorkflowSVGExport;
+import org.knime.workbench.editor2.svgexport.WorkflowSVGExport.SVGWriter;
 import org.knime.workbench.editor2.viewport.MessageAppearance;
 import org.knime.workbench.editor2.viewport.ViewportPinningGraphicalViewer;
 import org.knime.workbench.explorer.ExplorerMountTable;
@@ -316,6 +322,12 @@ public class WorkflowEditor extends GraphicalEditor implements
     /** The root clipboard name **/
     public static final String CLIPBOARD_ROOT_NAME = "clipboard";
 
+    /**
+     * Property of viewers that are not part of a workflow editor (e.g. offscreen viewers) holding the
+     * {@link EditorUIInformation} the edit parts are rendered with.
+     */
+    public static final String VIEWER_PROPERTY_EDITOR_SETTINGS = "org.knime.workbench.editor.EditorSettings";
+
     /**
      * The genesis of this flag is AP-5741.
      *
@@ -366,6 +378,9 @@ public class WorkflowEditor extends GraphicalEditor implements
 
     private EditorMouseWheelListener m_mouseWheelListener;
 
+    /** Coalesces UI updates of the edit parts triggered by workflow events, see {@link #createGraphicalViewer}. */
+    private EditPartUpdateDispatcher m_updateDispatcher;
+
     private ZoomComboContributionItem m_zoomComboBox;
     private ZoomInAlternateIncrementAction m_alternateZoomInAction;
     private ZoomOutAlternateIncrementAction m_alternateZoomOutAction;
@@ -415,6 +430,18 @@ public class WorkflowEditor extends GraphicalEditor implements
     /** The job for auto-saving. Reused for each save, init when first needed. */
     private AutoSaveJob m_autoSaveJob;
 
+    /** The job writing the workflow SVG snapshots on save. Reused for each save, init when first needed. */
+    private SVGSnapshotJob m_svgSnapshotJob;
+
+    /** Keeps the undo data of the command stack within the configured memory budget. */
+    private UndoHistoryBudget m_undoHistoryBudget;
+
+    /** The capabilities of the last selection the actions have been evaluated for, see #getSelectionCapabilities. */
+    private SelectionCapabilities m_selectionCapabilities;
+
+    /** The index searched by the find-node pop-over, created when first searched, see #getNodeSearchIndex. */
+    private NodeSearchIndex m_nodeSearchIndex;
+
     private final Semaphore m_workflowCanBeDeleted = new Semaphore(1);
 
     /**
@@ -530,6 +557,7 @@ public void init(final IEditorSite site, final IEditorInput input)
 
         // add this as a CommandStackListener
         getCommandStack().addCommandStackListener(this);
+        m_undoHistoryBudget = new UndoHistoryBudget(getCommandStack());
 
         m_connectionHighlighter = new ConnectionHighlighter(this);
 
@@ -648,6 +676,9 @@ public void dispose() {
         if (m_mouseWheelListener != null) {
             m_mouseWheelListener.dispose();
         }
+        if (m_updateDispatcher != null) {
+            m_updateDispatcher.dispose();
+        }
         if (m_nodeSupplantDragListener != null) {
             m_nodeSupplantDragListener.dispose();
         }
@@ -729,6 +760,14 @@ public void run() {
             });
         }
         getCommandStack().removeCommandStackListener(this);
+        if (m_undoHistoryBudget != null) {
+            m_undoHistoryBudget.dispose();
+            m_undoHistoryBudget = null;
+        }
+        if (m_nodeSearchIndex != null) {
+            m_nodeSearchIndex.dispose();
+            m_nodeSearchIndex = null;
+        }
         IPreferenceStore prefStore =
             KNIMEUIPlugin.getDefault().getPreferenceStore();
 
@@ -1030,6 +1069,10 @@ protected void createGraphicalViewer(final Composite parent) {
         // to be set by then
         loadProperties();
 
+        // edit parts post their (event triggered) UI updates to this dispatcher instead of Display#asyncExec
+        m_updateDispatcher = new EditPartUpdateDispatcher(parent.getDisplay());
+        viewer.setProperty(EditPartUpdateDispatcher.VIEWER_PROPERTY, m_updateDispatcher);
+
         // We already have the model - set it into the viewer; this action instantiates our WorkflowFigure
         viewer.setContents(m_manager);
         final WorkflowFigure workflowFigure = getWorkflowFigure();
@@ -1623,6 +1666,25 @@ public void updateActions() {
         updateActions(m_editorActions);
     }
 
+    /**
+     * Returns what can be done with the currently selected nodes. The snapshot is shared by all actions and only
+     * recomputed if the selection has changed or the workflow has changed in the meantime.
+     *
+     * @return the capabilities of the current selection
+     */
+    public SelectionCapabilities getSelectionCapabilities() {
+        final ISelectionProvider provider = getSite().getSelectionProvider();
+        final ISelection selection = provider == null ? null : provider.getSelection();
+        final List<?> selected = selection instanceof IStructuredSelection
+            ? ((IStructuredSelection)selection).toList() : Collections.emptyList();
+        SelectionCapabilities caps = m_selectionCapabilities;
+        if (caps == null || !caps.isValidFor(m_manager, selected)) {
+            caps = SelectionCapabilities.compute(m_manager, selected);
+            m_selectionCapabilities = caps;
+        }
+        return caps;
+    }
+
     /**
      * Returns the overview for the outline view.
      *
@@ -1955,13 +2017,14 @@ private void saveTo(final URI fileResource, final IProgressMonitor monitor, fina
 
             ps.run(true, false, saveRunnable);
             // this code is usually (always?) run in the UI thread but in case it's not we schedule in UI thread
-            // (SVG export always in UI thread)
+            // (SVG capture always in UI thread, the file is written in the background)
             final File svgFile = new File(workflowDir, WorkflowPersistor.SVG_WORKFLOW_FILE);
-            svgFile.delete();
             if (m_manager.isProject()) {
                 d.syncExec(() -> {
                     saveSVGImage(svgFile);
                 });
+            } else {
+                svgFile.delete();
             }
             // mark command stack (no undo beyond this point)
             getCommandStack().markSaveLocation();
@@ -2035,16 +2098,46 @@ private void saveTo(final URI fileResource, final IProgressMonitor monitor, fina
     private void saveSVGImage(final File svgFile) {
         // If SVGExporter available try to export
         WorkflowSVGExport svgExporter = KNIMEEditorPlugin.getDefault().getSvgExport();
-        if (svgExporter != null) {
-            try {
-                svgExporter.exportToSVG(this, svgFile);
-            } catch (Exception e) {
-                LOGGER.error("Could not save workflow SVG", e);
+        if (svgExporter == null || getViewer() == null) {
+            svgFile.delete();
+            return;
+        }
+        if (m_svgSnapshotJob == null) {
+            m_svgSnapshotJob = new SVGSnapshotJob();
+        }
+        final long fingerprint =
+            WorkflowSnapshotFingerprint.compute((WorkflowRootEditPart)getViewer().getRootEditPart().getContents());
+        if (m_svgSnapshotJob.isUpToDate(svgFile, fingerprint)) {
+            LOGGER.debug("Workflow unchanged since the last SVG snapshot, not saving it again");
+            return;
+        }
+        try {
+            final SVGWriter writer = svgExporter.captureSVG(this);
+            if (writer == null) {
+                svgFile.delete();
+            } else if (m_isClosing) {
+                // write it right away, the workbench might be about to shut down
+                m_svgSnapshotJob.write(writer, svgFile, fingerprint);
+            } else {
+                m_svgSnapshotJob.submit(writer, svgFile, fingerprint);
             }
+        } catch (Exception e) {
+            LOGGER.error("Could not save workflow SVG", e);
+            svgFile.delete();
         }
     }
 
 
+    /**
+     * Waits for the SVG snapshot of the last save to be written. Needs to be called before the workflow directory is
+     * uploaded or copied, otherwise the snapshot might be missing or outdated.
+     */
+    private void flushSVGSnapshot() {
+        if (m_svgSnapshotJob != null) {
+            m_svgSnapshotJob.flush();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void doSave(final IProgressMonitor monitor) {
@@ -2137,6 +2230,7 @@ public void doSaveAs() {
                 LOGGER.error("Unable to resolve current workflow location. Flow not uploaded!");
                 return;
             }
+            flushSVGSnapshot();
             try {
                 if (!m_workflowCanBeDeleted.tryAcquire()) {
                     throw new CoreException(new Status(IStatus.WARNING, ID,
@@ -2201,6 +2295,125 @@ public void doSaveAs() {
         notifySaveEventListeners();
     }
 
+    /**
+     * Writes the SVG snapshots captured on save to disk. Only the most recently submitted snapshot is written if
+     * several of them pile up while a write is in progress.
+     */
+    private static final class SVGSnapshotJob extends Job {
+
+        private SVGWriter m_pendingWriter;
+
+        private File m_pendingFile;
+
+        private long m_pendingFingerprint;
+
+        /** The file and fingerprint of the last snapshot submitted (and not failed), null if none. */
+        private File m_lastFile;
+
+        private long m_lastFingerprint;
+
+        SVGSnapshotJob() {
+            super("Saving workflow SVG");
+            setSystem(true);
+        }
+
+        /**
+         * @return whether the snapshot last submitted for the given file has the given fingerprint (and the file
+         *         still exists or is about to be written)
+         */
+        synchronized boolean isUpToDate(final File file, final long fingerprint) {
+            return file.equals(m_lastFile) && (fingerprint == m_lastFingerprint)
+                && ((m_pendingWriter != null) || file.isFile());
+        }
+
+        synchronized void submit(final SVGWriter writer, final File file, final long fingerprint) {
+            m_pendingWriter = writer;
+            m_pendingFile = file;
+            m_pendingFingerprint = fingerprint;
+            m_lastFile = file;
+            m_lastFingerprint = fingerprint;
+            schedule();
+        }
+
+        void write(final SVGWriter writer, final File file, final long fingerprint) throws SVGExportException {
+            synchronized (this) {
+                // supersedes whatever is pending
+                m_pendingWriter = null;
+                m_lastFile = file;
+                m_lastFingerprint = fingerprint;
+            }
+            try {
+                // let a write in progress finish first, it must not replace the newer snapshot
+                join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            try {
+                writer.write(file);
+            } catch (SVGExportException e) {
+                failed(file, fingerprint);
+                throw e;
+            }
+        }
+
+        /**
+         * Writes the pending snapshot, if any, in the calling thread and waits for a write in progress to finish,
+         * such that the file is complete and current when this method returns.
+         */
+        void flush() {
+            final SVGWriter writer;
+            final File file;
+            final long fingerprint;
+            synchronized (this) {
+                writer = m_pendingWriter;
+                file = m_pendingFile;
+                fingerprint = m_pendingFingerprint;
+                m_pendingWriter = null;
+            }
+            try {
+                join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (writer != null) {
+                try {
+                    writer.write(file);
+                } catch (Exception e) {
+                    failed(file, fingerprint);
+                    LOGGER.error("Could not save workflow SVG", e);
+                }
+            }
+        }
+
+        @Override
+        protected IStatus run(final IProgressMonitor monitor) {
+            final SVGWriter writer;
+            final File file;
+            final long fingerprint;
+            synchronized (this) {
+                writer = m_pendingWriter;
+                file = m_pendingFile;
+                fingerprint = m_pendingFingerprint;
+                m_pendingWriter = null;
+            }
+            if (writer != null) {
+                try {
+                    writer.write(file);
+                } catch (Exception e) {
+                    failed(file, fingerprint);
+                    LOGGER.error("Could not save workflow SVG", e);
+                }
+            }
+            return Status.OK_STATUS;
+        }
+
+        private synchronized void failed(final File file, final long fingerprint) {
+            if (file.equals(m_lastFile) && (fingerprint == m_lastFingerprint)) {
+                m_lastFile = null;
+            }
+        }
+    }
+
     private class AutoSaveJob extends Job {
 
         private final boolean m_isSavingWithData;
@@ -2913,6 +3126,21 @@ public void setSearchResults(final FindResults results) {
         }
     }
 
+    /**
+     * Returns the index the find-node pop-over searches. It is created when first asked for and from then on kept up
+     * to date with the workflow (including its metanodes and components) until the editor is disposed.
+     *
+     * @return the node search index of this editor
+     * @throws IllegalStateException if this editor does not show a local workflow
+     */
+    public NodeSearchIndex getNodeSearchIndex() {
+        if (m_nodeSearchIndex == null) {
+            m_nodeSearchIndex = new NodeSearchIndex(getWorkflowManager()
+                .orElseThrow(() -> new IllegalStateException("Nodes can only be searched in local workflows.")));
+        }
+        return m_nodeSearchIndex;
+    }
+
     /**
      * @return true if there are search results
      */
@@ -3466,19 +3694,15 @@ public static boolean getActiveEditorSnapToGrid() {
      * @see #getClosestGridLocation(Point)
      */
     public static Point getActiveEditorClosestGridLocation(final Point loc) {
-        IWorkbenchWindow activeWorkbenchWindow = Workbench.getInstance().getActiveWorkbenchWindow();
-        if (activeWorkbenchWindow == null) {
-            return loc;
-        }
-        IWorkbenchPage activePage = activeWorkbenchWindow.getActivePage();
-        if (activePage == null) {
-            return loc;
-        }
-        IEditorPart activeEditor = activePage.getActiveEditor();
-        if (activeEditor instanceof WorkflowEditor) {
-            return ((WorkflowEditor)activeEditor).getClosestGridLocation(loc);
-        }
-        return loc;
+        // there is no workbench when workflows are rendered headless
+        @SuppressWarnings("restriction")
+        final Optional<Point> gridLocation = Optional.ofNullable(Workbench.getInstance())//
+            .map(b -> b.getActiveWorkbenchWindow())//
+            .map(w -> w.getActivePage())//
+            .map(p -> p.getActiveEditor())//
+            .filter(e -> e instanceof WorkflowEditor)//
+            .map(e -> ((WorkflowEditor)e).getClosestGridLocation(loc));
+        return gridLocation.orElse(loc);
     }
 
     /**
@@ -3566,6 +3790,7 @@ public static int getActiveEditorGridXOffset(final int xOffset) {
     @Override
     public void workflowChanged(final WorkflowEvent event) {
         LOGGER.debug("Workflow event triggered: " + event.toString());
+        SelectionCapabilities.invalidate(m_manager);
         SyncExecQueueDispatcher.asyncExec(() -> {
             if (WorkflowEditor.this.isClosed()) {
                 return;
@@ -3843,6 +4068,7 @@ public WorkflowSelectionTool getSelectionTool() {
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
+        SelectionCapabilities.invalidate(m_manager);
         if (!isComponentProjectWFM()) {
             //in case of component, execution states changes are not saved
             markDirty();
@@ -3995,6 +4221,7 @@ protected Control createCustomArea(final Composite parent) {
             LOGGER.error("Unable to resolve current workflow location. Workflow not uploaded!");
             return false;
         }
+        flushSVGSnapshot();
         try {
             if (!m_workflowCanBeDeleted.tryAcquire()) {
                 throw new CoreException(new Status(IStatus.WARNING, ID,
@@ -81,9 +81,24 @@ class WorkflowEditorRefresher {
     /** A timer thread the connected timer tasks are submitted to. */
     private static Timer CONNECTED_TIMER = null;
 
-    /** If non-null, a currently scheduled task that periodically refreshes the WorkflowManagerUI **/
+    /** Upper bound of the refresh interval while idle, as a multiple of the configured auto-refresh interval. */
+    private static final int MAX_BACKOFF_FACTOR = 16;
+
+    /**
+     * If non-null, the currently scheduled one-shot task that refreshes the WorkflowManagerUI and schedules its
+     * successor.
+     **/
     private TimerTask m_refreshTimerTask = null;
 
+    /** Adapts the refresh interval to the changes observed, non-null while the refresh is running. */
+    private AdaptiveWorkflowRefresh m_adaptiveRefresh = null;
+
+    /** The time (in ms since the epoch) the currently scheduled refresh will take place. */
+    private long m_nextRefreshTime;
+
+    /** Whether the last refresh succeeded, used to log a failure only once. */
+    private volatile boolean m_lastRefreshSuccessful = true;
+
     /**
      * If non-null, it periodically checks whether the workflow has been refreshed within a specified time interval.
      * Otherwise the workflow (and workflow editor) is considered as disconnected.
@@ -224,7 +239,7 @@ void setup() {
     /**
      * Tries to start the refresh timer if enabled, not already running etc.
      */
-    private void tryStartingRefreshTimer(final int delay) {
+    private synchronized void tryStartingRefreshTimer(final int delay) {
         if (m_editor.getWorkflowManagerUI() != null && m_editor.getWorkflowManagerUI() instanceof AsyncWorkflowManagerUI
             && m_refreshTimerTask == null && m_isAutoRefreshEnabled) {
             synchronized (WorkflowEditor.class) {
@@ -232,53 +247,11 @@ private void tryStartingRefreshTimer(final int delay) {
                     REFRESH_TIMER = new Timer("Workflow Refresh Timer", true);
                 }
             }
-            m_refreshTimerTask = new TimerTask() {
-                private boolean lastRefreshSuccessful = true;
-                @Override
-                public void run() {
-                    AsyncWorkflowManagerUI asyncWFM = getAsyncWFM().orElse(null);
-                    if (asyncWFM == null) {
-                        return;
-                    }
-                    try {
-                        asyncWFM.refreshOrFail(false);
-                        m_hasBeenRefreshed.set(true);
-                        lastRefreshSuccessful = true;
-                    } catch (SnapshotNotFoundException e) {
-                        //refresh not possible because, e.g., underlying job has been swapped to disk
-                        cancelTimers();
-                        String message = "The job has been swapped to disk or wasn't accessed for a while."
-                            + "Try re-opening the job-workflow.";
-                        if (getDisconnectedMessage().map(m -> !m.equals(message)).orElse(true)) {
-                            Display.getDefault().syncExec(() -> MessageDialog.openWarning(SWTUtilities.getActiveShell(),
-                                "Auto-refresh failed", message));
-                        }
-                        disconnect(true, message);
-                    } catch (NoSuchElementException e) {
-                        //job-workflow is not available anymore
-                        //job has mostly likely been deleted on the server
-                        String message = "The job has been discarded.";
-                        cancelTimers();
-                        if (getDisconnectedMessage().map(m -> !m.equals(message)).orElse(true)) {
-                            Display.getDefault().syncExec(() -> MessageDialog.openWarning(SWTUtilities.getActiveShell(),
-                                "Auto-refresh failed", message));
-                        }
-                        disconnect(true, message);
-                    } catch (Exception e) {
-                        //if something went wrong refreshing the workflow (e.g. timeout)
-                        //-> just log it, continue refreshing and hope for the best
-                        //(but don't let it kill the REFRESH_TIMER)
-                        if (lastRefreshSuccessful) {
-                            //issue a log-warning once if the workflow has been refreshed in the last cycle
-                            LOGGER.warn("Refreshing workflow failed: " + e.getMessage(), e);
-                        }
-                        lastRefreshSuccessful = false;
-                   }
-                }
-            };
-            REFRESH_TIMER.schedule(m_refreshTimerTask, delay, m_autoRefreshInterval);
+            m_adaptiveRefresh = new AdaptiveWorkflowRefresh((AsyncWorkflowManagerUI)m_editor.getWorkflowManagerUI(),
+                m_autoRefreshInterval, getMaxRefreshInterval(), this::refreshSoon);
+            scheduleRefresh(delay);
             LOGGER.debug("Workflow refresh timer scheduled for workflow '" + m_editor.getTitle() + "' every "
-                + m_autoRefreshInterval + " ms");
+                + m_autoRefreshInterval + " to " + getMaxRefreshInterval() + " ms");
 
             //start timer that checks whether the workflow has been refreshed within a certain time interval
             //otherwise the workflow and workflow editor is regarded as disconnected
@@ -321,6 +294,42 @@ public void run() {
         }
     }
 
+    /**
+     * Schedules the next (one-shot) refresh of the workflow unless the refresh has been canceled in the meantime.
+     */
+    private synchronized void scheduleRefresh(final long delay) {
+        if (m_adaptiveRefresh == null) {
+            return;
+        }
+        m_refreshTimerTask = new RefreshTimerTask(m_adaptiveRefresh);
+        m_nextRefreshTime = System.currentTimeMillis() + delay;
+        REFRESH_TIMER.schedule(m_refreshTimerTask, delay);
+    }
+
+    /**
+     * Brings the next refresh forward to the minimum interval, called if a change has been observed in between two
+     * refreshes.
+     */
+    private synchronized void refreshSoon() {
+        if (m_adaptiveRefresh != null && m_refreshTimerTask != null
+            && m_nextRefreshTime - System.currentTimeMillis() > m_adaptiveRefresh.getMinInterval()) {
+            m_refreshTimerTask.cancel();
+            scheduleRefresh(m_adaptiveRefresh.getMinInterval());
+        }
+    }
+
+    /**
+     * @return the interval (in ms) the refresh backs off to while the workflow is idle
+     */
+    private long getMaxRefreshInterval() {
+        long max = m_autoRefreshInterval * MAX_BACKOFF_FACTOR;
+        if (!isWorkflowEditDisabled()) {
+            //the connection test expects at least one refresh per connection timeout
+            max = Math.min(max, KNIMEConstants.WORKFLOW_EDITOR_CONNECTION_TIMEOUT / 2);
+        }
+        return max;
+    }
+
     /**
      * Whether the auto-refresh is enabled.
      *
@@ -390,7 +399,11 @@ private void connect(final boolean callback) {
         }
     }
 
-    private boolean cancelTimers() {
+    private synchronized boolean cancelTimers() {
+        if (m_adaptiveRefresh != null) {
+            m_adaptiveRefresh.dispose();
+            m_adaptiveRefresh = null;
+        }
         if (m_refreshTimerTask != null) {
             m_refreshTimerTask.cancel();
             m_refreshTimerTask = null;
@@ -416,4 +429,66 @@ private Optional<AsyncWorkflowManagerUI> getAsyncWFM() {
         }
     }
 
+    /**
+     * Refreshes the workflow once and schedules the next refresh with the delay determined by the
+     * {@link AdaptiveWorkflowRefresh}.
+     */
+    private final class RefreshTimerTask extends TimerTask {
+
+        private final AdaptiveWorkflowRefresh m_refresh;
+
+        RefreshTimerTask(final AdaptiveWorkflowRefresh refresh) {
+            m_refresh = refresh;
+        }
+
+        @Override
+        public void run() {
+            long nextDelay = m_refresh.getMinInterval();
+            if (getAsyncWFM().isPresent()) {
+                try {
+                    nextDelay = m_refresh.refresh();
+                    m_hasBeenRefreshed.set(true);
+                    m_lastRefreshSuccessful = true;
+                } catch (SnapshotNotFoundException e) {
+                    //refresh not possible because, e.g., underlying job has been swapped to disk
+                    cancelTimers();
+                    String message = "The job has been swapped to disk or wasn't accessed for a while."
+                        + "Try re-opening the job-workflow.";
+                    if (getDisconnectedMessage().map(m -> !m.equals(message)).orElse(true)) {
+                        Display.getDefault().syncExec(() -> MessageDialog.openWarning(SWTUtilities.getActiveShell(),
+                            "Auto-refresh failed", message));
+                    }
+                    disconnect(true, message);
+                    return;
+                } catch (NoSuchElementException e) {
+                    //job-workflow is not available anymore
+                    //job has mostly likely been deleted on the server
+                    String message = "The job has been discarded.";
+                    cancelTimers();
+                    if (getDisconnectedMessage().map(m -> !m.equals(message)).orElse(true)) {
+                        Display.getDefault().syncExec(() -> MessageDialog.openWarning(SWTUtilities.getActiveShell(),
+                            "Auto-refresh failed", message));
+                    }
+                    disconnect(true, message);
+                    return;
+                } catch (Exception e) {
+                    //if something went wrong refreshing the workflow (e.g. timeout)
+                    //-> just log it, continue refreshing and hope for the best
+                    //(but don't let it kill the REFRESH_TIMER)
+                    if (m_lastRefreshSuccessful) {
+                        //issue a log-warning once if the workflow has been refreshed in the last cycle
+                        LOGGER.warn("Refreshing workflow failed: " + e.getMessage(), e);
+                    }
+                    m_lastRefreshSuccessful = false;
+                }
+            }
+            synchronized (WorkflowEditorRefresher.this) {
+                //only re-schedule if not canceled or replaced by an earlier refresh in the meantime
+                if (m_refreshTimerTask == this) {
+                    scheduleRefresh(nextDelay);
+                }
+            }
+        }
+    }
+
 }
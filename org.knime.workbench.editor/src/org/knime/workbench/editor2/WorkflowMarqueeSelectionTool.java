@@ -43,6 +43,8 @@
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
 import org.knime.workbench.editor2.editparts.ConnectionContainerEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowSpatialIndex;
 import org.knime.workbench.editor2.figures.WorkflowAnnotationFigure;
 
 /**
@@ -208,7 +210,7 @@ private void calculateConnections(final Collection<GraphicalEditPart> newSelecti
     private void calculateNewSelection(final Collection<GraphicalEditPart> newSelections,
             final Collection<GraphicalEditPart> deselections) {
         Rectangle marqueeRect = getMarqueeSelectionRectangle();
-        for (Iterator<GraphicalEditPart> itr = getAllChildren().iterator(); itr.hasNext();) {
+        for (Iterator<GraphicalEditPart> itr = getCandidateChildren(marqueeRect).iterator(); itr.hasNext();) {
             GraphicalEditPart child = itr.next();
             IFigure figure = child.getFigure();
             if (!child.isSelectable()
@@ -273,12 +275,7 @@ private void calculateNewSelection(final Collection<GraphicalEditPart> newSelect
     }
 
     private boolean wasSelected(final EditPart part) {
-        for (Object o : alreadySelectedEditParts) {
-            if (o == part) {
-                return true;
-            }
-        }
-        return false;
+        return alreadySelectedEditParts.contains(part);
     }
 
     private Request createTargetRequest() {
@@ -315,6 +312,35 @@ private void eraseTargetFeedback() {
         }
     }
 
+    /**
+     * Returns the children that may be affected by the marquee. Outside of toggle mode (where children outside of
+     * the marquee are affected as well) these are queried from the workflow's spatial index, so only the parts
+     * close to the marquee need to be tested.
+     */
+    private Collection<GraphicalEditPart> getCandidateChildren(final Rectangle marqueeRect) {
+        EditPart contents = getCurrentViewer().getContents();
+        WorkflowSpatialIndex index = null;
+        if (!isToggle() && (contents instanceof WorkflowRootEditPart)) {
+            index = ((WorkflowRootEditPart)contents).getSpatialIndex();
+        }
+        if (index == null || index.size() == 0) {
+            return getAllChildren();
+        }
+        Rectangle relMarqueeRect = marqueeRect.getCopy();
+        ((GraphicalEditPart)contents).getContentPane().translateToRelative(relMarqueeRect);
+        boolean nodes = marqueeBehavior == BEHAVIOR_NODES_CONTAINED
+                || marqueeBehavior == BEHAVIOR_NODES_AND_CONNECTIONS_TOUCHED;
+        boolean connections = marqueeBehavior == BEHAVIOR_CONNECTIONS_TOUCHED
+                || marqueeBehavior == BEHAVIOR_NODES_AND_CONNECTIONS_TOUCHED;
+        List<GraphicalEditPart> candidates = new ArrayList<GraphicalEditPart>();
+        for (GraphicalEditPart part : index.findIntersecting(relMarqueeRect)) {
+            if (part instanceof ConnectionEditPart ? connections : nodes) {
+                candidates.add(part);
+            }
+        }
+        return candidates;
+    }
+
     private Set<GraphicalEditPart> getAllChildren() {
         if (allChildren.isEmpty()) {
             getAllChildren(getCurrentViewer().getRootEditPart(), allChildren);
@@ -399,7 +425,7 @@ protected boolean handleButtonDown(final int button) {
                 setSelectionMode(DEFAULT_MODE);
             }
         }
-        alreadySelectedEditParts = new ArrayList<GraphicalEditPart>();
+        alreadySelectedEditParts = new HashSet<GraphicalEditPart>();
         alreadySelectedEditParts.addAll(getCurrentViewer()
                 .getSelectedEditParts());
         return true;
@@ -424,19 +450,14 @@ boolean nodesAndConnectionsEqual(final Collection<GraphicalEditPart> c1, final C
         if (c1.size() != c2.size()) {
             return false;
         }
+        Set<GraphicalEditPart> c2Set = new HashSet<GraphicalEditPart>(c2);
         for (EditPart o : c1) {
             // only node and connection container parts are relevant
             if ((o instanceof NodeContainerEditPart)
                     || (o instanceof ConnectionContainerEditPart)
                     || (o instanceof AbstractWorkflowPortBarEditPart)) {
                 // now check if o is also in c2
-                boolean found = false;
-                for (EditPart o2 : c2) {
-                    if (o2.equals(o)) {
-                        found = true;
-                    }
-                }
-                if (!found) {
+                if (!c2Set.contains(o)) {
                     // the second list does not contain the object
                     return false;
                 }
@@ -467,8 +488,8 @@ protected boolean handleDragInProgress() {
             if (isToggle() && deselectedEditParts != null) {
                 previousDeselection.addAll(deselectedEditParts);
             }
-            selectedEditParts = new ArrayList<GraphicalEditPart>();
-            deselectedEditParts = new ArrayList<GraphicalEditPart>();
+            selectedEditParts = new LinkedHashSet<GraphicalEditPart>();
+            deselectedEditParts = new LinkedHashSet<GraphicalEditPart>();
             calculateNewSelection(selectedEditParts, deselectedEditParts);
             showTargetFeedback();
             if (!nodesAndConnectionsEqual(previousSelection, selectedEditParts)
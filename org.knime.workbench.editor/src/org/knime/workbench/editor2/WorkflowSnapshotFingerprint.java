@@ -0,0 +1,208 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2;
+
+import java.util.Objects;
+
+import org.eclipse.draw2d.Polyline;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.GraphicalEditPart;
+import org.knime.core.node.NodeMessage;
+import org.knime.core.node.workflow.Annotation;
+import org.knime.core.node.workflow.AnnotationData.StyleRange;
+import org.knime.core.node.workflow.MetaNodeTemplateInformation;
+import org.knime.core.node.workflow.NodeContainer.NodeLocks;
+import org.knime.core.node.workflow.NodeContainerTemplate;
+import org.knime.core.node.workflow.NodeExecutionJobManager;
+import org.knime.core.ui.node.workflow.NodeContainerUI;
+import org.knime.core.ui.node.workflow.SubNodeContainerUI;
+import org.knime.core.ui.node.workflow.WorkflowManagerUI;
+import org.knime.core.ui.wrapper.Wrapper;
+import org.knime.workbench.editor2.editparts.AnnotationEditPart;
+import org.knime.workbench.editor2.editparts.ConnectionContainerEditPart;
+import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
+
+/**
+ * Computes a hash over everything that shows in the workflow SVG snapshot, i.e. the layout of the nodes, port bars,
+ * annotations and connections, the annotation texts, the node names, states and messages, and the node decorations
+ * (job manager, lock and link icons). Used to skip the snapshot
+ * generation on save if nothing visible has changed since the last one.
+ *
+ * Must be called in the UI thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowSnapshotFingerprint {
+
+    private long m_hash = 17;
+
+    private WorkflowSnapshotFingerprint() {
+    }
+
+    /**
+     * @param root the root edit part of the workflow
+     * @return the fingerprint of the current visual state of the workflow
+     */
+    static long compute(final WorkflowRootEditPart root) {
+        WorkflowSnapshotFingerprint fp = new WorkflowSnapshotFingerprint();
+        fp.add(root.getFigure().getBounds());
+        for (Object child : root.getChildren()) {
+            fp.add((EditPart)child);
+        }
+        return fp.m_hash;
+    }
+
+    private void add(final EditPart part) {
+        add(part.getClass().getName());
+        if (part instanceof GraphicalEditPart) {
+            add(((GraphicalEditPart)part).getFigure().getBounds());
+        }
+        if (part instanceof NodeContainerEditPart) {
+            NodeContainerUI nc = ((NodeContainerEditPart)part).getNodeContainer();
+            add(nc.getID());
+            add(nc.getNodeContainerState());
+            NodeMessage message = nc.getNodeMessage();
+            if (message != null) {
+                add(message.getMessageType());
+                add(message.getMessage());
+            }
+            addDecorations(nc);
+            // the same connections as painted into the snapshot
+            for (ConnectionContainerEditPart connection : ((NodeContainerEditPart)part).getAllConnections()) {
+                add(connection);
+            }
+        } else if (part instanceof AnnotationEditPart) {
+            add(((AnnotationEditPart)part).getModel());
+        } else if (part instanceof ConnectionContainerEditPart) {
+            ConnectionContainerEditPart connection = (ConnectionContainerEditPart)part;
+            add(connection.getModel().getSource());
+            add(connection.getModel().getDest());
+            if (connection.getFigure() instanceof Polyline) {
+                add(((Polyline)connection.getFigure()).getPoints());
+            }
+        }
+    }
+
+    /** The node label and the icons the node figure decorates the node with (see NodeContainerEditPart). */
+    private void addDecorations(final NodeContainerUI nc) {
+        add(nc.getName());
+        add(nc.getNrInPorts());
+        add(nc.getNrOutPorts());
+        NodeExecutionJobManager jobManager = nc.getJobManager();
+        add(jobManager == null ? null : jobManager.getID());
+        NodeExecutionJobManager parentJobManager = jobManager == null ? nc.findJobManager() : null;
+        add(parentJobManager == null ? null : parentJobManager.getID());
+        NodeLocks locks = nc.getNodeLocks();
+        add(locks.hasResetLock());
+        add(locks.hasDeleteLock());
+        add(locks.hasConfigureLock());
+        WorkflowManagerUI wm = null;
+        if (nc instanceof WorkflowManagerUI) {
+            wm = (WorkflowManagerUI)nc;
+        } else if (nc instanceof SubNodeContainerUI) {
+            wm = ((SubNodeContainerUI)nc).getWorkflowManager();
+        }
+        if (wm != null) {
+            add(wm.isEncrypted());
+            add(wm.isUnlocked());
+        }
+        if (Wrapper.wraps(nc, NodeContainerTemplate.class)) {
+            MetaNodeTemplateInformation templInfo = Wrapper.unwrap(nc, NodeContainerTemplate.class)
+                .getTemplateInformation();
+            add(templInfo.getRole());
+            add(templInfo.getUpdateStatus());
+        }
+    }
+
+    private void add(final Annotation anno) {
+        add(anno.getText());
+        add(anno.getBgColor());
+        add(anno.getBorderColor());
+        add(anno.getBorderSize());
+        add(anno.getDefaultFontSize());
+        add(anno.getAlignment());
+        for (StyleRange range : anno.getStyleRanges()) {
+            add(range.getStart());
+            add(range.getLength());
+            add(range.getFontName());
+            add(range.getFontSize());
+            add(range.getFontStyle());
+            add(range.getFgColor());
+        }
+    }
+
+    private void add(final Rectangle bounds) {
+        add(bounds.x);
+        add(bounds.y);
+        add(bounds.width);
+        add(bounds.height);
+    }
+
+    private void add(final PointList points) {
+        for (int i = 0; i < points.size(); i++) {
+            add(points.getPoint(i).x);
+            add(points.getPoint(i).y);
+        }
+    }
+
+    private void add(final boolean value) {
+        add(value ? 1 : 0);
+    }
+
+    private void add(final Object o) {
+        // string representations as not all of the objects implement hashCode (e.g. remote node states)
+        add(Objects.hashCode(o == null ? null : o.toString()));
+    }
+
+    private void add(final int value) {
+        m_hash = 31 * m_hash + value;
+    }
+}
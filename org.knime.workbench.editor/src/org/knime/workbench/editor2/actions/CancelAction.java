@@ -49,7 +49,6 @@
 
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
@@ -126,21 +125,9 @@ public String getToolTipText() {
     @Override
     protected boolean internalCalculateEnabled() {
 
-        NodeContainerEditPart[] parts =
-            getSelectedParts(NodeContainerEditPart.class);
-
         // enable if we have at least one executing or queued node in our
-        // selection
-        WorkflowManagerUI wm = getEditor().getWorkflowManagerUI();
-        for (int i = 0; i < parts.length; i++) {
-            // bugfix 1478
-            NodeContainerUI nc = parts[i].getNodeContainer();
-            if (wm.canCancelNode(nc.getID())) {
-                return true;
-            }
-        }
-        return false;
-
+        // selection (bugfix 1478)
+        return getEditor().getSelectionCapabilities().canCancelAny();
     }
 
     /**
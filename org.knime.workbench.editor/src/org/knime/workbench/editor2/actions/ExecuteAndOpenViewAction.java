@@ -58,7 +58,6 @@
 import org.knime.core.ui.node.workflow.InteractiveWebViewsResultUI;
 import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.SubNodeContainerUI;
-import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
 import org.knime.workbench.editor2.WorkflowEditor;
@@ -146,13 +145,16 @@ protected boolean internalCalculateEnabled() {
         NodeContainerEditPart[] parts =
             getSelectedParts(NodeContainerEditPart.class);
         // enable if we have at least one executable node in our selection
-        WorkflowManagerUI wm = getEditor().getWorkflowManagerUI();
+        SelectionCapabilities caps = getEditor().getSelectionCapabilities();
+        if (!caps.canExecuteAny()) {
+            return false;
+        }
         for (int i = 0; i < parts.length; i++) {
             NodeContainerUI nc = parts[i].getNodeContainer();
             boolean hasView = nc.getNrViews() > 0;
             hasView |= nc.hasInteractiveView() || nc.getInteractiveWebViews().size() > 0;
             hasView |= OpenSubnodeWebViewAction.hasContainerView(nc);
-            if (wm.canExecuteNode(nc.getID()) && hasView) {
+            if (hasView && caps.canExecute(nc.getID())) {
                 return true;
             }
         }
@@ -182,16 +182,7 @@ public void runOnNodes(final NodeContainerEditPart[] nodeParts) {
      */
     @Override
     protected boolean internalCalculateEnabled() {
-        NodeContainerEditPart[] parts =
-            getSelectedParts(NodeContainerEditPart.class);
-        for (int i = 0; i < parts.length; i++) {
-            NodeContainerEditPart part = parts[i];
-            NodeContainerUI nc = part.getNodeContainer();
-            if (getManagerUI().canResetNode(nc.getID())) {
-                return true;
-            }
-        }
-        return false;
+        return getEditor().getSelectionCapabilities().canResetAny();
     }
 
     /**
@@ -0,0 +1,208 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.actions;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowLock;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.ui.node.workflow.WorkflowManagerUI;
+import org.knime.core.ui.wrapper.Wrapper;
+import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
+
+/**
+ * Snapshot of what can be done with the nodes of a selection (execute, reset, cancel), computed in one pass over the
+ * selected nodes - under a single workflow lock for local workflows - and shared by all actions whose enablement
+ * depends on it (see {@link org.knime.workbench.editor2.WorkflowEditor#getSelectionCapabilities()}).
+ *
+ * A snapshot is reused as long as the selection is the same and no workflow or node state change has been reported for
+ * its workflow via {@link #invalidate(WorkflowManagerUI)} since it was computed. Changes in other workflows (including
+ * other open editors) don't invalidate it.
+ *
+ * The snapshot covers the actions that query each selected node (execute, execute and open view, reset, cancel); the
+ * remaining node actions are only enabled for a single selected node or don't query the workflow per node.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SelectionCapabilities {
+
+    /**
+     * Per workflow, incremented on each change that might affect the capabilities of its nodes. Weak keys, the
+     * stamps of closed workflows are dropped with them.
+     */
+    private static final Map<WorkflowManagerUI, AtomicLong> MODIFICATION_STAMPS = new WeakHashMap<>();
+
+    private final WorkflowManagerUI m_wfm;
+
+    private final List<?> m_selection;
+
+    private final long m_stamp;
+
+    private final Set<NodeID> m_executable = new HashSet<>();
+
+    private final Set<NodeID> m_resettable = new HashSet<>();
+
+    private final Set<NodeID> m_cancelable = new HashSet<>();
+
+    private SelectionCapabilities(final WorkflowManagerUI wfm, final List<?> selection, final long stamp) {
+        m_wfm = wfm;
+        m_selection = selection;
+        m_stamp = stamp;
+    }
+
+    /**
+     * Invalidates the snapshots of the given workflow, to be called whenever the workflow or the state of one of its
+     * nodes changes.
+     *
+     * @param wfm the changed workflow, ignored if <code>null</code>
+     */
+    public static void invalidate(final WorkflowManagerUI wfm) {
+        if (wfm != null) {
+            getStamp(wfm).incrementAndGet();
+        }
+    }
+
+    private static AtomicLong getStamp(final WorkflowManagerUI wfm) {
+        synchronized (MODIFICATION_STAMPS) {
+            return MODIFICATION_STAMPS.computeIfAbsent(wfm, k -> new AtomicLong());
+        }
+    }
+
+    private static long getStampValue(final WorkflowManagerUI wfm) {
+        return wfm == null ? 0 : getStamp(wfm).get();
+    }
+
+    /**
+     * Computes the capabilities of the nodes in the given selection.
+     *
+     * @param wfm the workflow the selection belongs to, can be <code>null</code> if not available (yet)
+     * @param selection the selected objects (edit parts other than nodes are ignored)
+     * @return a new snapshot
+     */
+    public static SelectionCapabilities compute(final WorkflowManagerUI wfm, final List<?> selection) {
+        // read the stamp before querying such that changes happening meanwhile invalidate the result
+        final SelectionCapabilities caps =
+            new SelectionCapabilities(wfm, new ArrayList<>(selection), getStampValue(wfm));
+        final NodeContainerEditPart[] parts =
+            AbstractNodeAction.filterObjects(NodeContainerEditPart.class, selection);
+        if (wfm == null) {
+            return caps;
+        }
+        final Optional<WorkflowManager> localWFM = Wrapper.unwrapWFMOptional(wfm);
+        if (localWFM.isPresent()) {
+            // each query would acquire the lock otherwise
+            try (WorkflowLock lock = localWFM.get().lock()) {
+                caps.query(parts);
+            }
+        } else {
+            caps.query(parts);
+        }
+        return caps;
+    }
+
+    private void query(final NodeContainerEditPart[] parts) {
+        for (NodeContainerEditPart part : parts) {
+            final NodeID id = part.getNodeContainer().getID();
+            if (m_wfm.canExecuteNode(id)) {
+                m_executable.add(id);
+            }
+            if (m_wfm.canResetNode(id)) {
+                m_resettable.add(id);
+            }
+            if (m_wfm.canCancelNode(id)) {
+                m_cancelable.add(id);
+            }
+        }
+    }
+
+    /**
+     * @param wfm the workflow the selection belongs to
+     * @param selection the current selection
+     * @return whether this snapshot is still valid for the given workflow and selection
+     */
+    public boolean isValidFor(final WorkflowManagerUI wfm, final List<?> selection) {
+        return m_wfm == wfm && m_stamp == getStampValue(wfm) && m_selection.equals(selection);
+    }
+
+    /**
+     * @return whether at least one of the selected nodes can be executed
+     */
+    public boolean canExecuteAny() {
+        return !m_executable.isEmpty();
+    }
+
+    /**
+     * @param id a selected node
+     * @return whether the node can be executed
+     */
+    public boolean canExecute(final NodeID id) {
+        return m_executable.contains(id);
+    }
+
+    /**
+     * @return whether at least one of the selected nodes can be reset
+     */
+    public boolean canResetAny() {
+        return !m_resettable.isEmpty();
+    }
+
+    /**
+     * @return whether at least one of the selected nodes can be canceled
+     */
+    public boolean canCancelAny() {
+        return !m_cancelable.isEmpty();
+    }
+}
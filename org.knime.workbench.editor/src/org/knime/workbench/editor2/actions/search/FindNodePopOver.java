@@ -49,8 +49,7 @@
 package org.knime.workbench.editor2.actions.search;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -93,13 +92,12 @@
 import org.knime.core.node.workflow.NodeAnnotation;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.SubNodeContainer;
 import org.knime.core.node.workflow.WorkflowManager;
-import org.knime.core.ui.node.workflow.NodeContainerUI;
-import org.knime.core.ui.node.workflow.SubNodeContainerUI;
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.core.ui.util.SWTUtilities;
+import org.knime.core.ui.wrapper.NodeContainerWrapper;
 import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
-import org.knime.core.ui.wrapper.Wrapper;
 import org.knime.workbench.editor2.WorkflowEditor;
 import org.knime.workbench.editor2.WorkflowManagerInput;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
@@ -108,12 +106,10 @@
 /**
  * The genesis for this dialog is https://knime-com.atlassian.net/browse/AP-6904
  *
- * Note, for 4.1.0 we will only search the currently open (currently focused editor) worfklow - no children
- *  nor parents. (This is not completely true, technically - we have provided an easter egg for Iris.)
- *
- * Future optimizations:
- *          - move to using multiple Tries for faster search results
- *          - potentially cache a "global" list and listen for node additions and deletions to update the cache
+ * The currently open (currently focused editor) workflow is searched including the nodes nested in its metanodes
+ *  and components, but not its parents. (There is also an easter egg for Iris which finds any node of the project by
+ *  its id.) The searching and ranking is done by the editor's {@link NodeSearchIndex}; only the best
+ *  {@link #MAX_DISPLAYED_RESULTS} results are shown, and their images are only rendered when they are displayed.
  *
  * @author loki der quaeler
  */
@@ -121,6 +117,7 @@ public class FindNodePopOver extends PopupDialog {
     static final Pattern NODE_ID_PATTERN = Pattern.compile("^[\\d]{1,2}:?");
 
     private static final int MAX_CHARACTER_LENGTH_FOR_NODE_ANNOTATION_IN_LABEL = 33;
+    private static final int MAX_DISPLAYED_RESULTS = 500;
     private static final Point POP_OVER_SIZE = new Point(500, 375);
 
     private static final Pattern EASTER_EGG_NODE_ID_PATTERN = Pattern.compile("^[\\d]{1,2}:[\\d]{1,8}");
@@ -136,7 +133,9 @@ public class FindNodePopOver extends PopupDialog {
     private final WorkflowManager m_workflowManager;
     private final WorkflowEditor m_workflowEditor;
 
-    private final ArrayList<NodeContainerDisplayWrapper> m_fullContainerList;
+    private final NodeSearchIndex m_searchIndex;
+    // the wrappers created while this pop-over is open, by node; their images are disposed on close
+    private final HashMap<NodeContainer, NodeContainerDisplayWrapper> m_displayWrappers;
 
     private ArrayList<NodeContainerDisplayWrapper> m_lastSearchResults;
     private int m_selectedIndex;
@@ -154,23 +153,25 @@ public FindNodePopOver(final WorkflowEditor workflowEditor) {
         }
         m_workflowManager = workflowManager.get();
 
-        m_fullContainerList = produceSortedNodeList();
+        m_searchIndex = workflowEditor.getNodeSearchIndex();
+        m_searchIndex.revalidate();
+        m_displayWrappers = new HashMap<>();
+        m_lastSearchResults = search("");
         m_selectedIndex = -1;
     }
 
     @Override
     public boolean close() {
         if (m_selectedIndex >= 0) {
-            final List<NodeContainer> results = new ArrayList<>();
-            m_lastSearchResults.stream().forEach(wrapper -> results.add(wrapper.getNodeContainer()));
-
-            m_workflowEditor.setSearchResults(new FindResults(results, m_selectedIndex, m_searchField.getText()));
+            m_workflowEditor.setSearchResults(
+                new FindResults(getResultsInEditor(), m_selectedIndex, m_searchField.getText()));
         } else {
             m_workflowEditor.setSearchResults(null);
         }
 
         m_lastSearchResults = null;
-        m_fullContainerList.stream().forEach(wrapper -> wrapper.getDisplayImage().dispose());
+        m_displayWrappers.values().stream().forEach(NodeContainerDisplayWrapper::dispose);
+        m_displayWrappers.clear();
 
         return super.close();
     }
@@ -254,31 +255,7 @@ public void keyReleased(final KeyEvent e) {
                     return;
                 }
 
-                final String text = m_searchField.getText();
-
-                if (text.trim().length() == 0) {
-                    m_lastSearchResults = m_fullContainerList;
-                } else {
-                    m_lastSearchResults = new ArrayList<>();
-
-                    // see class javadoc to-do notes concerning Tries
-                    final Matcher m = NODE_ID_PATTERN.matcher(text);
-                    final boolean searchNodeIds = m.find();
-                    if (searchNodeIds) {
-                        for (final NodeContainerDisplayWrapper displayWrapper : m_fullContainerList) {
-                            if (displayWrapper.getNodeContainer().getID().toString().contains(text)) {
-                                m_lastSearchResults.add(displayWrapper);
-                            }
-                        }
-                    } else {
-                        final String lcText = text.toLowerCase();
-                        for (final NodeContainerDisplayWrapper displayWrapper : m_fullContainerList) {
-                            if (displayWrapper.getSearchableText().contains(lcText)) {
-                                m_lastSearchResults.add(displayWrapper);
-                            }
-                        }
-                    }
-                }
+                m_lastSearchResults = search(m_searchField.getText());
 
                 m_nodeTreeViewer.setInput(m_lastSearchResults);
                 if (m_lastSearchResults.size() > 0) {
@@ -311,8 +288,10 @@ public void mouseUp(final MouseEvent e) { }
         });
         m_nodeTreeViewer.setLabelProvider(new NodeLabelProvider());
         m_nodeTreeViewer.setContentProvider(new NodeTreeContentProvider());
-        m_nodeTreeViewer.setInput(m_fullContainerList);
-        tree.select(tree.getItem(0));
+        m_nodeTreeViewer.setInput(m_lastSearchResults);
+        if (tree.getItemCount() > 0) {
+            tree.select(tree.getItem(0));
+        }
         tree.setBackground(TREE_CELL_BACKGROUND);
 
         return content;
@@ -330,34 +309,40 @@ private void adjustTreeSelectionBy(final int delta) {
         tree.setSelection(tree.getItem(finalIndex));
     }
 
-    private final ArrayList<NodeContainerDisplayWrapper> produceSortedNodeList() {
-        final ArrayList<NodeContainerDisplayWrapper> nodeList = new ArrayList<>();
-        final WorkflowManagerUI wmUI = m_workflowEditor.getWorkflowManagerUI();
-        final Display d = PlatformUI.getWorkbench().getDisplay();
+    private ArrayList<NodeContainerDisplayWrapper> search(final String text) {
+        final ArrayList<NodeContainerDisplayWrapper> results = new ArrayList<>();
 
-        wmUI.getNodeContainers().stream().forEach(ncUI -> nodeList.add(new NodeContainerDisplayWrapper(ncUI, d)));
+        for (final NodeSearchIndex.Entry entry : m_searchIndex.search(text, MAX_DISPLAYED_RESULTS)) {
+            results.add(m_displayWrappers.computeIfAbsent(entry.getNodeContainer(),
+                nc -> new NodeContainerDisplayWrapper(entry.getNodeContainer(), entry.getAttributes())));
+        }
 
-        Collections.sort(nodeList, new Comparator<NodeContainerDisplayWrapper>() {
-            @Override
-            public int compare(final NodeContainerDisplayWrapper dw1, final NodeContainerDisplayWrapper dw2) {
-                final String s1 = dw1.getNodeContainer().getNameWithID();
-                final String s2 = dw2.getNodeContainer().getNameWithID();
-                return s1.compareTo(s2);
-            }
-        });
+        return results;
+    }
 
-        return nodeList;
+    // FindResults cycles through the results by selecting them in this editor, hence only gets the nodes at its level
+    private List<NodeContainer> getResultsInEditor() {
+        final List<NodeContainer> results = new ArrayList<>();
+        m_lastSearchResults.stream().map(NodeContainerDisplayWrapper::getNodeContainer)
+            .filter(nc -> nc.getParent() == m_workflowManager).forEach(results::add);
+        return results;
     }
 
-    // This method is incredibly brief currently - but will not be so in the future where we support more
-    //      robust search scenarios.
     private void handleNodeSelection(final NodeContainerDisplayWrapper displayWrapper) {
-        m_workflowEditor.setNodeSelection(displayWrapper.getNodeContainer());
+        final NodeContainer nc = displayWrapper.getNodeContainer();
+
+        if (nc.getParent() == m_workflowManager) {
+            m_workflowEditor.setNodeSelection(nc);
 
-        // it would be more performant to grab the selection index from the tree, but i am keeping this open
-        //      ended for future cases in which this method is invoked in response to something other than
-        //      tree selection
-        m_selectedIndex = m_lastSearchResults.indexOf(displayWrapper);
+            // it would be more performant to grab the selection index from the tree, but i am keeping this open
+            //      ended for future cases in which this method is invoked in response to something other than
+            //      tree selection
+            m_selectedIndex = getResultsInEditor().indexOf(nc);
+        } else {
+            // nested in a metanode or component
+            revealNode(nc);
+            m_selectedIndex = -1;
+        }
 
         close();
     }
@@ -378,59 +363,64 @@ private void searchRobustlyForNode(final String id) {
             MessageDialog.openWarning(SWTUtilities.getKNIMEWorkbenchShell(), "Not Found",
                 "We could find no node with the id, " + id);
         } else {
-            final WorkflowManager parent = nc.getParent();
-            final IWorkbenchPage iwp = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+            revealNode(nc);
+        }
+    }
 
-            WorkflowEditor we = null;
-            if (parent.equals(projectWM)) {
-                final IEditorReference[] editorReferences = iwp.getEditorReferences();
+    // opens (or activates) the editor of the node's workflow and selects the node in there
+    private void revealNode(final NodeContainer nc) {
+        final WorkflowManager projectWM = m_workflowManager.getProjectWFM();
+        final WorkflowManager parent = nc.getParent();
+        final IWorkbenchPage iwp = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
 
-                for (final IEditorReference reference : editorReferences) {
-                    final IEditorPart iep = reference.getEditor(false);
+        WorkflowEditor we = null;
+        if (parent.equals(projectWM)) {
+            final IEditorReference[] editorReferences = iwp.getEditorReferences();
 
-                    if (iep instanceof WorkflowEditor) {
-                        final Optional<WorkflowManager> wmOpt = ((WorkflowEditor)iep).getWorkflowManager();
+            for (final IEditorReference reference : editorReferences) {
+                final IEditorPart iep = reference.getEditor(false);
 
-                        if (wmOpt.isPresent() && wmOpt.get().equals(parent)) {
-                            we = ((WorkflowEditor)iep);
-                            break;
-                        }
+                if (iep instanceof WorkflowEditor) {
+                    final Optional<WorkflowManager> wmOpt = ((WorkflowEditor)iep).getWorkflowManager();
+
+                    if (wmOpt.isPresent() && wmOpt.get().equals(parent)) {
+                        we = ((WorkflowEditor)iep);
+                        break;
                     }
                 }
+            }
 
-                if (we != null) {
-                    iwp.activate(we);
-                } else {
-                    MessageDialog.openInformation(SWTUtilities.getKNIMEWorkbenchShell(), "Search Problem...",
-                        "We were able to find the node, but not its editor which should already be open.");
-                }
+            if (we != null) {
+                iwp.activate(we);
             } else {
-                final WorkflowManagerUI wmUI = WorkflowManagerWrapper.wrap(parent);
-                try {
-                    // TODO this may be an incorrect assignation of the 'parent'
-                    final WorkflowEditor parentEditor = (WorkflowEditor)iwp.getActiveEditor();
-                    final WorkflowManagerInput input = new WorkflowManagerInput(wmUI, parentEditor);
-
-                    we = (WorkflowEditor)iwp.openEditor(input, WorkflowEditor.ID);
-                } catch (PartInitException e) {
-                    LOGGER.error("Error while opening new editor", e);
-                }
+                MessageDialog.openInformation(SWTUtilities.getKNIMEWorkbenchShell(), "Search Problem...",
+                    "We were able to find the node, but not its editor which should already be open.");
+            }
+        } else {
+            final WorkflowManagerUI wmUI = WorkflowManagerWrapper.wrap(parent);
+            try {
+                // TODO this may be an incorrect assignation of the 'parent'
+                final WorkflowEditor parentEditor = (WorkflowEditor)iwp.getActiveEditor();
+                final WorkflowManagerInput input = new WorkflowManagerInput(wmUI, parentEditor);
+
+                we = (WorkflowEditor)iwp.openEditor(input, WorkflowEditor.ID);
+            } catch (PartInitException e) {
+                LOGGER.error("Error while opening new editor", e);
             }
+        }
 
-            if (we != null) {
-                final NodeContainer nodeContainer = nc;
-                final WorkflowEditor workflowEditor = we;
-                final Runnable r = () -> {
-                    try {
-                        Thread.sleep(300);
-                    } catch (final Exception e) {
-                    }
+        if (we != null) {
+            final WorkflowEditor workflowEditor = we;
+            final Runnable r = () -> {
+                try {
+                    Thread.sleep(300);
+                } catch (final Exception e) {
+                }
 
-                    workflowEditor.setNodeSelection(nodeContainer);
-                };
+                workflowEditor.setNodeSelection(nc);
+            };
 
-                KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(r);
-            }
+            KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(r);
         }
     }
 
@@ -589,42 +579,44 @@ private static class NodeContainerDisplayWrapper {
         private final NodeContainer m_nodeContainer;
 
         private final String m_displayText;
-        private final String m_searchText;
 
         private final int[] m_rangeIndices;
 
         private final boolean m_renderLowerText;
 
-        private final Image m_displayImage;
-
-        private NodeContainerDisplayWrapper(final NodeContainerUI ncUI, final Display display) {
-            m_nodeContainer = Wrapper.unwrapNC(ncUI);
+        // rendered when first displayed, the pop-over may hold wrappers for far more nodes than it ever shows
+        private Image m_displayImage;
 
-            final ProcessedNodeAttributes processed = new ProcessedNodeAttributes(m_nodeContainer);
+        private NodeContainerDisplayWrapper(final NodeContainer nodeContainer,
+            final ProcessedNodeAttributes processed) {
+            m_nodeContainer = nodeContainer;
 
             m_renderLowerText = processed.shouldRenderLowerText();
             m_rangeIndices = new int[m_renderLowerText ? 3 : 2];
             m_rangeIndices[0] = m_nodeContainer.getName().length();
             m_rangeIndices[m_renderLowerText ? 2 : 1] = m_nodeContainer.getID().toString().length() + 3;
             m_displayText = processed.getDisplayText();
-            m_searchText = processed.getSearchText();
             if (m_renderLowerText) {
                 m_rangeIndices[1] = processed.getStyleRangeDelimiterForAnnotationText();
             }
+        }
 
-            final DisplayableNodeType dnt =
-                    DisplayableNodeType.getTypeForNodeType(m_nodeContainer.getType(), (ncUI instanceof SubNodeContainerUI));
+        private Image renderDisplayImage() {
+            final DisplayableNodeType dnt = DisplayableNodeType.getTypeForNodeType(m_nodeContainer.getType(),
+                (m_nodeContainer instanceof SubNodeContainer));
             final Image backgroundImage = dnt.getImage();
             final Rectangle backgroundBounds = backgroundImage.getBounds();
 
-            m_displayImage = new Image(display, backgroundBounds.width, backgroundBounds.height);
-            final GC gc = new GC(m_displayImage);
+            final Image image =
+                new Image(PlatformUI.getWorkbench().getDisplay(), backgroundBounds.width, backgroundBounds.height);
+            final GC gc = new GC(image);
 
             gc.setAntialias(SWT.ON);
             gc.setInterpolation(SWT.HIGH);
             gc.drawImage(backgroundImage, 0, 0);
 
-            final Image nodeIcon = NodeContainerEditPart.getIconImageForNodeContainer(ncUI);
+            final Image nodeIcon =
+                NodeContainerEditPart.getIconImageForNodeContainer(NodeContainerWrapper.wrap(m_nodeContainer));
             if (nodeIcon != null) {
                 final Rectangle iconBounds = nodeIcon.getBounds();
                 final int x = (backgroundBounds.width - iconBounds.width) / 2;
@@ -633,16 +625,14 @@ private NodeContainerDisplayWrapper(final NodeContainerUI ncUI, final Display di
             }
 
             gc.dispose();
+
+            return image;
         }
 
         String getDisplayText() {
             return m_displayText;
         }
 
-        String getSearchableText() {
-            return m_searchText;
-        }
-
         int[] getRangeIndices() {
             return m_rangeIndices;
         }
@@ -656,7 +646,17 @@ NodeContainer getNodeContainer() {
         }
 
         Image getDisplayImage() {
+            if (m_displayImage == null) {
+                m_displayImage = renderDisplayImage();
+            }
             return m_displayImage;
         }
+
+        void dispose() {
+            if (m_displayImage != null) {
+                m_displayImage.dispose();
+                m_displayImage = null;
+            }
+        }
     }
 }
@@ -0,0 +1,424 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.actions.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.core.node.workflow.WorkflowManager;
+
+/**
+ * The search index behind the {@link FindNodePopOver}, one per workflow editor. It holds the search text of every node
+ * of the editor's workflow including the nodes nested in metanodes and components, and is kept up to date by
+ * listening to the node additions and removals of each of those workflows - so opening the pop-over does not walk the
+ * workflow, and typing only scans precomputed lower-case strings (narrowed down to the previous matches while the user
+ * keeps extending the query).
+ *
+ * Matches are ranked: node names starting with the query come first, then names having a word which starts with the
+ * query, then annotations or ids having such a word, then any substring match and lastly fuzzy matches (the query
+ * characters appear in order, the tighter the better).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class NodeSearchIndex implements WorkflowListener {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeSearchIndex.class);
+
+    /** Returned by {@link #rank(String, String, String)} if the text does not match at all. */
+    static final int NO_MATCH = -1;
+
+    /** The distance between two rank categories; fuzzy matches use it to break ties by the span of the match. */
+    static final int RANK_STRIDE = 1 << 16;
+
+    /** Fuzzy matching of shorter queries yields nothing but noise. */
+    static final int MIN_FUZZY_QUERY_LENGTH = 3;
+
+    private static final Comparator<Entry> NAME_ORDER = Comparator.comparing(e -> e.m_sortKey);
+
+    private final Map<NodeID, Entry> m_entries = new HashMap<>();
+
+    /** The listened to workflows by their id; the editor's one plus those of the nested metanodes and components. */
+    private final Map<NodeID, WorkflowManager> m_watchedWorkflows = new HashMap<>();
+
+    /** Incremented on each change of the entries; invalidates the cached sorted list and the last matches. */
+    private long m_version;
+
+    private List<Entry> m_sortedEntries;
+    private long m_sortedVersion = -1;
+
+    private String m_lastQuery;
+    private boolean m_lastQueryById;
+    private List<Entry> m_lastMatches;
+    private long m_lastMatchesVersion = -1;
+
+    private boolean m_disposed;
+
+    /**
+     * Indexes the given workflow and starts listening to it.
+     *
+     * @param workflowManager the workflow of the owning editor
+     */
+    public NodeSearchIndex(final WorkflowManager workflowManager) {
+        synchronized (this) {
+            watch(workflowManager);
+        }
+    }
+
+    /**
+     * Stops listening to the workflows and drops the index; further searches yield no results.
+     */
+    public synchronized void dispose() {
+        m_disposed = true;
+        m_watchedWorkflows.values().forEach(wfm -> wfm.removeListener(this));
+        m_watchedWorkflows.clear();
+        m_entries.clear();
+        m_sortedEntries = null;
+        m_lastMatches = null;
+    }
+
+    /**
+     * Re-reads the name and annotation of the indexed nodes as those changes are not announced via workflow events.
+     * This is meant to be invoked once when the pop-over opens; it is cheap as unchanged nodes are not re-processed.
+     */
+    synchronized void revalidate() {
+        boolean changed = false;
+        for (final Entry entry : m_entries.values()) {
+            changed |= entry.revalidate();
+        }
+        if (changed) {
+            m_version++;
+        }
+    }
+
+    /**
+     * Finds the nodes matching the given text, best matches first. An empty query yields all nodes ordered by name,
+     * queries starting with a digit are matched against the node ids (like the pop-over always did).
+     *
+     * @param text the text the user entered
+     * @param limit the maximum number of results to return
+     * @return the matching entries, best first, at most <code>limit</code> many
+     */
+    synchronized List<Entry> search(final String text, final int limit) {
+        if (m_disposed) {
+            return Collections.emptyList();
+        }
+        final String query = text.trim().toLowerCase();
+        if (query.isEmpty()) {
+            final List<Entry> sorted = getSortedEntries();
+            return new ArrayList<>(sorted.subList(0, Math.min(limit, sorted.size())));
+        }
+
+        final boolean byId = FindNodePopOver.NODE_ID_PATTERN.matcher(query).find();
+        final List<Entry> candidates;
+        if ((m_lastMatches != null) && (m_lastMatchesVersion == m_version) && (m_lastQueryById == byId)
+            && query.startsWith(m_lastQuery)
+            && ((m_lastQuery.length() >= MIN_FUZZY_QUERY_LENGTH) || (query.length() < MIN_FUZZY_QUERY_LENGTH))) {
+            // every match of the longer query is a match of the previous one, see #rank
+            candidates = m_lastMatches;
+        } else {
+            candidates = getSortedEntries();
+        }
+
+        final List<Entry> matches = new ArrayList<>();
+        final List<Ranked> ranked = new ArrayList<>();
+        for (final Entry entry : candidates) {
+            final int rank = byId ? rankId(entry.m_id, query) : rank(entry.m_lowerCaseName, entry.m_searchText, query);
+            if (rank != NO_MATCH) {
+                matches.add(entry);
+                ranked.add(new Ranked(entry, rank));
+            }
+        }
+        m_lastQuery = query;
+        m_lastQueryById = byId;
+        m_lastMatches = matches;
+        m_lastMatchesVersion = m_version;
+
+        // candidates are in name order and the sort is stable, hence equally ranked results remain in name order
+        ranked.sort(Comparator.comparingInt(r -> r.m_rank));
+        final List<Entry> result = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; (i < ranked.size()) && (i < limit); i++) {
+            result.add(ranked.get(i).m_entry);
+        }
+        return result;
+    }
+
+    /**
+     * Ranks a node id against a query starting with a digit; ids starting with it come first, then ids having a level
+     * starting with it, then any other id containing it.
+     *
+     * @param id the node id as string
+     * @param query the query
+     * @return the rank, lower is better, or {@link #NO_MATCH}
+     */
+    static int rankId(final String id, final String query) {
+        if (id.startsWith(query)) {
+            return 0;
+        }
+        final int index = id.indexOf(query);
+        if (index < 0) {
+            return NO_MATCH;
+        }
+        return (id.charAt(index - 1) == ':') ? RANK_STRIDE : (3 * RANK_STRIDE);
+    }
+
+    /**
+     * Ranks the search text of a node against a query; all arguments are expected to be lower case.
+     *
+     * @param name the node name
+     * @param searchText the full search text (name, annotation and id)
+     * @param query the query
+     * @return the rank, lower is better, or {@link #NO_MATCH}
+     */
+    static int rank(final String name, final String searchText, final String query) {
+        if (name.startsWith(query)) {
+            return 0;
+        }
+        if (hasWordStartingWith(name, query)) {
+            return RANK_STRIDE;
+        }
+        if (hasWordStartingWith(searchText, query)) {
+            return 2 * RANK_STRIDE;
+        }
+        if (searchText.contains(query)) {
+            return 3 * RANK_STRIDE;
+        }
+        if (query.length() >= MIN_FUZZY_QUERY_LENGTH) {
+            final int span = fuzzySpan(searchText, query);
+            if (span >= 0) {
+                return 4 * RANK_STRIDE + Math.min(span, RANK_STRIDE - 1);
+            }
+        }
+        return NO_MATCH;
+    }
+
+    private static boolean hasWordStartingWith(final String text, final String query) {
+        int index = text.indexOf(query);
+        while (index >= 0) {
+            if ((index == 0) || !Character.isLetterOrDigit(text.charAt(index - 1))) {
+                return true;
+            }
+            index = text.indexOf(query, index + 1);
+        }
+        return false;
+    }
+
+    /**
+     * @return the length of the shortest window of the text, starting at the first possible position, containing the
+     *         non-whitespace characters of the query in order, or -1 if there is none
+     */
+    static int fuzzySpan(final String text, final String query) {
+        int start = -1;
+        int position = 0;
+        for (int i = 0; i < query.length(); i++) {
+            final char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            final int index = text.indexOf(c, position);
+            if (index < 0) {
+                return -1;
+            }
+            if (start < 0) {
+                start = index;
+            }
+            position = index + 1;
+        }
+        return (start < 0) ? -1 : (position - start);
+    }
+
+    private List<Entry> getSortedEntries() {
+        if ((m_sortedEntries == null) || (m_sortedVersion != m_version)) {
+            final List<Entry> sorted = new ArrayList<>(m_entries.values());
+            sorted.sort(NAME_ORDER);
+            m_sortedEntries = sorted;
+            m_sortedVersion = m_version;
+        }
+        return m_sortedEntries;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void workflowChanged(final WorkflowEvent event) {
+        switch (event.getType()) {
+            case NODE_ADDED:
+                if (event.getNewValue() instanceof NodeContainer) {
+                    synchronized (this) {
+                        if (!m_disposed) {
+                            add((NodeContainer)event.getNewValue());
+                        }
+                    }
+                }
+                break;
+            case NODE_REMOVED:
+                if (event.getOldValue() instanceof NodeContainer) {
+                    synchronized (this) {
+                        if (!m_disposed) {
+                            remove((NodeContainer)event.getOldValue());
+                        }
+                    }
+                }
+                break;
+            default:
+                // NOOP
+        }
+    }
+
+    // the listener is registered before the nodes are read, so a node added meanwhile is simply indexed twice
+    private void watch(final WorkflowManager wfm) {
+        if (wfm.isEncrypted() && !wfm.isUnlocked()) {
+            // the content of locked metanodes and components is not to be revealed
+            return;
+        }
+        if (m_watchedWorkflows.putIfAbsent(wfm.getID(), wfm) != null) {
+            return;
+        }
+        wfm.addListener(this);
+        try {
+            wfm.getNodeContainers().forEach(this::add);
+        } catch (final RuntimeException e) {
+            LOGGER.debug("Could not index the nodes of " + wfm.getNameWithID(), e);
+        }
+    }
+
+    private void add(final NodeContainer nc) {
+        m_entries.put(nc.getID(), new Entry(nc));
+        m_version++;
+        if (nc instanceof WorkflowManager) {
+            watch((WorkflowManager)nc);
+        } else if (nc instanceof SubNodeContainer) {
+            watch(((SubNodeContainer)nc).getWorkflowManager());
+        }
+    }
+
+    private void remove(final NodeContainer nc) {
+        final NodeID id = nc.getID();
+        m_entries.remove(id);
+        m_version++;
+        if ((nc instanceof WorkflowManager) || (nc instanceof SubNodeContainer)) {
+            m_watchedWorkflows.entrySet().removeIf(e -> {
+                if (e.getKey().equals(id) || e.getKey().hasPrefix(id)) {
+                    e.getValue().removeListener(this);
+                    return true;
+                }
+                return false;
+            });
+            m_entries.keySet().removeIf(nodeID -> nodeID.hasPrefix(id));
+        }
+    }
+
+
+    private static final class Ranked {
+        private final Entry m_entry;
+        private final int m_rank;
+
+        private Ranked(final Entry entry, final int rank) {
+            m_entry = entry;
+            m_rank = rank;
+        }
+    }
+
+
+    /**
+     * An indexed node with its precomputed search and display text.
+     */
+    static final class Entry {
+        private final NodeContainer m_nodeContainer;
+        private final String m_id;
+
+        private String m_name;
+        private String m_annotationText;
+
+        private FindNodePopOver.ProcessedNodeAttributes m_attributes;
+        private String m_lowerCaseName;
+        private String m_searchText;
+        private String m_sortKey;
+
+        private Entry(final NodeContainer nc) {
+            m_nodeContainer = nc;
+            m_id = nc.getID().toString();
+            process();
+        }
+
+        private void process() {
+            m_name = m_nodeContainer.getName();
+            m_annotationText = m_nodeContainer.getNodeAnnotation().getText();
+            m_attributes = new FindNodePopOver.ProcessedNodeAttributes(m_nodeContainer);
+            m_lowerCaseName = m_name.toLowerCase();
+            m_searchText = m_attributes.getSearchText();
+            m_sortKey = m_name + " (#" + m_id + ")";
+        }
+
+        private boolean revalidate() {
+            if (m_name.equals(m_nodeContainer.getName())
+                && m_annotationText.equals(m_nodeContainer.getNodeAnnotation().getText())) {
+                return false;
+            }
+            process();
+            return true;
+        }
+
+        NodeContainer getNodeContainer() {
+            return m_nodeContainer;
+        }
+
+        FindNodePopOver.ProcessedNodeAttributes getAttributes() {
+            return m_attributes;
+        }
+    }
+}
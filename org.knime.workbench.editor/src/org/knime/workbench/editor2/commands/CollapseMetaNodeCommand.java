@@ -71,7 +71,7 @@
  *
  * @author M. Berthold, University of Konstanz
  */
-public class CollapseMetaNodeCommand extends AbstractKNIMECommand {
+public class CollapseMetaNodeCommand extends AbstractKNIMECommand implements UndoDataHolder {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(CollapseMetaNodeCommand.class);
 
@@ -79,7 +79,7 @@ public class CollapseMetaNodeCommand extends AbstractKNIMECommand {
     private final WorkflowAnnotation[] m_annos;
     private final boolean m_encapsulateAsSubnode;
     private final String m_name;
-    private CollapseIntoMetaNodeResult m_collapseResult;
+    private EvictableUndoData<CollapseIntoMetaNodeResult> m_collapseResult;
     private MetaNodeToSubNodeResult m_metaNodeToSubNodeResult;
 
 
@@ -114,10 +114,12 @@ public boolean canExecute() {
     @Override
     public void execute() {
         try {
-            m_collapseResult = getHostWFM().collapseIntoMetaNode(m_nodes, m_annos, m_name);
+            long estimatedSize = EvictableUndoData.estimateCopySize(getHostWFMUI(), m_nodes, m_annos.length);
+            CollapseIntoMetaNodeResult collapseResult = getHostWFM().collapseIntoMetaNode(m_nodes, m_annos, m_name);
+            m_collapseResult = new EvictableUndoData<>(collapseResult, estimatedSize);
             if (m_encapsulateAsSubnode) {
                 m_metaNodeToSubNodeResult = getHostWFM().convertMetaNodeToSubNode(
-                    m_collapseResult.getCollapsedMetanodeID());
+                    collapseResult.getCollapsedMetanodeID());
             }
         } catch (Exception e) {
             String error = "Collapsing Metanode failed: " + e.getMessage();
@@ -132,7 +134,7 @@ public void execute() {
      */
     @Override
     public boolean canUndo() {
-        return m_collapseResult != null && m_collapseResult.canUndo();
+        return m_collapseResult != null && m_collapseResult.isAvailable() && m_collapseResult.get().canUndo();
     }
 
     /**
@@ -140,14 +142,40 @@ public boolean canUndo() {
      */
     @Override
     public void undo() {
+        final CollapseIntoMetaNodeResult collapseResult = m_collapseResult == null ? null : m_collapseResult.get();
+        if (collapseResult == null) {
+            LOGGER.warn("Collapsing nodes into a metanode can't be undone, "
+                + "the undo history exceeded its memory budget");
+            return;
+        }
         if (m_metaNodeToSubNodeResult != null) {
             m_metaNodeToSubNodeResult.undo();
         }
-        m_collapseResult.undo();
+        collapseResult.undo();
         m_metaNodeToSubNodeResult = null;
         m_collapseResult = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EvictableUndoData<?> getUndoData() {
+        return m_collapseResult;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose() {
+        if (m_collapseResult != null) {
+            m_collapseResult.release();
+            m_collapseResult = null;
+        }
+        super.dispose();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -62,6 +62,7 @@
 import java.util.function.Supplier;
 
 import org.eclipse.gef.EditPartViewer;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.Annotation;
 import org.knime.core.node.workflow.ConnectionID;
 import org.knime.core.node.workflow.ConnectionUIInformation;
@@ -86,7 +87,9 @@
  *
  * @author Bernd Wiswedel, University of Konstanz
  */
-public class DeleteCommand extends AbstractKNIMECommand {
+public class DeleteCommand extends AbstractKNIMECommand implements UndoDataHolder {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DeleteCommand.class);
 
     /** Ids of nodes being deleted. */
     private final NodeID[] m_nodeIDs;
@@ -109,7 +112,7 @@ public class DeleteCommand extends AbstractKNIMECommand {
     private final int m_connectionCount;
 
     /** Copy of deleted sub flow for undo. */
-    private WorkflowCopyUI m_undoCopy;
+    private EvictableUndoData<WorkflowCopyUI> m_undoCopy;
 
     /** A viewer in which to update the selection upon undo or null if none
      * could be determined. */
@@ -238,9 +241,11 @@ public void execute() {
             WorkflowCopyContent.Builder content = WorkflowCopyContent.builder();
             content.setNodeIDs(m_nodeIDs);
             content.setAnnotationIDs(m_annotationIDs);
+            long estimatedSize = EvictableUndoData.estimateCopySize(hostWFM, m_nodeIDs, m_annotationIDs.length);
             try {
-                m_undoCopy = wfmAsyncSwitchRethrow(wfm -> wfm.cut(content.build()), wfm -> wfm.cutAsync(content.build()),
-                    hostWFM, "Deleting content ...");
+                WorkflowCopyUI undoCopy = wfmAsyncSwitchRethrow(wfm -> wfm.cut(content.build()),
+                    wfm -> wfm.cutAsync(content.build()), hostWFM, "Deleting content ...");
+                m_undoCopy = undoCopy == null ? null : new EvictableUndoData<>(undoCopy, estimatedSize);
             } catch (OperationNotAllowedException e) {
                 openDialog("Problem while deleting parts", e.getMessage());
                 return;
@@ -272,11 +277,18 @@ public void undo() {
             m_viewer.deselectAll();
         }
 
+        // the copy is not needed anymore once pasted, a redo cuts the content again
+        final WorkflowCopyUI undoCopy = m_undoCopy == null ? null : m_undoCopy.get();
+        if (m_undoCopy != null && undoCopy == null) {
+            LOGGER.warn("Deleting nodes can't be undone, the undo history exceeded its memory budget");
+            return;
+        }
+        m_undoCopy = null;
         WorkflowManagerUI hostWFM = getHostWFMUI();
         wfmAsyncSwitch(wfm -> {
             //paste copied content
-            if (m_undoCopy != null) {
-                wfm.paste(m_undoCopy);
+            if (undoCopy != null) {
+                wfm.paste(undoCopy);
             }
 
             //add dangling connections
@@ -288,9 +300,9 @@ public void undo() {
         }, wfm -> {
             //paste copied content
             CompletableFuture<WorkflowCopyContent> pasteFuture = null;
-            if (m_undoCopy != null) {
-                assert m_undoCopy instanceof WorkflowCopyWithOffsetUI;
-                pasteFuture = wfm.pasteAsync((WorkflowCopyWithOffsetUI)m_undoCopy);
+            if (undoCopy != null) {
+                assert undoCopy instanceof WorkflowCopyWithOffsetUI;
+                pasteFuture = wfm.pasteAsync((WorkflowCopyWithOffsetUI)undoCopy);
             }
 
             //add dangling connections
@@ -315,10 +327,25 @@ public void undo() {
         }, hostWFM, "Pasting workflow content ...");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean canUndo() {
+        return m_undoCopy == null || m_undoCopy.isAvailable();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public EvictableUndoData<?> getUndoData() {
+        return m_undoCopy;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void dispose() {
-        m_undoCopy = null;
+        if (m_undoCopy != null) {
+            m_undoCopy.release();
+            m_undoCopy = null;
+        }
         super.dispose();
     }
 
@@ -0,0 +1,147 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.commands;
+
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.ui.node.workflow.NodeContainerUI;
+import org.knime.core.ui.node.workflow.SubNodeContainerUI;
+import org.knime.core.ui.node.workflow.WorkflowManagerUI;
+
+/**
+ * Holds the data a command needs for its undo or redo (e.g. the copy of deleted nodes) together with an estimate of
+ * its heap size, such that the undo history can be kept within a memory budget. Data exceeding the budget is evicted,
+ * i.e. released for good; the command holding it can't be undone (or redone) anymore.
+ *
+ * <p>The data (workflow copies and persistors) can't be written to disk and read back without the workflow it has
+ * been copied from, it's therefore not spilled but released.
+ *
+ * @param <T> the type of the undo data
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class EvictableUndoData<T> {
+
+    /** Rough heap size of a copied node (settings, ui information, etc.), used for estimates. */
+    static final long ESTIMATED_NODE_SIZE = 64 * 1024;
+
+    /** Rough heap size of a copied annotation, used for estimates. */
+    static final long ESTIMATED_ANNOTATION_SIZE = 4 * 1024;
+
+    private T m_data;
+
+    private final long m_estimatedSize;
+
+    /**
+     * @param data the undo data, not null
+     * @param estimatedSize the estimated heap size of the data in bytes
+     */
+    public EvictableUndoData(final T data, final long estimatedSize) {
+        m_data = data;
+        m_estimatedSize = estimatedSize;
+    }
+
+    /**
+     * Estimates the heap size of a copy of the given nodes and annotations, including the content of metanodes and
+     * components.
+     *
+     * @param wfm the workflow containing the nodes
+     * @param nodeIDs the copied nodes
+     * @param annotationCount the number of copied workflow annotations
+     * @return the estimated size in bytes
+     */
+    static long estimateCopySize(final WorkflowManagerUI wfm, final NodeID[] nodeIDs, final int annotationCount) {
+        long nodeCount = 0;
+        for (NodeID id : nodeIDs) {
+            nodeCount += countNodes(wfm.getNodeContainer(id));
+        }
+        return nodeCount * ESTIMATED_NODE_SIZE + annotationCount * ESTIMATED_ANNOTATION_SIZE;
+    }
+
+    private static long countNodes(final NodeContainerUI nc) {
+        WorkflowManagerUI inner = null;
+        if (nc instanceof WorkflowManagerUI) {
+            inner = (WorkflowManagerUI)nc;
+        } else if (nc instanceof SubNodeContainerUI) {
+            inner = ((SubNodeContainerUI)nc).getWorkflowManager();
+        }
+        long count = 1;
+        if (inner != null) {
+            for (NodeContainerUI child : inner.getNodeContainers()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the data or <code>null</code> if it has been released
+     */
+    public synchronized T get() {
+        return m_data;
+    }
+
+    /**
+     * @return whether the data is available, i.e. has not been released
+     */
+    public synchronized boolean isAvailable() {
+        return m_data != null;
+    }
+
+    /**
+     * @return the estimated heap size in bytes of the data, 0 if released
+     */
+    public synchronized long getRetainedSize() {
+        return m_data == null ? 0 : m_estimatedSize;
+    }
+
+    /**
+     * Releases the data, the command holding it can't be undone (or redone) anymore afterwards.
+     */
+    public synchronized void release() {
+        m_data = null;
+    }
+}
@@ -67,7 +67,7 @@
  *
  * @author M. Berthold, University of Konstanz
  */
-public class ExpandMetaNodeCommand extends AbstractKNIMECommand {
+public class ExpandMetaNodeCommand extends AbstractKNIMECommand implements UndoDataHolder {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(
             ExpandMetaNodeCommand.class);
@@ -75,7 +75,7 @@ public class ExpandMetaNodeCommand extends AbstractKNIMECommand {
     private final NodeID m_id;
     private NodeID[] m_pastedNodes;
     private WorkflowAnnotationID[] m_pastedAnnotationIDs;
-    private WorkflowPersistor m_undoCopyPersistor;
+    private EvictableUndoData<WorkflowPersistor> m_undoCopyPersistor;
     private final WorkflowEditor m_editor;
 
     /**
@@ -112,7 +112,8 @@ public void execute() {
             WorkflowCopyContent.Builder cnt = WorkflowCopyContent.builder();
             cnt.setNodeIDs(m_id);
             cnt.setIncludeInOutConnections(true);
-            m_undoCopyPersistor = hostWFM.copy(true, cnt.build());
+            long estimatedSize = EvictableUndoData.estimateCopySize(getHostWFMUI(), new NodeID[]{m_id}, 0);
+            m_undoCopyPersistor = new EvictableUndoData<>(hostWFM.copy(true, cnt.build()), estimatedSize);
             WorkflowCopyContent wcc = hostWFM.expandMetaNode(m_id);
             m_pastedNodes = wcc.getNodeIDs();
             m_pastedAnnotationIDs = wcc.getAnnotationIDs();
@@ -141,7 +142,7 @@ public void execute() {
      */
     @Override
     public boolean canUndo() {
-        if (m_undoCopyPersistor != null) {
+        if (m_undoCopyPersistor != null && m_undoCopyPersistor.isAvailable()) {
             WorkflowManager hostWFM = getHostWFM();
             for (NodeID id : m_pastedNodes) {
                 if (!hostWFM.canRemoveNode(id)) {
@@ -158,6 +159,11 @@ public boolean canUndo() {
      */
     @Override
     public void undo() {
+        final WorkflowPersistor undoCopyPersistor = m_undoCopyPersistor == null ? null : m_undoCopyPersistor.get();
+        if (undoCopyPersistor == null) {
+            LOGGER.warn("Expanding the metanode can't be undone, the undo history exceeded its memory budget");
+            return;
+        }
         WorkflowManager hostWFM = getHostWFM();
         for (NodeID id : m_pastedNodes) {
             hostWFM.removeNode(id);
@@ -165,10 +171,30 @@ public void undo() {
         for (WorkflowAnnotation anno : hostWFM.getWorkflowAnnotations(m_pastedAnnotationIDs)) {
             hostWFM.removeAnnotation(anno);
         }
-        hostWFM.paste(m_undoCopyPersistor);
+        hostWFM.paste(undoCopyPersistor);
         m_pastedNodes = null;
         m_pastedAnnotationIDs = null;
         m_undoCopyPersistor = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public EvictableUndoData<?> getUndoData() {
+        return m_undoCopyPersistor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void dispose() {
+        if (m_undoCopyPersistor != null) {
+            m_undoCopyPersistor.release();
+            m_undoCopyPersistor = null;
+        }
+        super.dispose();
+    }
+
 }
@@ -65,7 +65,6 @@
 import org.eclipse.gef.editparts.ZoomManager;
 import org.eclipse.gef.requests.SelectionRequest;
 import org.eclipse.gef.tools.ConnectionDragCreationTool;
-import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.WorkflowEvent;
@@ -311,8 +310,9 @@ public void workflowChanged(final WorkflowEvent event) {
         if (event.getType().equals(WorkflowEvent.Type.CONNECTION_ADDED)
                 || event.getType()
                         .equals(WorkflowEvent.Type.CONNECTION_REMOVED)) {
-            // only enqueue runnable if we are interested in this event
-            Display.getDefault().asyncExec(new Runnable() {
+            // only enqueue runnable if we are interested in this event; the check whether this
+            // port is involved is done in the display thread (event content differs, so no coalescing)
+            EditPartUpdateDispatcher.forEditPart(this).schedule(new Runnable() {
                 @Override
                 public void run() {
                     if (!isActive()) {
@@ -97,6 +97,7 @@ public void activate() {
         super.activate();
         // need to know about metanode port changes
         getNodeContainer().addNodePropertyChangedListener(this);
+        WorkflowSpatialIndex.register(this);
     }
 
     /**
@@ -104,6 +105,7 @@ public void activate() {
      */
     @Override
     public void deactivate() {
+        WorkflowSpatialIndex.unregister(this);
         super.deactivate();
         getNodeContainer().removeNodePropertyChangedListener(this);
     }
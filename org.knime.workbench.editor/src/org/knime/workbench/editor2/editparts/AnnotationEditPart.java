@@ -128,6 +128,7 @@ public void activate() {
 
         // update the ui info now
         nodeUIInformationChanged(null);
+        WorkflowSpatialIndex.register(this);
     }
 
     /**
@@ -135,6 +136,7 @@ public void activate() {
      */
     @Override
     public void deactivate() {
+        WorkflowSpatialIndex.unregister(this);
         final IPreferenceStore store = KNIMEUIPlugin.getDefault().getPreferenceStore();
         store.removePropertyChangeListener(this);
 
@@ -55,6 +55,7 @@
 import org.eclipse.draw2d.PolylineConnection;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.gef.DefaultEditDomain;
+import org.eclipse.gef.EditDomain;
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.EditPolicy;
 import org.eclipse.gef.Request;
@@ -165,11 +166,13 @@ public void activate() {
         super.activate();
         getModel().addUIInformationListener(this);
         getModel().addProgressListener(this);
+        WorkflowSpatialIndex.register(this);
     }
 
     /** {@inheritDoc} */
     @Override
     public void deactivate() {
+        WorkflowSpatialIndex.unregister(this);
         getModel().removeUIInformationListener(this);
         getModel().removeProgressListener(this);
         super.deactivate();
@@ -331,8 +334,20 @@ protected void refreshVisuals() {
     private EditorUIInformation getCurrentEditorSettings() {
         //use the workflow editor (instead of the WorkflowManager) to get the settings from, otherwise
         //the settings won't get inherited from the parent workflow (if the displayed workflow is a metanode)
-        return ((WorkflowEditor)((DefaultEditDomain)getViewer().getEditDomain()).getEditorPart())
-            .getCurrentEditorSettings();
+        final EditDomain domain = getViewer().getEditDomain();
+        final Object editor = domain instanceof DefaultEditDomain ? ((DefaultEditDomain)domain).getEditorPart() : null;
+        if (editor instanceof WorkflowEditor) {
+            return ((WorkflowEditor)editor).getCurrentEditorSettings();
+        }
+        // viewers without an editor, e.g. offscreen viewers, provide the settings themselves
+        final Object settings = getViewer().getProperty(WorkflowEditor.VIEWER_PROPERTY_EDITOR_SETTINGS);
+        if (settings instanceof EditorUIInformation) {
+            return (EditorUIInformation)settings;
+        }
+        return EditorUIInformation.builder()
+            .setHasCurvedConnections(WorkflowEditor.getPrefHasCurvedConnections())
+            .setConnectionLineWidth(WorkflowEditor.getPrefConnectionLineWidth())
+            .build();
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,290 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
+import org.eclipse.swt.SWTException;
+import org.eclipse.swt.widgets.Display;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Collects UI updates of edit parts that are triggered by workflow events (node state, message, UI information, ...)
+ * and runs them in a single runnable at most once per display frame. Updates of the same edit part and kind are
+ * coalesced - the update runnables always read the current model state, so only the latest one needs to run. This
+ * keeps the SWT event queue small if many nodes change at once, e.g. when executing a loop over thousands of nodes.
+ *
+ * <p>
+ * One dispatcher is installed per workflow editor as property {@link #VIEWER_PROPERTY} of the graphical viewer. Edit
+ * parts in viewers without a dispatcher use a shared one (see {@link #forEditPart(EditPart)}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class EditPartUpdateDispatcher {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(EditPartUpdateDispatcher.class);
+
+    /** The viewer property under which the dispatcher of an editor is stored. */
+    public static final String VIEWER_PROPERTY = EditPartUpdateDispatcher.class.getName();
+
+    /** Minimum time between two flushes, roughly one display frame. */
+    static final long FRAME_INTERVAL_MS = 20;
+
+    /** Kinds of updates; updates of the same edit part and kind are coalesced. */
+    public enum UpdateKind {
+        /** Node (or port) state changed. */
+        STATE,
+        /** Node message changed. */
+        MESSAGE,
+        /** Position, bounds or other UI information changed. */
+        UI_INFO;
+    }
+
+    private static EditPartUpdateDispatcher sharedInstance;
+
+    private final Display m_display;
+
+    private final Object m_lock = new Object();
+
+    /** Pending updates, keys are either {@link UpdateKey} or unique objects (non-coalescable updates). */
+    private Map<Object, Runnable> m_pending = new LinkedHashMap<>();
+
+    private boolean m_flushScheduled;
+
+    /** Only accessed in the display thread. */
+    private long m_lastFlushNanos;
+
+    private volatile boolean m_disposed;
+
+    private final AtomicLong m_requestedUpdates = new AtomicLong();
+
+    private final AtomicLong m_executedUpdates = new AtomicLong();
+
+    private final AtomicLong m_flushes = new AtomicLong();
+
+    private final Runnable m_flushRunnable = this::flush;
+
+    private final Runnable m_scheduleFlushRunnable = () -> {
+        final long sinceLastFlush = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - m_lastFlushNanos);
+        if (sinceLastFlush >= FRAME_INTERVAL_MS) {
+            flush();
+        } else if (!m_display.isDisposed()) {
+            m_display.timerExec((int)(FRAME_INTERVAL_MS - sinceLastFlush), m_flushRunnable);
+        }
+    };
+
+    /**
+     * @param display the display to run the updates in
+     */
+    public EditPartUpdateDispatcher(final Display display) {
+        m_display = display;
+        m_lastFlushNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(FRAME_INTERVAL_MS);
+    }
+
+    /**
+     * Returns the dispatcher installed in the viewer of the passed edit part or a shared one if the edit part isn't
+     * (or no longer) part of a viewer with a dispatcher.
+     *
+     * @param part the edit part
+     * @return the dispatcher to use
+     */
+    public static EditPartUpdateDispatcher forEditPart(final EditPart part) {
+        final EditPart root = part.getParent() != null ? part.getRoot() : null;
+        final EditPartViewer viewer = root != null ? root.getViewer() : null;
+        if (viewer != null) {
+            final Object dispatcher = viewer.getProperty(VIEWER_PROPERTY);
+            if (dispatcher instanceof EditPartUpdateDispatcher) {
+                return (EditPartUpdateDispatcher)dispatcher;
+            }
+        }
+        return getSharedInstance();
+    }
+
+    private static synchronized EditPartUpdateDispatcher getSharedInstance() {
+        if (sharedInstance == null || sharedInstance.m_display.isDisposed()) {
+            sharedInstance = new EditPartUpdateDispatcher(Display.getDefault());
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * Schedules an update of the given kind for the edit part. If an update of the same part and kind is already
+     * pending it is replaced by the passed one. Can be called from any thread.
+     *
+     * @param part the edit part to update
+     * @param kind the kind of update
+     * @param update the update, run in the display thread
+     */
+    public void schedule(final EditPart part, final UpdateKind kind, final Runnable update) {
+        enqueue(new UpdateKey(part, kind), update);
+    }
+
+    /**
+     * Schedules an update that must not be coalesced with others (e.g. as it depends on event data). It's still run
+     * as part of the next flush. Can be called from any thread.
+     *
+     * @param update the update, run in the display thread
+     */
+    public void schedule(final Runnable update) {
+        enqueue(new Object(), update);
+    }
+
+    private void enqueue(final Object key, final Runnable update) {
+        if (m_disposed || m_display.isDisposed()) {
+            return;
+        }
+        m_requestedUpdates.incrementAndGet();
+        final boolean scheduleFlush;
+        synchronized (m_lock) {
+            m_pending.put(key, update);
+            scheduleFlush = !m_flushScheduled;
+            m_flushScheduled = true;
+        }
+        if (scheduleFlush) {
+            try {
+                m_display.asyncExec(m_scheduleFlushRunnable);
+            } catch (SWTException e) {
+                // display disposed in the meantime, nothing to update anymore
+            }
+        }
+    }
+
+    private void flush() {
+        final Map<Object, Runnable> updates;
+        synchronized (m_lock) {
+            updates = m_pending;
+            m_pending = new LinkedHashMap<>();
+            m_flushScheduled = false;
+        }
+        m_lastFlushNanos = System.nanoTime();
+        if (m_disposed) {
+            return;
+        }
+        m_flushes.incrementAndGet();
+        for (Runnable r : updates.values()) {
+            m_executedUpdates.incrementAndGet();
+            try {
+                r.run();
+            } catch (RuntimeException e) {
+                LOGGER.error("Error while updating workflow editor: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @return number of updates requested so far
+     */
+    public long getRequestedUpdates() {
+        return m_requestedUpdates.get();
+    }
+
+    /**
+     * @return number of updates actually run so far
+     */
+    public long getExecutedUpdates() {
+        return m_executedUpdates.get();
+    }
+
+    /**
+     * @return number of flushes (runnables posted to the display) so far
+     */
+    public long getFlushes() {
+        return m_flushes.get();
+    }
+
+    /**
+     * @return ratio of requested to executed updates (1 if nothing was coalesced)
+     */
+    public double getCoalescingRatio() {
+        final long executed = m_executedUpdates.get();
+        return executed == 0 ? 1.0 : (m_requestedUpdates.get() / (double)executed);
+    }
+
+    /**
+     * Discards pending updates; later requests are ignored. Logs the coalescing metrics on debug level.
+     */
+    public void dispose() {
+        m_disposed = true;
+        synchronized (m_lock) {
+            m_pending.clear();
+        }
+        LOGGER.debugWithFormat("UI update dispatcher: %d updates requested, %d run in %d flushes (ratio %.2f)",
+            getRequestedUpdates(), getExecutedUpdates(), getFlushes(), getCoalescingRatio());
+    }
+
+    /** Key for coalescable updates; edit parts are compared by identity. */
+    private static final class UpdateKey {
+        private final EditPart m_part;
+
+        private final UpdateKind m_kind;
+
+        UpdateKey(final EditPart part, final UpdateKind kind) {
+            m_part = part;
+            m_kind = kind;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(m_part) * 31 + m_kind.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof UpdateKey)) {
+                return false;
+            }
+            final UpdateKey other = (UpdateKey)obj;
+            return m_part == other.m_part && m_kind == other.m_kind;
+        }
+    }
+}
@@ -47,10 +47,14 @@
  */
 package org.knime.workbench.editor2.editparts;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -73,15 +77,41 @@
  * set name and attributes or reusing a default font. This class scales the font according to the system zoom level
  * (for high dpi displays) - that is, it downscales (!) the size by the corresponding factor!
  *
+ * <p>
+ * Fonts are reference counted. A font whose count drops to zero is kept for a while in case it is requested again
+ * and disposed after it has not been used for {@value #IDLE_TIMEOUT_MS} ms or when too many unused fonts are kept.
+ * The store may be used from any thread, fonts are always disposed in the UI thread.
+ *
  * @author ohl, KNIME AG, Zurich, Switzerland
  */
 public class FontStore {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(FontStore.class);
 
+    /** Time after which a font that is not used anymore is disposed. */
+    private static final long IDLE_TIMEOUT_MS = 60000;
+
+    /** Maximum number of fonts that are not used anymore but kept for reuse. */
+    private static final int MAX_IDLE_FONTS = 32;
+
+    /** All fonts, in use or idle. All fields below are guarded by this map. */
     private final Map<StoreKey, StoreValue> m_fontMap =
             new HashMap<StoreKey, StoreValue>();
 
+    /** Same values as {@link #m_fontMap} by font; the font data of a font may differ from the requested one. */
+    private final Map<Font, StoreValue> m_fontsByHandle = new IdentityHashMap<>();
+
+    /** Fonts with a use count of zero, in the order they became unused. */
+    private final LinkedHashMap<StoreKey, StoreValue> m_idleFonts = new LinkedHashMap<>();
+
+    private boolean m_evictionScheduled;
+
+    private long m_hitCount;
+
+    private long m_missCount;
+
+    private long m_evictionCount;
+
     private final String m_defFontName;
 
     private final int m_defFontStyle;
@@ -189,15 +219,21 @@ public Font getFont(final String name, final int size, final int style) {
             }
         }
         StoreKey key = new StoreKey(name, pt, style);
-        StoreValue value = m_fontMap.get(key);
-        if (value != null) {
-            value.incrUseCount();
-        } else {
-            value = new StoreValue(name, pt, style);
-            m_fontMap.put(key, value);
+        synchronized (m_fontMap) {
+            StoreValue value = m_fontMap.get(key);
+            if (value != null) {
+                if (value.incrUseCount() == 1) {
+                    m_idleFonts.remove(key);
+                }
+                m_hitCount++;
+            } else {
+                value = new StoreValue(key, name, pt, style);
+                m_fontMap.put(key, value);
+                m_fontsByHandle.put(value.getFont(), value);
+                m_missCount++;
+            }
+            return value.getFont();
         }
-        return value.getFont();
-
     }
 
     /** Get font according to KNIME style range. If font name and/or font
@@ -391,24 +427,122 @@ public Font getSystemDefFontNodeAnnotations() {
 
     /**
      * @param font releases one reference count of the specified font. If the
-     *            reference count is at zero, the font is disposed.
+     *            reference count is at zero, the font is disposed once it has
+     *            not been requested again for a while.
      * @return the reference count after this release
      */
     public int releaseFont(final Font font) {
-        StoreKey key = new StoreKey(font);
-        StoreValue val = m_fontMap.get(key);
-        if (val == null) {
-            // strange
-            return 0;
+        List<Font> evicted = null;
+        int usage;
+        synchronized (m_fontMap) {
+            StoreValue val = m_fontsByHandle.get(font);
+            if (val == null) {
+                // not from this store or released too often
+                return 0;
+            }
+            if (val.m_useCount == 0) {
+                // released more often than requested, already idle
+                return 0;
+            }
+            usage = val.decrUseCount();
+            if (usage == 0) {
+                val.m_idleSince = System.currentTimeMillis();
+                m_idleFonts.put(val.m_key, val);
+                if (m_idleFonts.size() > MAX_IDLE_FONTS) {
+                    evicted = evictIdleFonts(val.m_idleSince);
+                }
+                scheduleEviction();
+            }
         }
-        int usage = val.decrUseCount();
-        if (usage == 0) {
-            m_fontMap.remove(key);
-            val.getFont().dispose();
+        if (evicted != null) {
+            disposeFonts(evicted);
         }
         return usage;
     }
 
+    /** @return the number of font requests served by an existing font */
+    public long getHitCount() {
+        synchronized (m_fontMap) {
+            return m_hitCount;
+        }
+    }
+
+    /** @return the number of font requests that created a new font */
+    public long getMissCount() {
+        synchronized (m_fontMap) {
+            return m_missCount;
+        }
+    }
+
+    /** @return the number of unused fonts that have been disposed */
+    public long getEvictionCount() {
+        synchronized (m_fontMap) {
+            return m_evictionCount;
+        }
+    }
+
+    /** @return the number of fonts currently held, including the ones not used anymore but not yet disposed */
+    public int getFontCount() {
+        synchronized (m_fontMap) {
+            return m_fontMap.size();
+        }
+    }
+
+    /**
+     * Removes idle fonts that exceed the maximum number of idle fonts or that have been idle for too long. Needs to
+     * be called while holding the lock on {@link #m_fontMap}.
+     */
+    private List<Font> evictIdleFonts(final long now) {
+        List<Font> evicted = new ArrayList<>();
+        Iterator<StoreValue> it = m_idleFonts.values().iterator();
+        while (it.hasNext()) {
+            StoreValue val = it.next();
+            if (m_idleFonts.size() <= MAX_IDLE_FONTS && now - val.m_idleSince < IDLE_TIMEOUT_MS) {
+                // all following fonts became idle later
+                break;
+            }
+            it.remove();
+            m_fontMap.remove(val.m_key);
+            m_fontsByHandle.remove(val.getFont());
+            evicted.add(val.getFont());
+            m_evictionCount++;
+        }
+        return evicted;
+    }
+
+    /** Needs to be called while holding the lock on {@link #m_fontMap}. */
+    private void scheduleEviction() {
+        if (m_evictionScheduled || m_idleFonts.isEmpty()) {
+            return;
+        }
+        m_evictionScheduled = true;
+        final Display display = Display.getDefault();
+        display.asyncExec(() -> display.timerExec((int)IDLE_TIMEOUT_MS, this::evictIdleFonts));
+    }
+
+    private void evictIdleFonts() {
+        List<Font> evicted;
+        synchronized (m_fontMap) {
+            m_evictionScheduled = false;
+            evicted = evictIdleFonts(System.currentTimeMillis());
+            scheduleEviction();
+        }
+        if (!evicted.isEmpty()) {
+            disposeFonts(evicted);
+            LOGGER.debugWithFormat("Disposed %d unused fonts, %d fonts left (%d hits, %d misses, %d evictions)",
+                evicted.size(), getFontCount(), getHitCount(), getMissCount(), getEvictionCount());
+        }
+    }
+
+    private static void disposeFonts(final List<Font> fonts) {
+        final Display display = Display.getCurrent();
+        if (display != null) {
+            fonts.forEach(Font::dispose);
+        } else {
+            Display.getDefault().asyncExec(() -> fonts.forEach(Font::dispose));
+        }
+    }
+
     private final class StoreKey {
         private final String m_name;
 
@@ -416,18 +550,12 @@ private final class StoreKey {
 
         private final int m_style;
 
-        private StoreKey(final Font font) {
-            FontData fd = font.getFontData()[0];
-            m_name = fd.getName();
-            m_height = fd.getHeight();
-            m_style = fd.getStyle();
-        }
-
         private StoreKey(final String name, final int height, final int style) {
+            // font names are case insensitive, normalize them once such that equals and hashCode agree
             if (name != null && !name.isEmpty()) {
-                m_name = name;
+                m_name = name.toLowerCase();
             } else {
-                m_name = m_defFontName;
+                m_name = m_defFontName.toLowerCase();
             }
             if (height > 0) {
                 m_height = height;
@@ -452,25 +580,29 @@ public int hashCode() {
         public boolean equals(final Object obj) {
             if (obj instanceof StoreKey) {
                 StoreKey sk = (StoreKey)obj;
-                return (m_height == sk.m_height && m_style == sk.m_style && m_name
-                        .toLowerCase().equals(sk.m_name.toLowerCase()));
+                return (m_height == sk.m_height && m_style == sk.m_style && m_name.equals(sk.m_name));
             }
             return false;
         }
     }
 
     private final class StoreValue {
+        private final StoreKey m_key;
+
         private final Font m_font;
 
-        private AtomicInteger m_useCount = new AtomicInteger();
+        /** Guarded by {@link FontStore#m_fontMap}. */
+        private int m_useCount;
+
+        /** Time the use count dropped to zero, guarded by {@link FontStore#m_fontMap}. */
+        private long m_idleSince;
 
         /**
          * Initializes the usage count with one (meaning the font is tagged
          * being used once - no need to increment usage after creation).
-         *
-         * @param value
          */
-        private StoreValue(final String name, final int height, final int style) {
+        private StoreValue(final StoreKey key, final String name, final int height, final int style) {
+            m_key = key;
             String fName = name;
             if (fName == null || fName.isEmpty()) {
                 fName = m_defFontName;
@@ -481,12 +613,7 @@ private StoreValue(final String name, final int height, final int style) {
             }
 
             m_font = new Font(null, fName, fHeight, style);
-            m_useCount.set(1);
-        }
-
-        private StoreValue(final Font value) {
-            m_font = value;
-            m_useCount.set(1);
+            m_useCount = 1;
         }
 
         private Font getFont() {
@@ -497,11 +624,17 @@ private Font getFont() {
          * @return the new (incremented) usage count
          */
         private int incrUseCount() {
-            return m_useCount.incrementAndGet();
+            return ++m_useCount;
         }
 
+        /**
+         * @return the new (decremented) usage count, never negative
+         */
         private int decrUseCount() {
-            return m_useCount.decrementAndGet();
+            if (m_useCount > 0) {
+                m_useCount--;
+            }
+            return m_useCount;
         }
     }
 
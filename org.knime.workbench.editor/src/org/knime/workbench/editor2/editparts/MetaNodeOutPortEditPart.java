@@ -50,10 +50,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.draw2d.IFigure;
-import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.NodeStateChangeListener;
@@ -62,6 +60,7 @@
 import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.NodeOutPortUI;
 import org.knime.core.ui.node.workflow.WorkflowOutPortUI;
+import org.knime.workbench.editor2.editparts.EditPartUpdateDispatcher.UpdateKind;
 import org.knime.workbench.editor2.figures.MetaNodeOutPortFigure;
 
 /**
@@ -163,36 +162,24 @@ protected List<ConnectionContainerUI> getModelTargetConnections() {
         return EMPTY_LIST;
     }
 
-    private final AtomicBoolean m_updateInProgress = new AtomicBoolean();
-
     /**
      *
      * {@inheritDoc}
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
-        if (m_updateInProgress.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
+        EditPartUpdateDispatcher.forEditPart(this).schedule(this, UpdateKind.STATE, () -> {
+            if (!isActive()) {
                 return;
             }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    m_updateInProgress.set(false);
-                    if (!isActive()) {
-                        return;
-                    }
-                    MetaNodeOutPortFigure fig = (MetaNodeOutPortFigure)getFigure();
-                    WorkflowOutPortUI model = (WorkflowOutPortUI)getModel();
-                    fig.setState(model.getNodeState());
-                    rebuildTooltip();
-                    WorkflowOutPortUI outPort = (WorkflowOutPortUI)getModel();
-                    fig.setInactive(outPort.isInactive());
-                    fig.repaint();
-                }
-            });
-        }
+            MetaNodeOutPortFigure fig = (MetaNodeOutPortFigure)getFigure();
+            WorkflowOutPortUI model = (WorkflowOutPortUI)getModel();
+            fig.setState(model.getNodeState());
+            rebuildTooltip();
+            WorkflowOutPortUI outPort = (WorkflowOutPortUI)getModel();
+            fig.setInactive(outPort.isInactive());
+            fig.repaint();
+        });
     }
 
 }
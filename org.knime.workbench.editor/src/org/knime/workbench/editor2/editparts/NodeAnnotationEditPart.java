@@ -51,7 +51,6 @@
 import org.eclipse.gef.DragTracker;
 import org.eclipse.gef.Request;
 import org.eclipse.swt.graphics.Font;
-import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.workflow.Annotation;
 import org.knime.core.node.workflow.AnnotationData;
 import org.knime.core.node.workflow.NodeAnnotation;
@@ -60,6 +59,7 @@
 import org.knime.core.node.workflow.NodeUIInformationEvent;
 import org.knime.workbench.editor2.AnnotationUtilities;
 import org.knime.workbench.editor2.WorkflowSelectionDragEditPartsTracker;
+import org.knime.workbench.editor2.editparts.EditPartUpdateDispatcher.UpdateKind;
 import org.knime.workbench.editor2.figures.NodeAnnotationFigure;
 import org.knime.workbench.editor2.figures.NodeContainerFigure;
 import org.knime.workbench.ui.KNIMEUIPlugin;
@@ -80,7 +80,11 @@ public class NodeAnnotationEditPart extends AnnotationEditPart {
      */
     @Override
     public void nodeUIInformationChanged(final NodeUIInformationEvent evt) {
-        Display.getDefault().asyncExec(() -> {
+        EditPartUpdateDispatcher.forEditPart(this).schedule(this, UpdateKind.UI_INFO, () -> {
+            if (!isActive()) {
+                // may happen if the annotation was removed before this update is run
+                return;
+            }
             final WorkflowRootEditPart parent = (WorkflowRootEditPart)getParent();
             final NodeAnnotationFigure annoFig = (NodeAnnotationFigure)getFigure();
             annoFig.computeDisplay();
@@ -67,7 +67,6 @@
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -157,9 +156,11 @@
 import org.knime.workbench.editor2.WorkflowEditorMode;
 import org.knime.workbench.editor2.WorkflowManagerInput;
 import org.knime.workbench.editor2.WorkflowSelectionDragEditPartsTracker;
+import org.knime.workbench.editor2.actions.SelectionCapabilities;
 import org.knime.workbench.editor2.commands.CreateConnectionCommand;
 import org.knime.workbench.editor2.commands.ReplaceNodePortCommand;
 import org.knime.workbench.editor2.commands.ShiftConnectionCommand;
+import org.knime.workbench.editor2.editparts.EditPartUpdateDispatcher.UpdateKind;
 import org.knime.workbench.editor2.editparts.policy.PortGraphicalRoleEditPolicy;
 import org.knime.workbench.editor2.editparts.snap.SnapIconToGrid;
 import org.knime.workbench.editor2.figures.NodeContainerFigure;
@@ -333,6 +334,7 @@ public void activate() {
         // set the node message
         updateNodeMessage();
         callHideNodeName();
+        WorkflowSpatialIndex.register(this);
     }
 
     /**
@@ -340,6 +342,7 @@ public void activate() {
      */
     @Override
     public void deactivate() {
+        WorkflowSpatialIndex.unregister(this);
         final NodeContainerUI nc = getNodeContainer();
         final IPreferenceStore store = KNIMEUIPlugin.getDefault().getPreferenceStore();
 
@@ -445,45 +448,36 @@ protected List<NodePortUI> getModelChildren() {
         return ports;
     }
 
-    private final AtomicBoolean m_updateInProgress = new AtomicBoolean(false);
-
     /** {@inheritDoc} */
     @Override
     public void stateChanged(final NodeStateEvent state) {
-        // if another state is waiting to be processed, simply return
-        // and leave the work to the previously started thread. This
+        // what can be done with the selected nodes of this workflow might depend on this node's state
+        // (called from any thread, the part might have been removed meanwhile)
+        final EditPart parent = getParent();
+        if (parent != null) {
+            SelectionCapabilities.invalidate((WorkflowManagerUI)parent.getModel());
+        }
+        // pending state updates of this part are coalesced by the dispatcher. This
         // works because we are retrieving the current state information!
-        if (m_updateInProgress.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
-                return;
-            }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    // let others know we are in the middle of processing
-                    // this update - they will now need to start their own job.
-                    NodeContainerFigure fig = (NodeContainerFigure)getFigure();
-                    m_updateInProgress.set(false);
-                    if (isActive()) {
-                        NodeContainerUI nc = getNodeContainer();
-                        fig.setStateFromNC(nc);
-                        updateNodeMessage();
-                        // reset the tooltip text of the outports
-                        for (Object part : getChildren()) {
-                            if (part instanceof NodeOutPortEditPart || part instanceof WorkflowInPortEditPart
-                                || part instanceof MetaNodeOutPortEditPart) {
-                                AbstractPortEditPart outPortPart = (AbstractPortEditPart)part;
-                                outPortPart.rebuildTooltip();
-                            }
-                        }
-                        // always refresh visuals (does not seem to do anything
-                        // by default though: call repaints on updated figures).
-                        refreshVisuals();
+        EditPartUpdateDispatcher.forEditPart(this).schedule(this, UpdateKind.STATE, () -> {
+            if (isActive()) {
+                NodeContainerFigure fig = (NodeContainerFigure)getFigure();
+                NodeContainerUI nc = getNodeContainer();
+                fig.setStateFromNC(nc);
+                updateNodeMessage();
+                // reset the tooltip text of the outports
+                for (Object part : getChildren()) {
+                    if (part instanceof NodeOutPortEditPart || part instanceof WorkflowInPortEditPart
+                        || part instanceof MetaNodeOutPortEditPart) {
+                        AbstractPortEditPart outPortPart = (AbstractPortEditPart)part;
+                        outPortPart.rebuildTooltip();
                     }
                 }
-            });
-        }
+                // always refresh visuals (does not seem to do anything
+                // by default though: call repaints on updated figures).
+                refreshVisuals();
+            }
+        });
     }
 
     /** {@inheritDoc} */
@@ -493,34 +487,17 @@ public void progressChanged(final NodeProgressEvent pe) {
         ((NodeContainerFigure)getFigure()).getProgressFigure().progressChanged(pe.getNodeProgress());
     }
 
-    private final AtomicBoolean m_messageUpdateInProgress = new AtomicBoolean();
-
     /** {@inheritDoc} */
     @Override
     public void messageChanged(final NodeMessageEvent ignored) {
-        if (m_messageUpdateInProgress.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
-                return;
+        EditPartUpdateDispatcher.forEditPart(this).schedule(this, UpdateKind.MESSAGE, () -> {
+            if (isActive()) {
+                // must ignore event content - as this runnable
+                // may be processing another (following) event
+                updateNodeMessage();
+                refreshVisuals();
             }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    Display.getDefault().asyncExec(new Runnable() {
-                        @Override
-                        public void run() {
-                            m_messageUpdateInProgress.set(false);
-                            if (isActive()) {
-                                // must ignore event content - as this runnable
-                                // may be processing another (following) event
-                                updateNodeMessage();
-                                refreshVisuals();
-                            }
-                        }
-                    });
-                }
-            });
-        }
+        });
     }
 
     /** {@inheritDoc} */
@@ -534,14 +511,10 @@ public void nodeUIInformationChanged(final NodeUIInformationEvent evt) {
         //
         // As this code updates the UI it must be executed in the UI thread.
         //
-        Display.getDefault().asyncExec(new Runnable() {
-            @Override
-            public void run() {
-                if (isActive()) {
-
-                    NodeUIInformation uiInfo = getNodeContainer().getUIInformation();
-                    updateFigureFromUIinfo(uiInfo);
-                }
+        EditPartUpdateDispatcher.forEditPart(this).schedule(this, UpdateKind.UI_INFO, () -> {
+            if (isActive()) {
+                NodeUIInformation uiInfo = getNodeContainer().getUIInformation();
+                updateFigureFromUIinfo(uiInfo);
             }
         });
     }
@@ -1036,7 +1009,7 @@ private static boolean checkAndLoadIfLazyWorkflowManager(final WorkflowManagerUI
     /** {@inheritDoc} */
     @Override
     public void nodePropertyChanged(final NodePropertyChangedEvent e) {
-        Display.getDefault().asyncExec(new Runnable() {
+        EditPartUpdateDispatcher.forEditPart(this).schedule(new Runnable() {
             /** {@inheritDoc} */
             @Override
             public void run() {
@@ -50,10 +50,8 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.draw2d.IFigure;
-import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.NodeOutPort;
 import org.knime.core.node.workflow.NodeStateChangeListener;
@@ -62,6 +60,7 @@
 import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.NodeOutPortUI;
 import org.knime.core.ui.node.workflow.SingleNodeContainerUI;
+import org.knime.workbench.editor2.editparts.EditPartUpdateDispatcher.UpdateKind;
 import org.knime.workbench.editor2.figures.NodeOutPortFigure;
 
 /**
@@ -154,33 +153,21 @@ protected List<ConnectionContainerUI> getModelTargetConnections() {
         return EMPTY_LIST;
     }
 
-    private final AtomicBoolean m_updateInProgressFlag = new AtomicBoolean(false);
-
     /**
      * {@inheritDoc}
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
-        if (m_updateInProgressFlag.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
+        EditPartUpdateDispatcher.forEditPart(this).schedule(this, UpdateKind.STATE, () -> {
+            if (!isActive()) {
                 return;
             }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    if (!isActive()) {
-                        return;
-                    }
-                    m_updateInProgressFlag.set(false);
-                    NodeOutPortUI outPort = (NodeOutPortUI)getModel();
-                    NodeOutPortFigure fig = (NodeOutPortFigure)getFigure();
-                    rebuildTooltip();
-                    fig.setInactive(outPort.isInactive());
-                    fig.repaint();
-                }
-            });
-        }
+            NodeOutPortUI outPort = (NodeOutPortUI)getModel();
+            NodeOutPortFigure fig = (NodeOutPortFigure)getFigure();
+            rebuildTooltip();
+            fig.setInactive(outPort.isInactive());
+            fig.repaint();
+        });
     }
 
 }
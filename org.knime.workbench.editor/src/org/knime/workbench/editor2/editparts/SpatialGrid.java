@@ -0,0 +1,230 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+/**
+ * A uniform grid over the (possibly negative) freeform coordinate space. Each item is registered with one or more
+ * rectangular areas and stored in all cells these areas touch, so that a query only needs to look at the cells
+ * covered by the query rectangle. Queries return candidates - items whose areas share a cell with the query - and
+ * callers are expected to do the exact geometric test on the (few) returned items.
+ *
+ * <p>
+ * Items covering more than {@link #MAX_CELLS_PER_ITEM} cells (e.g. a connection spanning the whole workflow) are kept
+ * in a separate set and returned by every query.
+ *
+ * <p>
+ * Not thread-safe; edit part and figure access is confined to the SWT thread anyway.
+ *
+ * @param <T> the type of the indexed items
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SpatialGrid<T> {
+
+    /** Default cell size in pixels, roughly two node figures wide. */
+    static final int DEFAULT_CELL_SIZE = 128;
+
+    /** Items touching more cells than this are not stored per cell. */
+    static final int MAX_CELLS_PER_ITEM = 1024;
+
+    private final int m_cellSize;
+
+    private final Map<Long, Set<T>> m_cells = new HashMap<>();
+
+    private final Map<T, long[]> m_itemCells = new HashMap<>();
+
+    private final Set<T> m_oversizedItems = new LinkedHashSet<>();
+
+    /** Creates a grid with the {@link #DEFAULT_CELL_SIZE}. */
+    SpatialGrid() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize the edge length of a grid cell in pixels, must be positive
+     */
+    SpatialGrid(final int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        m_cellSize = cellSize;
+    }
+
+    /**
+     * Adds an item or replaces the areas of an item that is already in the grid.
+     *
+     * @param item the item
+     * @param areas the areas covered by the item; empty areas are ignored
+     */
+    void put(final T item, final Rectangle... areas) {
+        remove(item);
+        final Set<Long> keys = new HashSet<>();
+        for (Rectangle r : areas) {
+            if (r == null || r.isEmpty()) {
+                continue;
+            }
+            final int minX = cell(r.x);
+            final int maxX = cell(r.x + r.width - 1);
+            final int minY = cell(r.y);
+            final int maxY = cell(r.y + r.height - 1);
+            if ((long)(maxX - minX + 1) * (maxY - minY + 1) + keys.size() > MAX_CELLS_PER_ITEM) {
+                m_oversizedItems.add(item);
+                m_itemCells.put(item, new long[0]);
+                return;
+            }
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    keys.add(key(x, y));
+                }
+            }
+        }
+        final long[] itemCells = new long[keys.size()];
+        int i = 0;
+        for (Long key : keys) {
+            m_cells.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(item);
+            itemCells[i++] = key;
+        }
+        m_itemCells.put(item, itemCells);
+    }
+
+    /**
+     * Removes an item from the grid. Does nothing if the item is unknown.
+     *
+     * @param item the item to remove
+     */
+    void remove(final T item) {
+        final long[] itemCells = m_itemCells.remove(item);
+        if (itemCells == null) {
+            return;
+        }
+        m_oversizedItems.remove(item);
+        for (long key : itemCells) {
+            final Set<T> cell = m_cells.get(key);
+            if (cell != null) {
+                cell.remove(item);
+                if (cell.isEmpty()) {
+                    m_cells.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param item an item
+     * @return whether the item is in the grid
+     */
+    boolean contains(final T item) {
+        return m_itemCells.containsKey(item);
+    }
+
+    /**
+     * Returns all items that share at least one cell with the given area.
+     *
+     * @param area the query area
+     * @return the candidate items (a superset of the items actually intersecting the area), never null
+     */
+    Set<T> query(final Rectangle area) {
+        if (m_itemCells.isEmpty() || area.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<T> result = new LinkedHashSet<>(m_oversizedItems);
+        final int minX = cell(area.x);
+        final int maxX = cell(area.x + area.width - 1);
+        final int minY = cell(area.y);
+        final int maxY = cell(area.y + area.height - 1);
+        if ((long)(maxX - minX + 1) * (maxY - minY + 1) > m_cells.size()) {
+            // query covers more cells than are populated, iterating the populated ones is cheaper
+            for (Map.Entry<Long, Set<T>> e : m_cells.entrySet()) {
+                final long key = e.getKey();
+                final int x = (int)(key >> 32);
+                final int y = (int)key;
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                    result.addAll(e.getValue());
+                }
+            }
+            return result;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                final Set<T> cell = m_cells.get(key(x, y));
+                if (cell != null) {
+                    result.addAll(cell);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** @return the number of items in the grid */
+    int size() {
+        return m_itemCells.size();
+    }
+
+    /** Removes all items. */
+    void clear() {
+        m_cells.clear();
+        m_itemCells.clear();
+        m_oversizedItems.clear();
+    }
+
+    private int cell(final int coordinate) {
+        return Math.floorDiv(coordinate, m_cellSize);
+    }
+
+    private static long key(final int x, final int y) {
+        return ((long)x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
@@ -52,7 +52,9 @@
 import java.util.EventObject;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -152,6 +154,8 @@ public class WorkflowRootEditPart extends AbstractWorkflowEditPart implements
     private final Set<WorkflowAnnotation> m_annotationSelection =
             new LinkedHashSet<WorkflowAnnotation>();
 
+    private final WorkflowSpatialIndex m_spatialIndex = new WorkflowSpatialIndex();
+
     /**
      * @return The <code>WorkflowManager</code> that is used as model for this
      *         edit part
@@ -160,6 +164,13 @@ public WorkflowManagerUI getWorkflowManager() {
         return (WorkflowManagerUI)getModel();
     }
 
+    /**
+     * @return the spatial index of the nodes, annotations, port bars and connections shown in this workflow
+     */
+    public WorkflowSpatialIndex getSpatialIndex() {
+        return m_spatialIndex;
+    }
+
     /**
      * Sets the NodeIDs from a set of nodes that are added to the editor and
      * should be selected as soon as they appear.
@@ -339,6 +350,7 @@ public void deactivate() {
             EditPart editPart = (EditPart)o;
             editPart.deactivate();
         }
+        m_spatialIndex.clear();
         getWorkflowManager().removeListener(this);
         getViewer().getEditDomain().getCommandStack()
                 .removeCommandStackListener(this);
@@ -411,46 +423,165 @@ protected void createEditPolicies() {
 
     private final AtomicBoolean m_workflowChangedOngoingBoolean = new AtomicBoolean();
 
+    /** Events received but not yet processed in the display thread. */
+    private final Queue<WorkflowEvent> m_pendingWorkflowEvents = new ConcurrentLinkedQueue<WorkflowEvent>();
+
     /**
-     * Controller is getting notified about model changes. This invokes
-     * <code>refreshChildren</code> keep in sync with the model.
+     * Bursts with more events than this are handled by a full refresh, which reconciles all children in one pass
+     * instead of searching the children for every single event.
+     */
+    static final int MAX_INCREMENTAL_EVENTS = 64;
+
+    /**
+     * Controller is getting notified about model changes. Events are collected and processed in one go in the display
+     * thread: added and removed nodes are mapped to the creation and removal of their edit parts, connection changes
+     * are handled by the involved port edit parts. Any other structural change falls back to
+     * <code>refreshChildren</code> to keep in sync with the model.
      *
      * {@inheritDoc}
      */
     @Override
     public void workflowChanged(final WorkflowEvent event) {
-
+        m_pendingWorkflowEvents.add(event);
         if (m_workflowChangedOngoingBoolean.compareAndSet(false, true)) {
             Display.getDefault().asyncExec(new Runnable() {
                 @Override
                 public void run() {
                     m_workflowChangedOngoingBoolean.set(false);
+                    processPendingWorkflowEvents();
+                }
+            });
+        }
+    }
 
-                    // refreshing the children
-                    refreshChildren();
+    /**
+     * Processes the events collected since the last call as one batch, called in the display thread. Package scope so
+     * that tests can control the batches.
+     */
+    void processPendingWorkflowEvents() {
+        final List<WorkflowEvent> events = new ArrayList<WorkflowEvent>();
+        WorkflowEvent event;
+        while ((event = m_pendingWorkflowEvents.poll()) != null) {
+            events.add(event);
+        }
+        if (events.isEmpty() || !isActive()) {
+            return;
+        }
+        boolean handled = events.size() <= MAX_INCREMENTAL_EVENTS;
+        boolean childrenChanged = false;
+        for (int i = 0; handled && i < events.size(); i++) {
+            final WorkflowEvent e = events.get(i);
+            switch (e.getType()) {
+                case NODE_ADDED:
+                    handled = addNodeChild(e.getID());
+                    childrenChanged = true;
+                    break;
+                case NODE_REMOVED:
+                    removeNodeChild(e.getID());
+                    childrenChanged = true;
+                    break;
+                case CONNECTION_ADDED:
+                case CONNECTION_REMOVED:
+                    // the port edit parts listen to connection changes themselves
+                case WORKFLOW_DIRTY:
+                    break;
+                default:
+                    handled = false;
+            }
+        }
+        if (!handled) {
+            refreshAllChildren();
+        } else if (childrenChanged) {
+            getFigure().revalidate();
+        }
+    }
+
+    /** Creates the edit parts of an added node and its annotation. */
+    private boolean addNodeChild(final NodeID id) {
+        if (findNodeChild(id) != null) {
+            return true;
+        }
+        final NodeContainerUI nc;
+        try {
+            nc = getWorkflowManager().getNodeContainer(id);
+        } catch (IllegalArgumentException e) {
+            // removed again in the meantime, let the full refresh sort it out
+            return false;
+        }
+        if (Wrapper.wraps(nc, WorkflowManager.class) && Wrapper.unwrapWFM(nc).isHiddenInUI()) {
+            return true;
+        }
+        // same z-order as in getModelChildren: annotations, node annotations, nodes, port bars
+        final NodeAnnotation nodeAnno = nc.getNodeAnnotation();
+        if (nodeAnno != null && !getViewer().getEditPartRegistry().containsKey(nodeAnno)) {
+            addChild(createChild(nodeAnno), getFirstChildIndex(NodeContainerEditPart.class));
+        }
+        addChild(createChild(nc), getFirstChildIndex(AbstractWorkflowPortBarEditPart.class));
+        return true;
+    }
 
-                    // refresing connections
-                    refreshSourceConnections();
-                    refreshTargetConnections();
+    /** Removes the edit parts of a removed node and its annotation, if present. */
+    private void removeNodeChild(final NodeID id) {
+        for (Object child : new ArrayList<Object>(getChildren())) {
+            if (child instanceof NodeAnnotationEditPart
+                && id.equals(((NodeAnnotation)((NodeAnnotationEditPart)child).getModel()).getNodeID())) {
+                removeChild((EditPart)child);
+            } else if (child instanceof NodeContainerEditPart
+                && id.equals(((NodeContainerEditPart)child).getNodeContainer().getID())) {
+                removeChild((EditPart)child);
+            }
+        }
+    }
 
-                    // update out port (workflow in port) tooltips
+    private NodeContainerEditPart findNodeChild(final NodeID id) {
+        for (Object child : getChildren()) {
+            if (child instanceof NodeContainerEditPart
+                && id.equals(((NodeContainerEditPart)child).getNodeContainer().getID())) {
+                return (NodeContainerEditPart)child;
+            }
+        }
+        return null;
+    }
 
-                    for (Object part : getChildren()) {
+    /**
+     * @return the index of the first child that is an instance of the given class (or of a class that is placed after
+     *         it, see {@link #getModelChildren()}), the number of children if there is none
+     */
+    private int getFirstChildIndex(final Class<? extends EditPart> partClass) {
+        final List<?> children = getChildren();
+        for (int i = 0; i < children.size(); i++) {
+            final Object child = children.get(i);
+            if (partClass.isInstance(child) || child instanceof AbstractWorkflowPortBarEditPart) {
+                return i;
+            }
+        }
+        return children.size();
+    }
 
-                        if (part instanceof NodeOutPortEditPart
-                                || part instanceof WorkflowInPortEditPart) {
-                            AbstractPortEditPart outPortPart =
-                                    (AbstractPortEditPart)part;
-                            outPortPart.rebuildTooltip();
-                        }
-                    }
+    /** The full refresh, reconciling all children, connections and visuals with the model. */
+    private void refreshAllChildren() {
+        // refreshing the children
+        refreshChildren();
 
-                    // always refresh visuals
-                    getFigure().revalidate();
-                    refreshVisuals();
-                }
-            });
+        // refresing connections
+        refreshSourceConnections();
+        refreshTargetConnections();
+
+        // update out port (workflow in port) tooltips
+
+        for (Object part : getChildren()) {
+
+            if (part instanceof NodeOutPortEditPart
+                    || part instanceof WorkflowInPortEditPart) {
+                AbstractPortEditPart outPortPart =
+                        (AbstractPortEditPart)part;
+                outPortPart.rebuildTooltip();
+            }
         }
+
+        // always refresh visuals
+        getFigure().revalidate();
+        refreshVisuals();
     }
 
     private final AtomicBoolean m_nodeUIChangedOngoingBoolean = new AtomicBoolean();
@@ -0,0 +1,237 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.Connection;
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.ConnectionEditPart;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
+import org.eclipse.gef.GraphicalEditPart;
+
+/**
+ * Spatial index of the node, annotation, workflow port bar and connection edit parts of one
+ * {@link WorkflowRootEditPart}. The index is kept up to date incrementally: parts register themselves when activated
+ * and unregister when deactivated, and the index listens to their figures for bound (or connection point) changes.
+ * Tools like the marquee selection and the drop target detection use it to look only at the parts close to the
+ * mouse instead of iterating all children of the workflow.
+ *
+ * <p>
+ * All coordinates are in the coordinate system of the root's content pane, i.e. unscaled workflow coordinates.
+ * Connections are indexed per segment (including the control points of curved connections), so long connections
+ * don't show up as candidates everywhere in between their end points. All queries return candidates whose indexed
+ * area may intersect the query; callers still do their exact hit test.
+ *
+ * <p>
+ * Must only be used in the SWT thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class WorkflowSpatialIndex {
+
+    /** Margin added around connection segments, covers line width and hit tolerance of connections. */
+    private static final int CONNECTION_MARGIN = 12;
+
+    /** See CurvedPolylineConnection - control points of a curved segment are placed at this relative distance. */
+    private static final double CURVE_CONTROL_POINT_PLACEMENT = 0.3;
+
+    private final SpatialGrid<GraphicalEditPart> m_grid = new SpatialGrid<>();
+
+    private final Map<GraphicalEditPart, FigureListener> m_listeners = new HashMap<>();
+
+    /**
+     * Returns the index of the workflow the given part is shown in.
+     *
+     * @param part an edit part of a workflow editor
+     * @return the index of the viewer's {@link WorkflowRootEditPart} or null if the part is not (or no longer) shown
+     *         in a workflow viewer
+     */
+    public static WorkflowSpatialIndex forEditPart(final EditPart part) {
+        final EditPartViewer viewer = part.getParent() != null ? part.getViewer() : null;
+        if (viewer != null && viewer.getContents() instanceof WorkflowRootEditPart) {
+            return ((WorkflowRootEditPart)viewer.getContents()).getSpatialIndex();
+        }
+        return null;
+    }
+
+    /**
+     * Adds the part to the index of its workflow, if there is one. Called by the parts when they are activated.
+     *
+     * @param part the part to add
+     */
+    static void register(final GraphicalEditPart part) {
+        final WorkflowSpatialIndex index = forEditPart(part);
+        if (index != null) {
+            index.add(part);
+        }
+    }
+
+    /**
+     * Removes the part from the index of its workflow, if there is one. Called by the parts when they are deactivated.
+     *
+     * @param part the part to remove
+     */
+    static void unregister(final GraphicalEditPart part) {
+        final WorkflowSpatialIndex index = forEditPart(part);
+        if (index != null) {
+            index.remove(part);
+        }
+    }
+
+    /**
+     * Adds the part to the index (or updates its location if it is already part of it) and starts tracking changes
+     * of its figure.
+     *
+     * @param part the part to add
+     */
+    public void add(final GraphicalEditPart part) {
+        if (!m_listeners.containsKey(part)) {
+            final FigureListener listener = source -> update(part);
+            part.getFigure().addFigureListener(listener);
+            m_listeners.put(part, listener);
+        }
+        update(part);
+    }
+
+    /**
+     * Removes the part from the index. Does nothing if the part is not indexed.
+     *
+     * @param part the part to remove
+     */
+    public void remove(final GraphicalEditPart part) {
+        final FigureListener listener = m_listeners.remove(part);
+        if (listener != null) {
+            part.getFigure().removeFigureListener(listener);
+        }
+        m_grid.remove(part);
+    }
+
+    /** Removes all parts from the index. */
+    public void clear() {
+        for (Map.Entry<GraphicalEditPart, FigureListener> e : m_listeners.entrySet()) {
+            e.getKey().getFigure().removeFigureListener(e.getValue());
+        }
+        m_listeners.clear();
+        m_grid.clear();
+    }
+
+    /** @return the number of indexed parts */
+    public int size() {
+        return m_grid.size();
+    }
+
+    /**
+     * Returns the parts whose figures may intersect the given area.
+     *
+     * @param area the area in content pane coordinates
+     * @return the candidate parts, never null
+     */
+    public Set<GraphicalEditPart> findIntersecting(final Rectangle area) {
+        return m_grid.query(area);
+    }
+
+    /**
+     * Returns the parts whose figures contain the given point (according to {@link IFigure#containsPoint(Point)}, so
+     * connections are hit tested against their line).
+     *
+     * @param p the point in content pane coordinates
+     * @return the parts at that point, never null
+     */
+    public List<GraphicalEditPart> findAt(final Point p) {
+        final List<GraphicalEditPart> result = new ArrayList<>();
+        for (GraphicalEditPart part : m_grid.query(new Rectangle(p.x, p.y, 1, 1))) {
+            if (part.getFigure().containsPoint(p)) {
+                result.add(part);
+            }
+        }
+        return result;
+    }
+
+    private void update(final GraphicalEditPart part) {
+        final IFigure figure = part.getFigure();
+        if (part instanceof ConnectionEditPart && figure instanceof Connection) {
+            m_grid.put(part, getSegmentAreas(((Connection)figure).getPoints()));
+        } else {
+            m_grid.put(part, figure.getBounds().getCopy());
+        }
+    }
+
+    /**
+     * Bounds of each segment of a connection, including the control points a curved connection would use for it.
+     */
+    static Rectangle[] getSegmentAreas(final PointList points) {
+        if (points == null || points.size() == 0) {
+            return new Rectangle[0];
+        }
+        if (points.size() == 1) {
+            final Point p = points.getFirstPoint();
+            return new Rectangle[]{new Rectangle(p.x, p.y, 1, 1).expand(CONNECTION_MARGIN, CONNECTION_MARGIN)};
+        }
+        final Rectangle[] areas = new Rectangle[points.size() - 1];
+        for (int i = 1; i < points.size(); i++) {
+            final Point from = points.getPoint(i - 1);
+            final Point to = points.getPoint(i);
+            final int controlOffset = (int)Math.ceil(CURVE_CONTROL_POINT_PLACEMENT * from.getDistance(to));
+            final Rectangle area = new Rectangle(from, to);
+            area.union(from.x + controlOffset, from.y);
+            area.union(to.x - controlOffset, to.y);
+            areas[i - 1] = area.expand(CONNECTION_MARGIN, CONNECTION_MARGIN);
+        }
+        return areas;
+    }
+}
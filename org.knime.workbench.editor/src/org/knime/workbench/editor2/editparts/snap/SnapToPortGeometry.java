@@ -48,10 +48,15 @@
 package org.knime.workbench.editor2.editparts.snap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.draw2d.Connection;
 import org.eclipse.draw2d.IFigure;
@@ -209,6 +214,8 @@ public String toString() {
      */
     private static final double THRESHOLD = 5.0001;
 
+    private static final Comparator<Entry> ENTRY_OFFSET_ORDER = Comparator.comparingInt(e -> e.m_offset);
+
     private boolean m_cachedCloneBool;
 
     /**
@@ -234,6 +241,12 @@ public String toString() {
 
     private final ZoomManager m_zoomManager;
 
+    /** The row offsets grouped for {@link #getCorrectionForY(Entry[], Map, Entry[], int)}. */
+    private Map<PortType, int[]>[] m_sortedRowOffsets;
+
+    /** The entries {@link #m_sortedRowOffsets} were computed from. */
+    private Entry[] m_sortedRowOffsetsSource;
+
     /**
      * Constructs a helper that will use the given part as its basis for
      * snapping. The part's contents pane will provide the coordinate system and
@@ -260,18 +273,15 @@ public SnapToPortGeometry(final GraphicalEditPart container) {
      */
     protected List generateSnapPartsList(final List exclusions) {
         // Don't snap to any figure that is being dragged
-        List<Object> children = new ArrayList<Object>(m_container.getChildren());
-        children.removeAll(exclusions);
-
-        // Don't snap to hidden figures
-        List hiddenChildren = new ArrayList();
-        for (Iterator iter = children.iterator(); iter.hasNext();) {
+        Set<Object> excluded = new HashSet<Object>(exclusions);
+        List<Object> children = new ArrayList<Object>();
+        for (Iterator iter = m_container.getChildren().iterator(); iter.hasNext();) {
             GraphicalEditPart child = (GraphicalEditPart)iter.next();
-            if (!child.getFigure().isVisible()) {
-                hiddenChildren.add(child);
+            // Don't snap to hidden figures
+            if (!excluded.contains(child) && child.getFigure().isVisible()) {
+                children.add(child);
             }
         }
-        children.removeAll(hiddenChildren);
 
         return children;
     }
@@ -324,22 +334,26 @@ protected double getCorrectionForY(final Entry[] entries,
 
         // get the smallest distance to the next y value
         double result = Double.MAX_VALUE;
-        for (Entry entry : entries) {
-            for (Entry y : ys) {
-
-                // only compare inports to outports as only oposite parts
-                // can connect and must be alligned
-                if (!(entry.m_inport ^ y.m_inport)) {
-                    continue;
-                }
-
-                // and only ports of same type (data - data, model-model)
-                // are snaped
-                if (!entry.m_portType .equals(y.m_portType)) {
-                    continue;
-                }
+        Map<PortType, int[]>[] offsets = getSortedRowOffsets(entries);
+        for (Entry y : ys) {
+
+            // only compare inports to outports as only oposite parts
+            // can connect and must be alligned
+            // and only ports of same type (data - data, model-model)
+            // are snaped
+            int[] candidates = offsets[y.m_inport ? 0 : 1].get(y.m_portType);
+            if (candidates == null) {
+                continue;
+            }
 
-                double diff = entry.m_offset - (y.m_offset + moveDelta);
+            // nearest candidate via binary search on the sorted offsets
+            int target = y.m_offset + moveDelta;
+            int index = Arrays.binarySearch(candidates, target);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            for (int i = Math.max(0, index - 1); i <= Math.min(candidates.length - 1, index); i++) {
+                double diff = candidates[i] - target;
                 if (Math.abs(diff) < Math.abs(result)) {
                     result = diff;
                 }
@@ -353,7 +367,7 @@ protected double getCorrectionForY(final Entry[] entries,
      * Returns the correction value between {@link #THRESHOLD}, or the
      * THRESHOLD if no corrections were found.
      *
-     * @param entries the entries
+     * @param entries the entries, sorted by offset
      * @param extendedData the map for setting values
      * @param vert <code>true</code> if vertical
      * @param value the value being corrected
@@ -373,7 +387,9 @@ protected double getCorrectionFor(final Entry[] entries,
             property = vert ? KEY_EAST_ANCHOR : KEY_SOUTH_ANCHOR;
         }
 
-        for (int i = 0; i < entries.length; i++) {
+        // entries are sorted by offset, only the ones within the threshold can snap
+        int from = lowerBound(entries, (int)Math.floor(value - THRESHOLD));
+        for (int i = from; i < entries.length && entries[i].m_offset <= value + THRESHOLD; i++) {
             Entry entry = entries[i];
             double magnitude;
 
@@ -527,6 +543,56 @@ protected void populateRowsAndCols(final List parts, final List dragedParts) {
 
         m_rows = rowVector.toArray(new Entry[rowVector.size()]);
         m_cols = colVector.toArray(new Entry[colVector.size()]);
+        // sorted so that corrections can be found by binary search while dragging
+        Arrays.sort(m_rows, ENTRY_OFFSET_ORDER);
+        Arrays.sort(m_cols, ENTRY_OFFSET_ORDER);
+    }
+
+    /**
+     * Index of the first entry whose offset is greater or equal to the given value.
+     *
+     * @param entries entries sorted by offset
+     * @param value the value
+     * @return the index (entries.length if all offsets are smaller)
+     */
+    private static int lowerBound(final Entry[] entries, final int value) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].m_offset < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The offsets of the given row entries, split by in- and outports (index 0 and 1) and port type, each sorted
+     * ascending. Cached as long as the same entries are passed.
+     */
+    private Map<PortType, int[]>[] getSortedRowOffsets(final Entry[] entries) {
+        if (m_sortedRowOffsets == null || m_sortedRowOffsetsSource != entries) {
+            @SuppressWarnings("unchecked")
+            Map<PortType, List<Integer>>[] grouped = new Map[]{new HashMap<>(), new HashMap<>()};
+            for (Entry entry : entries) {
+                grouped[entry.m_inport ? 1 : 0].computeIfAbsent(entry.m_portType, t -> new ArrayList<>())
+                    .add(entry.m_offset);
+            }
+            @SuppressWarnings("unchecked")
+            Map<PortType, int[]>[] offsets = new Map[]{new HashMap<>(), new HashMap<>()};
+            for (int i = 0; i < grouped.length; i++) {
+                for (Map.Entry<PortType, List<Integer>> e : grouped[i].entrySet()) {
+                    int[] values = e.getValue().stream().mapToInt(Integer::intValue).sorted().toArray();
+                    offsets[i].put(e.getKey(), values);
+                }
+            }
+            m_sortedRowOffsets = offsets;
+            m_sortedRowOffsetsSource = entries;
+        }
+        return m_sortedRowOffsets;
     }
 
     /**
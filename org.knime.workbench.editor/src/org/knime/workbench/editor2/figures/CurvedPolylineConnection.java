@@ -51,6 +51,7 @@
 import java.awt.geom.CubicCurve2D;
 import java.awt.geom.FlatteningPathIterator;
 import java.awt.geom.PathIterator;
+import java.util.Arrays;
 
 import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.geometry.Geometry;
@@ -65,6 +66,10 @@
  * A {@link ProgressPolylineConnection} that optionally can be rendered as a curved line, i.e. compose of possibly
  * multiple bezier curves.
  *
+ * <p>
+ * The curve geometry is computed lazily and cached for the current end- and bendpoints. Events that leave the points
+ * untouched (e.g. moving a node that this connection is not attached to) keep the cached curve.
+ *
  * @author Martin Horn
  */
 public class CurvedPolylineConnection extends ProgressPolylineConnection {
@@ -82,15 +87,34 @@ public class CurvedPolylineConnection extends ProgressPolylineConnection {
      */
     private static final double RELATIVE_CONTROL_POINT_PLACEMENT = 0.3;
 
+    /**
+     * Number of lines of the curve approximation that share one bounding box for the {@link #containsPoint(int, int)}
+     * check.
+     */
+    private static final int LINES_PER_CHUNK = 8;
+
     private static final Rectangle LINEBOUNDS = Rectangle.SINGLETON;
 
+    /** Whether to draw a curved polyline or a straight polyline. */
+    private boolean m_curved;
+
+    /**
+     * The end- and bendpoints the cached curve has been computed for (as returned by {@link PointList#toIntArray()}),
+     * <code>null</code> if there is no valid cached curve.
+     */
+    private int[] m_curvePoints = null;
 
     /**
      * Keeps track of all bezier curves as list of lines approximating it. It helps to speed-up the {@link #containsPoint(int, int)} calculation.
-     * At the same time it serves as a flag whether to draw a curved polyline (m_approxCurve!=null) or a straight polyline (m_approxCurve==null).
      */
     private PointList m_approxCurve = null;
 
+    /** The lines of {@link #m_approxCurve} in chunks of at most {@link #LINES_PER_CHUNK} lines. */
+    private PointList[] m_approxCurveChunks;
+
+    /** The bounds of each of the {@link #m_approxCurveChunks}, expanded by the tolerance. */
+    private Rectangle[] m_approxCurveChunkBounds;
+
     /**
      * The curve to be drawn (in case of a curved connection).
      */
@@ -110,20 +134,19 @@ public CurvedPolylineConnection(final boolean curved) {
      *            <code>false</code>)
      */
     public void setCurved(final boolean curved) {
-        if (curved) {
-            if (m_approxCurve == null) {
-                calculateCurve();
+        if (curved != m_curved) {
+            m_curved = curved;
+            if (!curved) {
+                disposeCurve();
             }
-        } else {
-            m_approxCurve = null;
-            m_path = null;
+            bounds = null;
         }
     }
 
     /** {@inheritDoc} */
     @Override
     protected void outlineShape(final Graphics g) {
-        if (m_approxCurve != null) {
+        if (m_curved && !LevelOfDetail.isStraightConnections(g) && ensureCurve()) {
             if (m_state < 0) {
                 setLineStyle(SWT.LINE_SOLID);
             } else {
@@ -156,7 +179,7 @@ protected void outlineShape(final Graphics g) {
      */
     @Override
     public boolean containsPoint(final int x, final int y) {
-        if (m_approxCurve != null) {
+        if (m_curved && ensureCurve()) {
             int tolerance = (int)Math.max(getLineWidthFloat() / 2.0f, TOLERANCE);
             LINEBOUNDS.setBounds(getBounds());
             LINEBOUNDS.expand(0, tolerance);
@@ -172,7 +195,14 @@ public boolean containsPoint(final int x, final int y) {
             if (!LINEBOUNDS.contains(x, y)) {
                 return false;
             }
-            return Geometry.polylineContainsPoint(m_approxCurve, x, y, TOLERANCE) || childrenContainsPoint(x, y);
+            // only test the lines of chunks whose bounding box contains the point
+            for (int i = 0; i < m_approxCurveChunks.length; i++) {
+                if (m_approxCurveChunkBounds[i].contains(x, y)
+                    && Geometry.polylineContainsPoint(m_approxCurveChunks[i], x, y, TOLERANCE)) {
+                    return true;
+                }
+            }
+            return childrenContainsPoint(x, y);
         } else {
             int tolerance = (int)Math.max(getLineWidthFloat() / 2.0f, TOLERANCE);
             LINEBOUNDS.setBounds(getBounds());
@@ -191,7 +221,7 @@ public boolean containsPoint(final int x, final int y) {
      */
     @Override
     public Rectangle getBounds() {
-        if (m_approxCurve != null) {
+        if (m_curved && (bounds != null || ensureCurve())) {
             if (bounds == null) {
                 final int expand = (int)(getLineWidthFloat() / 2.0f) + 10;
                 bounds = m_approxCurve.getBounds().getExpanded(expand, expand);
@@ -209,22 +239,69 @@ public Rectangle getBounds() {
     protected void fireFigureMoved() {
         super.fireFigureMoved();
 
-        if (m_approxCurve != null) {
-            calculateCurve();
+        if (m_curved && !isCurveValid()) {
+            // erase the old curve, the new one is computed when it's needed next (at the latest for the repaint)
             erase();
+            bounds = null;
             repaint();
         }
     }
 
-    private void calculateCurve() {
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        // release the native path, it's re-created if this connection is added again
+        disposeCurve();
+    }
+
+    /** @return whether the cached curve has been computed for the current points */
+    private boolean isCurveValid() {
+        return m_curvePoints != null && Arrays.equals(m_curvePoints, getPoints().toIntArray());
+    }
+
+    /**
+     * Makes sure the cached curve matches the current points.
+     *
+     * @return <code>true</code> if there is a curve, <code>false</code> if there are not enough points (yet)
+     */
+    private boolean ensureCurve() {
+        if (isCurveValid()) {
+            return true;
+        }
+        final PointList points = getPoints();
+        if (points.size() < 2) {
+            return false;
+        }
+        calculateCurve(points);
+        m_curvePoints = points.toIntArray().clone();
+        return true;
+    }
+
+    private void disposeCurve() {
+        if (m_path != null) {
+            m_path.dispose();
+            m_path = null;
+        }
+        m_approxCurve = null;
+        m_approxCurveChunks = null;
+        m_approxCurveChunkBounds = null;
+        m_curvePoints = null;
+    }
+
+    private void calculateCurve(final PointList points) {
         //redraw the path and re-determine the curve approximation
         if (m_approxCurve != null) {
             m_approxCurve.removeAllPoints();
         } else {
             m_approxCurve = new PointList();
         }
+        if (m_path != null) {
+            m_path.dispose();
+        }
 
-        final PointList points = getPoints();
         m_path = new Path(Display.getDefault());
         m_path.moveTo(points.getFirstPoint().x, points.getFirstPoint().y);
         m_approxCurve.addPoint(points.getFirstPoint().x, points.getFirstPoint().y);
@@ -256,6 +333,22 @@ private void calculateCurve() {
             lastPoint = new Point(x, y);
         }
 
+        // split the approximation into chunks (sharing their first and last point) with their own bounding boxes
+        final int lines = Math.max(m_approxCurve.size() - 1, 1);
+        final int chunkCount = (lines + LINES_PER_CHUNK - 1) / LINES_PER_CHUNK;
+        m_approxCurveChunks = new PointList[chunkCount];
+        m_approxCurveChunkBounds = new Rectangle[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            final int first = c * LINES_PER_CHUNK;
+            final int last = Math.min(first + LINES_PER_CHUNK, m_approxCurve.size() - 1);
+            final PointList chunk = new PointList(last - first + 1);
+            for (int i = first; i <= last; i++) {
+                chunk.addPoint(m_approxCurve.getPoint(i));
+            }
+            m_approxCurveChunks[c] = chunk;
+            m_approxCurveChunkBounds[c] = chunk.getBounds().getExpanded(TOLERANCE, TOLERANCE);
+        }
+
         bounds = null;
     }
 }
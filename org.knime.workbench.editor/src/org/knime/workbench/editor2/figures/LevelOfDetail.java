@@ -0,0 +1,165 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.figures;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.graphics.RGB;
+import org.knime.workbench.ui.KNIMEUIPlugin;
+import org.knime.workbench.ui.preferences.PreferenceConstants;
+
+/**
+ * Zoom dependent level of detail for the workflow figures. When zoomed out far, text and icons are unreadable anyway
+ * but still make up most of the painting time of large workflows; below the configured zoom thresholds figures
+ * switch to a simplified rendering (see {@link PreferenceConstants#P_EDITOR_ZOOM_SIMPLIFIED_FIGURES} and
+ * {@link PreferenceConstants#P_EDITOR_ZOOM_STRAIGHT_CONNECTIONS}).
+ *
+ * <p>
+ * The zoom is taken from {@link Graphics#getAbsoluteScale()} of the graphics a figure is painted with, so figures
+ * don't need to know about the editor's zoom manager.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class LevelOfDetail {
+
+    private static volatile double simplifiedFiguresScale =
+        PreferenceConstants.P_DEFAULT_EDITOR_ZOOM_SIMPLIFIED_FIGURES / 100.0;
+
+    private static volatile double straightConnectionsScale =
+        PreferenceConstants.P_DEFAULT_EDITOR_ZOOM_STRAIGHT_CONNECTIONS / 100.0;
+
+    /** Average colors of node background images, used to fill simplified node boxes. */
+    private static final Map<Image, Color> AVERAGE_COLORS = new ConcurrentHashMap<>();
+
+    static {
+        final KNIMEUIPlugin plugin = KNIMEUIPlugin.getDefault();
+        if (plugin != null) {
+            final IPreferenceStore store = plugin.getPreferenceStore();
+            readThresholds(store);
+            store.addPropertyChangeListener(event -> {
+                final String property = event.getProperty();
+                if (PreferenceConstants.P_EDITOR_ZOOM_SIMPLIFIED_FIGURES.equals(property)
+                    || PreferenceConstants.P_EDITOR_ZOOM_STRAIGHT_CONNECTIONS.equals(property)) {
+                    readThresholds(store);
+                }
+            });
+        }
+    }
+
+    private LevelOfDetail() {
+    }
+
+    private static void readThresholds(final IPreferenceStore store) {
+        simplifiedFiguresScale = store.getInt(PreferenceConstants.P_EDITOR_ZOOM_SIMPLIFIED_FIGURES) / 100.0;
+        straightConnectionsScale = store.getInt(PreferenceConstants.P_EDITOR_ZOOM_STRAIGHT_CONNECTIONS) / 100.0;
+    }
+
+    /**
+     * @param graphics the graphics a figure is painted with
+     * @return whether nodes should be painted as plain boxes and annotations as filled rectangles
+     */
+    public static boolean isSimplifiedFigures(final Graphics graphics) {
+        return graphics.getAbsoluteScale() < simplifiedFiguresScale;
+    }
+
+    /**
+     * @param graphics the graphics a connection is painted with
+     * @return whether curved connections should be painted as straight lines
+     */
+    public static boolean isStraightConnections(final Graphics graphics) {
+        return graphics.getAbsoluteScale() < straightConnectionsScale;
+    }
+
+    /**
+     * Returns the average color of the opaque pixels of an image (computed once per image). Images are expected to be
+     * shared, long-living instances (e.g. from the image repository) and the colors are never disposed.
+     *
+     * @param image an image, may be null
+     * @return the average color, {@link ColorConstants#gray} for null or fully transparent images
+     */
+    static Color getAverageColor(final Image image) {
+        if (image == null || image.isDisposed()) {
+            return ColorConstants.gray;
+        }
+        return AVERAGE_COLORS.computeIfAbsent(image, LevelOfDetail::computeAverageColor);
+    }
+
+    private static Color computeAverageColor(final Image image) {
+        final ImageData data = image.getImageData();
+        long red = 0;
+        long green = 0;
+        long blue = 0;
+        long count = 0;
+        final boolean transparentPixel = data.getTransparencyType() == SWT.TRANSPARENCY_PIXEL;
+        for (int y = 0; y < data.height; y++) {
+            for (int x = 0; x < data.width; x++) {
+                final int pixel = data.getPixel(x, y);
+                if (data.getAlpha(x, y) < 128 || (transparentPixel && pixel == data.transparentPixel)) {
+                    continue;
+                }
+                final RGB rgb = data.palette.getRGB(pixel);
+                red += rgb.red;
+                green += rgb.green;
+                blue += rgb.blue;
+                count++;
+            }
+        }
+        if (count == 0) {
+            return ColorConstants.gray;
+        }
+        return new Color(null, (int)(red / count), (int)(green / count), (int)(blue / count));
+    }
+}
@@ -49,11 +49,17 @@
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.eclipse.draw2d.BorderLayout;
 import org.eclipse.draw2d.ColorConstants;
 import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.LineBorder;
 import org.eclipse.draw2d.PositionConstants;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.text.BlockFlow;
@@ -64,11 +70,13 @@
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.Font;
+import org.eclipse.swt.graphics.FontData;
 import org.eclipse.ui.IEditorPart;
 import org.eclipse.ui.IWorkbenchPage;
 import org.eclipse.ui.IWorkbenchWindow;
 import org.eclipse.ui.PlatformUI;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.util.ViewUtils;
 import org.knime.core.node.workflow.Annotation;
 import org.knime.core.node.workflow.AnnotationData;
 import org.knime.core.node.workflow.NodeAnnotation;
@@ -97,8 +105,12 @@ public class NodeAnnotationFigure extends Figure implements EditorModeParticipan
     protected Annotation m_annotation;
 
     private final ArrayList<Color> m_disposableForegroundStyledTextColors;
-    private int m_lastRevisionDisplayed;
-    private boolean m_lastRenderEnableDisplay;
+
+    /** Everything the currently displayed flow has been computed from, null if it needs to be (re-)computed. */
+    private LayoutKey m_lastLayoutKey;
+
+    /** Fonts acquired from the {@link FontStore} for the currently displayed flow, by style. */
+    private Map<String, Font> m_fonts;
 
     /**
      * @param annotation the annotation to display
@@ -113,9 +125,7 @@ public NodeAnnotationFigure(final Annotation annotation) {
 
         m_disposableForegroundStyledTextColors = new ArrayList<>();
         m_annotation = annotation;
-
-        m_lastRevisionDisplayed = Integer.MIN_VALUE;
-        m_lastRenderEnableDisplay = false;
+        m_fonts = new HashMap<>();
 
         add(m_page);
         setConstraint(m_page, BorderLayout.CENTER);
@@ -123,12 +133,34 @@ public NodeAnnotationFigure(final Annotation annotation) {
         computeDisplay();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void paint(final Graphics graphics) {
+        if (!LevelOfDetail.isSimplifiedFigures(graphics)) {
+            super.paint(graphics);
+            return;
+        }
+        // zoomed out far - text isn't readable, just fill the annotation's area
+        final Rectangle bounds = getBounds();
+        graphics.setBackgroundColor(getBackgroundColor());
+        graphics.fillRectangle(bounds);
+        if (m_page.getBorder() instanceof LineBorder) {
+            final LineBorder border = (LineBorder)m_page.getBorder();
+            graphics.setForegroundColor(border.getColor());
+            graphics.setLineWidth(border.getWidth());
+            graphics.drawRectangle(bounds.x, bounds.y, bounds.width - 1, bounds.height - 1);
+        }
+    }
+
     /**
      * @return true if the annotation should be rendered as "enabled", false for "disabled"
      */
     protected boolean determineRenderEnabledState() {
         final boolean isNodeAnnotation = (m_annotation instanceof NodeAnnotation);
-        final IWorkbenchWindow iww = PlatformUI.getWorkbench().getActiveWorkbenchWindow();
+        final IWorkbenchWindow iww =
+            PlatformUI.isWorkbenchRunning() ? PlatformUI.getWorkbench().getActiveWorkbenchWindow() : null;
         IEditorPart iep = null;
 
         if (iww != null) {
@@ -157,15 +189,13 @@ protected boolean determineRenderEnabledState() {
 
     /**
      * This method creates a completely populated <code>BlockFlow</code> instance consisting of correctly styled
-     * <code>TextFlow</code> instances. If the wrapped <code>Annotation</code> instance has not be revised since the
-     * last time this method was invoked, this method will not bother recomputing anything.
+     * <code>TextFlow</code> instances. If neither the content of the wrapped <code>Annotation</code> (text, styles,
+     * colors, width and alignment) nor the zoom, font preferences or the render state have changed since the last
+     * time this method was invoked, this method will not bother recomputing anything. Moving the annotation or
+     * changing the state of its node hence keeps the current flow and its layout.
      */
     public final void computeDisplay() {
         final boolean renderEnabled = determineRenderEnabledState();
-        if ((m_annotation.getRevision() == m_lastRevisionDisplayed) && (m_lastRenderEnableDisplay == renderEnabled)) {
-            return;
-        }
-
         final boolean isNodeAnnotation = (m_annotation instanceof NodeAnnotation);
 
         final String text;
@@ -183,6 +213,11 @@ public final void computeDisplay() {
             }
         }
 
+        final LayoutKey layoutKey = new LayoutKey(m_annotation, text, sr, renderEnabled);
+        if (layoutKey.equals(m_lastLayoutKey)) {
+            return;
+        }
+
         Arrays.sort(sr, (range1, range2) -> {
             if (range1.getStart() == range2.getStart()) {
                 LOGGER.error("Ranges overlap");
@@ -221,22 +256,27 @@ public final void computeDisplay() {
         }
         int i = 0;
         final List<TextFlow> segments = new ArrayList<TextFlow>(sr.length);
+        // fonts still in use are moved over from the previous flow, the remaining ones are released at the end
+        final Map<String, Font> previousFonts = m_fonts;
+        m_fonts = new HashMap<>();
         // in old flow annotations didn't store the font if system default was used. New annotations always store font
         // info. For backward compatibility use the system font if no font is specified here.
         final Font defaultFont;
         if (isNodeAnnotation) {
-            defaultFont = AnnotationUtilities.getNodeAnnotationDefaultFont();
+            defaultFont = getFont("node:" + layoutKey.m_prefFontSize, previousFonts,
+                AnnotationUtilities::getNodeAnnotationDefaultFont);
         } else if (m_annotation.getVersion() < AnnotationData.VERSION_20151012) {
-            defaultFont = FontStore.INSTANCE.getSystemDefaultFont();
-        } else if (m_annotation.getVersion() < AnnotationData.VERSION_20151123) {
-            defaultFont = AnnotationUtilities.getWorkflowAnnotationDefaultFont();
+            defaultFont = getFont("system", previousFonts, FontStore.INSTANCE::getSystemDefaultFont);
+        } else if ((m_annotation.getVersion() < AnnotationData.VERSION_20151123)
+            || (m_annotation.getDefaultFontSize() < 0)) {
+            defaultFont = getFont("workflow:" + layoutKey.m_prefFontSize, previousFonts,
+                AnnotationUtilities::getWorkflowAnnotationDefaultFont);
         } else {
-            if (m_annotation.getDefaultFontSize() < 0) {
-                defaultFont = AnnotationUtilities.getWorkflowAnnotationDefaultFont();
-            } else {
-                defaultFont = AnnotationUtilities.getWorkflowAnnotationDefaultFont(m_annotation.getDefaultFontSize());
-            }
+            final int size = m_annotation.getDefaultFontSize();
+            defaultFont = getFont("workflow:" + size, previousFonts,
+                () -> AnnotationUtilities.getWorkflowAnnotationDefaultFont(size));
         }
+        final FontData defaultFontData = defaultFont.getFontData()[0];
         for (final AnnotationData.StyleRange range : sr) {
             // create text from last range to beginning of this range
             if (i < range.getStart()) {
@@ -248,7 +288,8 @@ public final void computeDisplay() {
             }
 
             final String styled = text.substring(i, range.getStart() + range.getLength());
-            segments.add(getStyledAnnotation(styled, range, bg, defaultFont, renderEnabled,
+            segments.add(getStyledAnnotation(styled, range, bg,
+                getAnnotationFont(range, defaultFontData, previousFonts), renderEnabled,
                 m_disposableForegroundStyledTextColors));
             i = range.getStart() + range.getLength();
         }
@@ -284,14 +325,73 @@ public final void computeDisplay() {
         m_page.add(blockFlow);
         m_page.setVisible(true);
 
-        m_lastRevisionDisplayed = m_annotation.getRevision();
-        m_lastRenderEnableDisplay = renderEnabled;
+        // the old flows are gone, fonts only they used can be given back
+        previousFonts.values().forEach(FontStore.INSTANCE::releaseFont);
+        m_lastLayoutKey = layoutKey;
 
         performPostDisplayComputation();
 
         revalidate();
     }
 
+    /**
+     * Returns the font for the given key, either the one already used by the previous flow or a newly acquired one.
+     */
+    private Font getFont(final String key, final Map<String, Font> previousFonts,
+        final Supplier<Font> fontStoreLookup) {
+        Font font = m_fonts.get(key);
+        if (font == null) {
+            font = previousFonts.remove(key);
+            if (font == null) {
+                font = fontStoreLookup.get();
+            }
+            m_fonts.put(key, font);
+        }
+        return font;
+    }
+
+    /**
+     * Same as {@link FontStore#getAnnotationFont(AnnotationData.StyleRange, Font)} but reusing the fonts of the
+     * previous flow.
+     */
+    private Font getAnnotationFont(final AnnotationData.StyleRange range, final FontData defaultFontData,
+        final Map<String, Font> previousFonts) {
+        String name = range.getFontName();
+        int size = range.getFontSize();
+        final int style = range.getFontStyle();
+        if (name == null || size <= 0) {
+            name = defaultFontData.getName();
+            size = defaultFontData.getHeight();
+        }
+        final String fontName = name;
+        final int fontSize = size;
+        return getFont("style:" + name + ":" + size + ":" + style, previousFonts,
+            () -> FontStore.INSTANCE.getFont(fontName, fontSize, style));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        if (m_lastLayoutKey == null) {
+            // fonts have been released when this figure was removed
+            computeDisplay();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        m_fonts.values().forEach(FontStore.INSTANCE::releaseFont);
+        m_fonts.clear();
+        m_lastLayoutKey = null;
+    }
+
     /**
      * Subclasses may override this to perform any additional display computation tasks prior to revalidate()
      *  being called on this instance.
@@ -344,8 +444,7 @@ public void workflowEditorModeWasSet(final WorkflowEditorMode newMode) {
     }
 
     private static TextFlow getStyledAnnotation(final String text, final AnnotationData.StyleRange style,
-        final Color bg, final Font defaultFont, final boolean enabled, final List<Color> disposableForegroundColors) {
-        final Font styledFont = FontStore.INSTANCE.getAnnotationFont(style, defaultFont);
+        final Color bg, final Font styledFont, final boolean enabled, final List<Color> disposableForegroundColors) {
         final WiderTextFlow styledText = new WiderTextFlow(text);
         Color fg;
         if (enabled) {
@@ -359,4 +458,95 @@ private static TextFlow getStyledAnnotation(final String text, final AnnotationD
         styledText.setBackgroundColor(bg);
         return styledText;
     }
+
+    /**
+     * Everything the flow of an annotation is computed from. Two keys are equal if the flows computed from them
+     * would look the same.
+     */
+    private static final class LayoutKey {
+
+        private final String m_text;
+
+        private final String[] m_fontNames;
+
+        /** Start, length, font size, font style and foreground color of each style range. */
+        private final int[] m_styles;
+
+        private final int m_width;
+
+        private final int m_zoom;
+
+        private final AnnotationData.TextAlignment m_alignment;
+
+        private final int m_bgColor;
+
+        private final int m_borderSize;
+
+        private final int m_borderColor;
+
+        private final int m_version;
+
+        private final int m_defaultFontSize;
+
+        private final int m_prefFontSize;
+
+        private final boolean m_renderEnabled;
+
+        private final int m_hashCode;
+
+        LayoutKey(final Annotation annotation, final String text, final AnnotationData.StyleRange[] styleRanges,
+            final boolean renderEnabled) {
+            m_text = text;
+            m_fontNames = new String[styleRanges.length];
+            m_styles = new int[5 * styleRanges.length];
+            for (int i = 0; i < styleRanges.length; i++) {
+                final AnnotationData.StyleRange range = styleRanges[i];
+                m_fontNames[i] = range.getFontName();
+                m_styles[5 * i] = range.getStart();
+                m_styles[5 * i + 1] = range.getLength();
+                m_styles[5 * i + 2] = range.getFontSize();
+                m_styles[5 * i + 3] = range.getFontStyle();
+                m_styles[5 * i + 4] = range.getFgColor();
+            }
+            final AnnotationData data = annotation.getData();
+            m_width = annotation.getWidth();
+            m_zoom = ViewUtils.getDisplayZoom();
+            m_alignment = annotation.getAlignment();
+            m_bgColor = annotation.getBgColor();
+            m_borderSize = data.getBorderSize();
+            m_borderColor = data.getBorderColor();
+            m_version = annotation.getVersion();
+            m_defaultFontSize = annotation.getDefaultFontSize();
+            m_prefFontSize = FontStore.getFontSizeFromKNIMEPrefPage();
+            m_renderEnabled = renderEnabled;
+            m_hashCode = Objects.hash(m_text, Arrays.hashCode(m_fontNames), Arrays.hashCode(m_styles), m_width,
+                m_zoom, m_alignment, m_bgColor, m_borderSize, m_borderColor, m_version, m_defaultFontSize,
+                m_prefFontSize, m_renderEnabled);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return m_hashCode;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LayoutKey)) {
+                return false;
+            }
+            final LayoutKey other = (LayoutKey)obj;
+            return m_hashCode == other.m_hashCode && m_width == other.m_width && m_zoom == other.m_zoom
+                && m_bgColor == other.m_bgColor && m_borderSize == other.m_borderSize
+                && m_borderColor == other.m_borderColor && m_version == other.m_version
+                && m_defaultFontSize == other.m_defaultFontSize && m_prefFontSize == other.m_prefFontSize
+                && m_renderEnabled == other.m_renderEnabled && Objects.equals(m_alignment, other.m_alignment)
+                && Objects.equals(m_text, other.m_text) && Arrays.equals(m_styles, other.m_styles)
+                && Arrays.equals(m_fontNames, other.m_fontNames);
+        }
+    }
 }
@@ -853,6 +853,14 @@ protected void fillShape(final Graphics graphics) {
      */
     @Override
     public void paint(final Graphics graphics) {
+        if (LevelOfDetail.isSimplifiedFigures(graphics)) {
+            // zoomed out far - a plain box in the node type's color, no text, icons or ports
+            final Label backgroundIcon = m_symbolFigure.m_backgroundIcon;
+            graphics.setBackgroundColor(LevelOfDetail.getAverageColor(m_symbolFigure.m_originalBackgroundIcon));
+            graphics.fillRectangle(backgroundIcon.getIconBounds());
+            return;
+        }
+
         // paints the figure and its children
         super.paint(graphics);
 
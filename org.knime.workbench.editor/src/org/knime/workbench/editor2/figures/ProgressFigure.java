@@ -47,9 +47,17 @@
  */
 package org.knime.workbench.editor2.figures;
 
-import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.eclipse.draw2d.ColorConstants;
@@ -97,7 +105,7 @@ public class ProgressFigure extends RectangleFigure implements MouseMotionListen
 
     private static final Color PROGRESS_BAR_COLOR = ColorConstants.darkBlue;
 
-    private static final UnknownProgressTimer unknownProgressTimer;
+    private static final RepaintTicker REPAINT_TICKER = new RepaintTicker();
 
     static {
         Display current = Display.getCurrent();
@@ -111,10 +119,6 @@ public class ProgressFigure extends RectangleFigure implements MouseMotionListen
         PROGRESS_FONT = new Font(current, name, height, SWT.NORMAL);
         QUEUED_FONT = new Font(current, name, 7, SWT.NORMAL);
         QUEUED_FONT_SMALL = new Font(current, name, 6, SWT.NORMAL);
-
-        // instantiate and start the unkown progress timer
-        unknownProgressTimer = new UnknownProgressTimer();
-        unknownProgressTimer.start();
     }
 
     private boolean m_unknownProgress = false;
@@ -157,13 +161,9 @@ public static enum ProgressMode {
 
     private ProgressToolTipHelper m_toolTipHelper;
 
-    private final Runnable m_repaintObject = new Runnable() {
-        @Override
-        public void run() {
-
-            repaint();
-        }
-    };
+    /** The latest progress reported by the node, not yet applied to the figure (null if none pending). Written by
+     * the reporting thread, consumed on the display thread. */
+    private final AtomicReference<NodeProgress> m_pendingProgress = new AtomicReference<>();
 
     /**
      * Creates a new node figure.
@@ -317,7 +317,7 @@ public void paintFigure(final Graphics graphics) {
      */
     public void stopUnknownProgress() {
         m_unknownProgress = false;
-        unknownProgressTimer.removeFigure(this);
+        REPAINT_TICKER.removeUnknownProgressFigure(this);
     }
 
     /**
@@ -340,7 +340,7 @@ public void activateUnknownProgress() {
             return;
         }
 
-        unknownProgressTimer.addFigure(this);
+        REPAINT_TICKER.addUnknownProgressFigure(this);
     }
 
     /**
@@ -362,11 +362,29 @@ public ProgressMode getProgressMode() {
     }
 
     /**
-     * Updates UI after progress has changed.
+     * Updates UI after progress has changed. This method may be called from any thread; it only records the latest
+     * progress, which is applied and rendered on the display thread with the next tick of the shared repaint ticker.
+     * It never blocks on the display, so a busy UI doesn't throttle node execution.
      *
      * @param pe the new progress to display
      */
-    public synchronized void progressChanged(final NodeProgress pe) {
+    public void progressChanged(final NodeProgress pe) {
+        if ((m_pendingProgress.getAndSet(pe) == null) && (m_currentDisplay != null)) {
+            REPAINT_TICKER.markDirty(this);
+        }
+    }
+
+    /** Applies the pending progress (if any) and repaints. Must be called in the display thread. */
+    private void updateFromPendingProgress() {
+        final NodeProgress pe = m_pendingProgress.getAndSet(null);
+        if (pe != null) {
+            applyProgress(pe);
+        } else if (m_unknownProgress) {
+            repaint();
+        }
+    }
+
+    private void applyProgress(final NodeProgress pe) {
         int newWorked = m_currentWorked;
         if (pe.hasProgress()) {
             double progress = pe.getProgress().doubleValue();
@@ -378,11 +396,11 @@ public synchronized void progressChanged(final NodeProgress pe) {
         if (newWorked > m_currentWorked) {
 
             // switch to known progress
-            // this causes another rendering type and stops the thread
-            // for unknown redering triggering started in
+            // this causes another rendering type and stops the periodic
+            // unknown rendering triggering started in
             // activateUnknownProgress
             m_unknownProgress = false;
-            unknownProgressTimer.removeFigure(this);
+            REPAINT_TICKER.removeUnknownProgressFigure(this);
 
             m_currentWorked = newWorked;
 
@@ -400,26 +418,17 @@ public synchronized void progressChanged(final NodeProgress pe) {
             String meString = m_currentProgressMessage;
             m_currentProgressMessage = message == null ? "" : m_stateMessage + " - " + message;
 
-            if (!m_currentProgressMessage.equals(meString) && (m_mouseEvent != null) && (m_currentDisplay != null)
-                && !m_currentDisplay.isDisposed() /* bugfix: 1392 */) {
-                m_currentDisplay.syncExec(new Runnable() {
-                    @Override
-                    public void run() {
-                        if (m_mouseEvent != null) {
-                            getToolTipHelper().displayToolTipNear(ProgressFigure.this,
-                                new Label(m_currentProgressMessage), m_mouseEvent.x, m_mouseEvent.y);
-                        }
-                    }
-                });
+            if (!m_currentProgressMessage.equals(meString) && (m_mouseEvent != null)) {
+                ProgressToolTipHelper toolTipHelper = getToolTipHelper();
+                if (toolTipHelper != null) {
+                    toolTipHelper.displayToolTipNear(ProgressFigure.this, new Label(m_currentProgressMessage),
+                        m_mouseEvent.x, m_mouseEvent.y);
+                }
             }
         }
 
-        if (m_currentDisplay == null) {
-            return;
-        }
-
         if (changed) {
-            m_currentDisplay.syncExec(m_repaintObject);
+            repaint();
         }
     }
 
@@ -442,7 +451,8 @@ public void reset() {
         m_currentProgressMessage = "";
         m_currentWorked = -1;
         m_unknownProgress = true;
-        unknownProgressTimer.removeFigure(this);
+        m_pendingProgress.set(null);
+        REPAINT_TICKER.removeUnknownProgressFigure(this);
         m_mouseEvent = null;
 
         if (getToolTipHelper() != null) {
@@ -526,64 +536,33 @@ public void mouseMoved(final MouseEvent me) {
     }
 
     /**
-     * Implements a thread that updates all figures passed to it. The thread for updating the unknown progress figures
-     * (cycling figures) is intended to run just one time. The advantage is that the expensive rendering on the display
-     * thread is only invoked once for all figures to render.
-     *
-     * @author Christoph Sieb, University of Konstanz
+     * A single ticker shared by all progress figures. Figures with a pending progress value and figures rendering an
+     * unknown (cycling) progress are collected on each tick and updated with one asynchronous call per display, so
+     * the expensive rendering on the display thread is invoked once for all figures and progress reporting threads
+     * never wait for the UI. The ticker only runs while there is something to update.
      */
-    private static class UnknownProgressTimer extends Thread {
+    private static final class RepaintTicker {
 
-        private final List<ProgressFigure> m_figuresToPaint = new ArrayList<ProgressFigure>();
+        private final Set<ProgressFigure> m_dirtyFigures = ConcurrentHashMap.newKeySet();
 
-        /**
-         * Creats an unknown progress timer for cycling progress bar rendering.
-         */
-        public UnknownProgressTimer() {
-            super("Unknown Progress Timer");
-        }
+        private final Set<ProgressFigure> m_unknownProgressFigures = ConcurrentHashMap.newKeySet();
 
-        @Override
-        public void run() {
-            while (!isInterrupted()) {
-                // if the queue is empty wait for the next
-                // figure to render
-                synchronized (m_figuresToPaint) {
-                    while (m_figuresToPaint.size() == 0) {
-                        try {
-                            m_figuresToPaint.wait();
-                        } catch (InterruptedException e) {
-                            break;
-                        }
-                    }
-                    long timestamp = System.currentTimeMillis();
+        private final AtomicBoolean m_tickScheduled = new AtomicBoolean();
 
-                    // a map Display to list of prog-figures - presumably this is always a single entry map
-                    Map<Display, List<ProgressFigure>> byDisplayMap = m_figuresToPaint.stream()
-                            // filter those that need updating - some got updated by ordinary repaint events
-                            .filter(p -> (timestamp - p.m_unknownProgressBarRenderingStatus.m_lastUpdateTimestamp
-                                    > UNKNOWN_PROGRESS_UPDATE_INTERVAL))
-                            .collect(Collectors.groupingBy(ProgressFigure::getCurrentDisplay));
-                    for (final Map.Entry<Display, List<ProgressFigure>> entry : byDisplayMap.entrySet()) {
-                        Display dp = entry.getKey();
-                        if ((dp != null) && !dp.isDisposed()) {
-                            dp.asyncExec(new Runnable() {
-                                @Override
-                                public void run() {
-                                    entry.getValue().stream().forEach(f -> f.repaint());
-                                }
-                            });
-                        }
-                    }
-                }
+        private final ScheduledExecutorService m_executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Progress Repaint Ticker");
+            t.setDaemon(true);
+            return t;
+        });
 
-                // figure updates with some delay
-                try {
-                    Thread.sleep(UNKNOWN_PROGRESS_UPDATE_INTERVAL);
-                } catch (InterruptedException e) {
-                    break;
-                }
-            }
+        /**
+         * Marks a figure as having a new progress value to render with the next tick.
+         *
+         * @param figure the figure to update
+         */
+        void markDirty(final ProgressFigure figure) {
+            m_dirtyFigures.add(figure);
+            scheduleTick();
         }
 
         /**
@@ -591,11 +570,9 @@ public void run() {
          *
          * @param figure The figure to render regularly
          */
-        public void addFigure(final ProgressFigure figure) {
-            synchronized (m_figuresToPaint) {
-                m_figuresToPaint.add(figure);
-                m_figuresToPaint.notify();
-            }
+        void addUnknownProgressFigure(final ProgressFigure figure) {
+            m_unknownProgressFigures.add(figure);
+            scheduleTick();
         }
 
         /**
@@ -603,9 +580,46 @@ public void addFigure(final ProgressFigure figure) {
          *
          * @param figure the figure to remove
          */
-        public void removeFigure(final ProgressFigure figure) {
-            synchronized (m_figuresToPaint) {
-                m_figuresToPaint.remove(figure);
+        void removeUnknownProgressFigure(final ProgressFigure figure) {
+            m_unknownProgressFigures.remove(figure);
+        }
+
+        private void scheduleTick() {
+            if (m_tickScheduled.compareAndSet(false, true)) {
+                m_executor.schedule(this::tick, UNKNOWN_PROGRESS_UPDATE_INTERVAL, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void tick() {
+            // reset first so that figures marked dirty while collecting schedule another tick
+            m_tickScheduled.set(false);
+            Set<ProgressFigure> figures = new LinkedHashSet<>();
+            for (Iterator<ProgressFigure> it = m_dirtyFigures.iterator(); it.hasNext();) {
+                figures.add(it.next());
+                it.remove();
+            }
+            long timestamp = System.currentTimeMillis();
+            for (ProgressFigure f : m_unknownProgressFigures) {
+                // filter those that need updating - some got updated by ordinary repaint events
+                if (timestamp - f.m_unknownProgressBarRenderingStatus.m_lastUpdateTimestamp
+                        > UNKNOWN_PROGRESS_UPDATE_INTERVAL) {
+                    figures.add(f);
+                }
+            }
+
+            // a map Display to list of prog-figures - presumably this is always a single entry map
+            Map<Display, List<ProgressFigure>> byDisplayMap = figures.stream()
+                    .filter(f -> f.getCurrentDisplay() != null)
+                    .collect(Collectors.groupingBy(ProgressFigure::getCurrentDisplay));
+            for (final Map.Entry<Display, List<ProgressFigure>> entry : byDisplayMap.entrySet()) {
+                Display dp = entry.getKey();
+                if (!dp.isDisposed()) {
+                    dp.asyncExec(() -> entry.getValue().forEach(ProgressFigure::updateFromPendingProgress));
+                }
+            }
+
+            if (!m_unknownProgressFigures.isEmpty()) {
+                scheduleTick();
             }
         }
     }
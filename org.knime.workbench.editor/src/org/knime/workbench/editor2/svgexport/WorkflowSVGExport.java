@@ -47,8 +47,11 @@
 package org.knime.workbench.editor2.svgexport;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 
-
+import org.knime.core.util.FileUtil;
 import org.knime.workbench.editor2.WorkflowEditor;
 
 /**
@@ -70,4 +73,60 @@ public interface WorkflowSVGExport {
      */
     public void exportToSVG(final WorkflowEditor editor, final File svgOutputFile) throws SVGExportException;
 
+    /**
+     * Paints the workflow of the given editor into an in-memory SVG document. Needs to be called in the UI thread,
+     * the returned writer doesn't access the editor or its figures anymore and can be run in any thread.
+     *
+     * <p>The default implementation exports the workflow synchronously via
+     * {@link #exportToSVG(WorkflowEditor, File)} into a temporary file, which the returned writer copies to its
+     * destination (not atomically) and deletes afterwards, i.e. it can be written once only. Implementations should
+     * override it.
+     *
+     * @param editor Open editor to export
+     * @return the writer serializing the captured document, or <code>null</code> if there is nothing to export
+     * @throws SVGExportException ...
+     * @since 4.3
+     */
+    public default SVGWriter captureSVG(final WorkflowEditor editor) throws SVGExportException {
+        final File tmpFile;
+        try {
+            tmpFile = FileUtil.createTempFile("workflow", ".svg");
+        } catch (IOException e) {
+            throw new SVGExportException(e);
+        }
+        try {
+            exportToSVG(editor, tmpFile);
+        } catch (SVGExportException | RuntimeException e) {
+            tmpFile.delete();
+            throw e;
+        }
+        return svgOutputFile -> {
+            try {
+                Files.copy(tmpFile.toPath(), svgOutputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new SVGExportException(e);
+            } finally {
+                tmpFile.delete();
+            }
+        };
+    }
+
+    /**
+     * Writes an SVG document captured by {@link WorkflowSVGExport#captureSVG(WorkflowEditor)}.
+     *
+     * @since 4.3
+     */
+    @FunctionalInterface
+    public interface SVGWriter {
+
+        /**
+         * Writes the captured SVG to the given file. An existing file is replaced atomically, i.e. readers either see
+         * the old or the new snapshot but never a partially written one.
+         *
+         * @param svgOutputFile The file where the SVG will be saved
+         * @throws SVGExportException ...
+         */
+        public void write(final File svgOutputFile) throws SVGExportException;
+    }
+
 }
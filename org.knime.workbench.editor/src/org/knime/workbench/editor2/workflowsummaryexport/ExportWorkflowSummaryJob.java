@@ -0,0 +1,285 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.editor2.workflowsummaryexport;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.core.node.workflow.WorkflowLock;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.workflowsummary.WorkflowSummary;
+import org.knime.core.util.workflowsummary.WorkflowSummaryCreator;
+import org.knime.core.util.workflowsummary.WorkflowSummaryUtil;
+import org.knime.workbench.KNIMEEditorPlugin;
+import org.knime.workbench.editor2.workflowsummaryexport.ExportWorkflowSummaryWizard.SummaryFormat;
+
+/**
+ * Writes the workflow summary in the background. The summary is streamed through a buffer into a temporary file next
+ * to the destination, which replaces the destination only once the summary is complete; a canceled or failed export
+ * leaves the destination untouched. If no temporary file can be created next to the destination, the summary is
+ * written in place. The workflow is locked while the summary is created; closing it cancels the export.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ExportWorkflowSummaryJob extends Job {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ExportWorkflowSummaryJob.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The written bytes are reported (and cancellation is checked) in steps of this size. */
+    private static final long PROGRESS_STEP = 256 * 1024;
+
+    private final WorkflowManager m_wfm;
+
+    private final SummaryFormat m_format;
+
+    private final boolean m_includeExecInfo;
+
+    private final File m_destination;
+
+    ExportWorkflowSummaryJob(final WorkflowManager wfm, final SummaryFormat format, final boolean includeExecInfo,
+        final File destination) {
+        super("Export workflow summary of " + wfm.getName());
+        m_wfm = wfm;
+        m_format = format;
+        m_includeExecInfo = includeExecInfo;
+        m_destination = destination;
+        setUser(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected IStatus run(final IProgressMonitor monitor) {
+        final SubMonitor progress = SubMonitor.convert(monitor, getName(), 2);
+        // the workflow can be edited and closed meanwhile (the wizard isn't modal anymore), closing cancels the job
+        final WorkflowManager project = m_wfm.getProjectWFM();
+        final WorkflowListener closeListener = e -> {
+            if (e.getType() == WorkflowEvent.Type.NODE_REMOVED
+                && (e.getID().equals(m_wfm.getID()) || e.getID().equals(project.getID()))) {
+                cancel();
+            }
+        };
+        m_wfm.getParent().addListener(closeListener);
+        if (project != m_wfm) {
+            WorkflowManager.ROOT.addListener(closeListener);
+        }
+        File tmp = null;
+        try {
+            if (!m_wfm.getParent().containsNodeContainer(m_wfm.getID())
+                || !WorkflowManager.ROOT.containsNodeContainer(project.getID())) {
+                LOGGER.info("Workflow summary export canceled, the workflow has been closed.");
+                return Status.CANCEL_STATUS;
+            }
+            progress.subTask("Creating summary");
+            final WorkflowSummary summary;
+            // edits are blocked while the workflow is walked, as they used to be by the modal wizard
+            try (WorkflowLock lock = m_wfm.lock()) {
+                summary = WorkflowSummaryCreator.create(m_wfm, m_includeExecInfo);
+            }
+            // throws OperationCanceledException if the job has been canceled meanwhile
+            progress.split(1);
+
+            tmp = createTempFile();
+            if (tmp == null) {
+                write(summary, m_destination, progress.split(1));
+            } else {
+                write(summary, tmp, progress.split(1));
+                if (replaceDestination(tmp)) {
+                    tmp = null;
+                }
+            }
+            return Status.OK_STATUS;
+        } catch (OperationCanceledException e) {
+            LOGGER.info("Workflow summary export canceled by user.");
+            return Status.CANCEL_STATUS;
+        } catch (IOException | RuntimeException e) {
+            final Throwable cause = cancellationCause(e);
+            if (cause instanceof OperationCanceledException) {
+                LOGGER.info("Workflow summary export canceled by user.");
+                return Status.CANCEL_STATUS;
+            }
+            final String message = "A problem occurred while writing workflow summary: " + e.getMessage();
+            LOGGER.error(message, e);
+            return new Status(IStatus.ERROR, KNIMEEditorPlugin.PLUGIN_ID, message, e);
+        } finally {
+            m_wfm.getParent().removeListener(closeListener);
+            WorkflowManager.ROOT.removeListener(closeListener);
+            if (tmp != null && !tmp.delete()) {
+                tmp.deleteOnExit();
+            }
+            monitor.done();
+        }
+    }
+
+    private void write(final WorkflowSummary summary, final File file, final IProgressMonitor monitor)
+        throws IOException {
+        try (final OutputStream out = new ProgressOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(file.toPath()), BUFFER_SIZE), monitor)) {
+            if (m_format == SummaryFormat.XML) {
+                WorkflowSummaryUtil.writeXML(out, summary, m_includeExecInfo);
+            } else {
+                WorkflowSummaryUtil.writeJSON(out, summary, m_includeExecInfo);
+            }
+        }
+    }
+
+    /**
+     * Creates the temporary file next to the destination, or returns <code>null</code> if that is not possible (e.g.
+     * because only the destination itself is writable), in which case the summary is written in place.
+     */
+    private File createTempFile() {
+        final File dir = m_destination.getAbsoluteFile().getParentFile();
+        try {
+            return File.createTempFile(m_destination.getName(), ".part", dir);
+        } catch (IOException | SecurityException e) {
+            LOGGER.debug("Cannot create temporary file in " + dir + ", writing workflow summary in place", e);
+            return null;
+        }
+    }
+
+    /**
+     * Moves the completely written temporary file onto the destination, keeping the permissions of an existing
+     * destination. If the file cannot be moved, its content is copied into the destination instead.
+     *
+     * @return <code>true</code> if the temporary file has been moved, <code>false</code> if it has been copied and is
+     *         still to be deleted
+     */
+    private boolean replaceDestination(final File tmp) throws IOException {
+        final Path source = tmp.toPath();
+        final Path target = m_destination.toPath();
+        if (Files.exists(target)) {
+            try {
+                Files.setPosixFilePermissions(source, Files.getPosixFilePermissions(target));
+            } catch (UnsupportedOperationException | IOException e) { // NOSONAR: best effort, the move is still safe
+                LOGGER.debug("Cannot copy permissions of " + target + " to the temporary file", e);
+            }
+        }
+        try {
+            try {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) { // NOSONAR: falls back to a plain move
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.debug("Cannot move temporary file to " + target + ", writing workflow summary in place", e);
+            try (final OutputStream out = Files.newOutputStream(target)) {
+                Files.copy(source, out);
+            }
+            return false;
+        }
+    }
+
+    /** The serializers may wrap the exception thrown by the stream on cancellation. */
+    private static Throwable cancellationCause(final Throwable t) {
+        Throwable cause = t;
+        while (cause != null && !(cause instanceof OperationCanceledException)) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * Reports the number of written bytes and aborts writing when the job is canceled. The final size is unknown, so
+     * each step consumes a fraction of the remaining work.
+     */
+    private static final class ProgressOutputStream extends FilterOutputStream {
+        private final SubMonitor m_progress;
+
+        private long m_written;
+
+        private long m_nextReport = PROGRESS_STEP;
+
+        ProgressOutputStream(final OutputStream out, final IProgressMonitor monitor) {
+            super(out);
+            m_progress = SubMonitor.convert(monitor, 100);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            count(1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            count(len);
+        }
+
+        private void count(final int len) {
+            m_written += len;
+            if (m_written >= m_nextReport) {
+                m_nextReport = m_written + PROGRESS_STEP;
+                m_progress.setWorkRemaining(20);
+                // throws OperationCanceledException if the job has been canceled
+                m_progress.split(1);
+                m_progress.subTask("Writing summary (" + (m_written / 1024) + " KB)");
+            }
+        }
+    }
+}
@@ -49,22 +49,13 @@
 package org.knime.workbench.editor2.workflowsummaryexport;
 
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
-import java.lang.reflect.InvocationTargetException;
 
 import org.eclipse.jface.dialogs.MessageDialog;
-import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.wizard.Wizard;
 import org.eclipse.ui.IExportWizard;
 import org.eclipse.ui.IWorkbench;
-import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.WorkflowManager;
-import org.knime.core.util.workflowsummary.WorkflowSummary;
-import org.knime.core.util.workflowsummary.WorkflowSummaryCreator;
-import org.knime.core.util.workflowsummary.WorkflowSummaryUtil;
 
 /**
  * Wizard to export the workflow summary file (xml and json) for the currently opened and selected workflow.
@@ -136,46 +127,11 @@ public boolean performFinish() {
             }
         }
 
-        // Do the actual export
-        final SummaryFormat format = m_page.format();
-        final boolean includeExecInfo = m_page.includeExecInfo();
-        IRunnableWithProgress op = monitor -> {
-            monitor.setTaskName("Generate workflow summary");
-            try (OutputStream out = new FileOutputStream(new File(fileDestination))) {
-                createAndWriteWorkflowSummary(m_wfm, format, includeExecInfo, out);
-            } catch (IOException e) {
-                throw new InvocationTargetException(e);
-            } finally {
-                monitor.done();
-            }
-        };
-        try {
-            getContainer().run(true, false, op);
-        } catch (InterruptedException e) {
-            NodeLogger.getLogger(getClass()).info("Workflow summary export canceled by user.");
-            m_page.setErrorMessage("Workflow summary export was canceled.");
-            return false;
-        } catch (InvocationTargetException e) {
-            Throwable actualException = e.getTargetException();
-            String message = "A problem occurred while writing workflow summary: " + actualException.getMessage();
-            MessageDialog.openError(getShell(), "Error", message);
-            NodeLogger.getLogger(getClass()).error(message, actualException);
-            m_page.setErrorMessage(message);
-            return false;
-        }
+        // Do the actual export in the background, the wizard doesn't have to wait for it
+        new ExportWorkflowSummaryJob(m_wfm, m_page.format(), m_page.includeExecInfo(), outFile).schedule();
         return true;
     }
 
-    private static void createAndWriteWorkflowSummary(final WorkflowManager wfm, final SummaryFormat format,
-        final boolean includeExecInfo, final OutputStream out) throws IOException {
-        WorkflowSummary ws = WorkflowSummaryCreator.create(wfm, includeExecInfo);
-        if (format == SummaryFormat.XML) {
-            WorkflowSummaryUtil.writeXML(out, ws, includeExecInfo);
-        } else {
-            WorkflowSummaryUtil.writeJSON(out, ws, includeExecInfo);
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -51,18 +51,23 @@
 import java.util.concurrent.ExecutionException;
 
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Event;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Listener;
+import org.eclipse.swt.widgets.Slider;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.node.BufferedDataTable;
@@ -89,16 +94,20 @@ public class MonitorDataTable implements NodeMonitorTable {
     private static final int NUM_LOOK_AHEAD_ROWS = 42;
 
     /**
-     * Limit the maximum number of columns when data table is shown to avoid a unresponsive UI.
+     * Initial width of the data columns, determines how many of them are shown at once.
      */
-    private static final int MAX_NUM_COLUMN = 100;
+    private static final int DATA_COLUMN_WIDTH = 100;
 
-    private RowIterator m_it;
-
-    private long m_currentIndex = -1;
+    /**
+     * Limit the number of data columns shown at once to avoid an unresponsive UI; further columns are reached by
+     * scrolling horizontally.
+     */
+    private static final int MAX_VISIBLE_COLUMNS = 64;
 
     private DataTable m_dataTable;
 
+    private RowWindowCache m_rowCache;
+
     // also used as indicator whether a table has been loaded completely
     private long m_numRows = -1;
 
@@ -120,6 +129,25 @@ public class MonitorDataTable implements NodeMonitorTable {
 
     private Table m_table;
 
+    /* --- horizontal scrolling: only the columns in view exist as table columns */
+
+    private Slider m_columnSlider;
+
+    private int m_firstColumn;
+
+    /** Whether slot columns have been added or removed since the columns in view have been filled and packed. */
+    private boolean m_slotsChanged;
+
+    /** The widths of the slot columns packed to their content, cut to fit the table by #fitColumnWidths. */
+    private int[] m_packedWidths = new int[0];
+
+    /** Whether some of the rows the slot columns were packed to were still being loaded, see #rowsLoaded. */
+    private boolean m_packedToPlaceholders;
+
+    private Listener m_columnSlotListener;
+
+    private Listener m_horizontalWheelListener;
+
     /**
      * Creates a new monitor table to display node's data the given port index.
      *
@@ -190,6 +218,15 @@ public void loadTableData(final NodeContainerUI ncUI, final NodeContainer nc, fi
                 // no table in port - ignore.
                 throw new LoadingFailedException("Unknown or no PortObject");
             }
+            if (m_rowCache != null) {
+                m_rowCache.dispose();
+            }
+            m_rowCache = new RowWindowCache(m_dataTable, m_numRows,
+                m_dataTable.getDataTableSpec().getNumColumns(), this::rowsLoaded);
+            if (m_autoLoad && m_numRows > 0) {
+                // the first rows are shown right away (and determine the column widths)
+                m_rowCache.preload(0);
+            }
         }
         if (!m_autoLoad) {
             try {
@@ -208,14 +245,23 @@ public void setupTable(final Table table) {
         m_table = table;
         TableColumn column = new TableColumn(table, SWT.NONE);
         column.setText(" ID ");
-        for (int i = 0; i < Math.min(m_dataTable.getDataTableSpec().getNumColumns(), MAX_NUM_COLUMN - 2); i++) {
-            column = new TableColumn(table, SWT.NONE);
-            column.setText(m_dataTable.getDataTableSpec().getColumnSpec(i).getName());
-        }
-        if (table.getColumnCount() >= MAX_NUM_COLUMN - 1) {
-            column = new TableColumn(table, SWT.NONE);
-            column.setText("(remaining columns skipped)");
+        m_firstColumn = 0;
+        m_slotsChanged = true;
+        m_columnSlider = new Slider(table.getParent(), SWT.HORIZONTAL);
+        if (table.getParent().getLayout() instanceof GridLayout) {
+            final GridData sliderGrid = new GridData(SWT.FILL, SWT.TOP, true, false);
+            sliderGrid.horizontalSpan = ((GridLayout)table.getParent().getLayout()).numColumns;
+            m_columnSlider.setLayoutData(sliderGrid);
         }
+        m_columnSlider.addListener(SWT.Selection, e -> showColumnsFrom(m_columnSlider.getSelection()));
+        m_columnSlotListener = e -> updateColumnSlots();
+        table.addListener(SWT.Resize, m_columnSlotListener);
+        m_horizontalWheelListener = e -> {
+            m_columnSlider.setSelection(m_columnSlider.getSelection() - e.count);
+            showColumnsFrom(m_columnSlider.getSelection());
+        };
+        table.addListener(SWT.MouseHorizontalWheel, m_horizontalWheelListener);
+        updateColumnSlots();
 
         //needs to be added before calling 'setItemCount'
         //- first items will be empty otherwise
@@ -234,12 +280,113 @@ public void setupTable(final Table table) {
         for (int row = 0; row < itemCountToDetermineColWidth; row++) {
             fillTableItem(table.getItem(row));
         }
-        for (int i = 0; i < table.getColumnCount(); i++) {
-            TableColumn tableColumn = table.getColumn(i);
-            tableColumn.pack();
+        table.getColumn(0).pack();
+        // the ID column's width changes the space left for the data columns, and the data columns are packed to the
+        // rows in view now that the row count is known
+        m_slotsChanged = true;
+        updateColumnSlots();
+    }
+
+    /**
+     * Creates or disposes table columns such that the data columns fill the width of the table, and adjusts the
+     * slider used to scroll through the data columns.
+     */
+    private void updateColumnSlots() {
+        if (m_table.isDisposed() || m_columnSlider.isDisposed()) {
+            return;
+        }
+        final int numColumns = m_dataTable.getDataTableSpec().getNumColumns();
+        final int availableWidth = getAvailableWidth();
+        // rounded up such that the data columns reach the right edge, the last one is cut to fit
+        final int slots = Math.min(numColumns,
+            Math.max(1, Math.min(MAX_VISIBLE_COLUMNS, (availableWidth + DATA_COLUMN_WIDTH - 1) / DATA_COLUMN_WIDTH)));
+        while (m_table.getColumnCount() - 1 < slots) {
+            new TableColumn(m_table, SWT.NONE).setWidth(DATA_COLUMN_WIDTH);
+            m_slotsChanged = true;
+        }
+        while (m_table.getColumnCount() - 1 > slots) {
+            m_table.getColumn(m_table.getColumnCount() - 1).dispose();
+            m_slotsChanged = true;
+        }
+        final int firstColumn = Math.max(0, Math.min(m_firstColumn, numColumns - slots));
+        m_columnSlider.setValues(firstColumn, 0, numColumns, Math.max(1, slots), 1, Math.max(1, slots));
+        final boolean sliderNeeded = numColumns > slots;
+        if (m_columnSlider.getVisible() != sliderNeeded) {
+            m_columnSlider.setVisible(sliderNeeded);
+            if (m_columnSlider.getLayoutData() instanceof GridData) {
+                ((GridData)m_columnSlider.getLayoutData()).exclude = !sliderNeeded;
+            }
+            m_columnSlider.getParent().layout();
+        }
+        showColumnsFrom(firstColumn);
+        // the space left for the columns might have changed even if they did not
+        fitColumnWidths();
+    }
+
+    /**
+     * Shows the data columns starting at the given index; the visible rows are filled again and the columns packed to
+     * their content. Nothing is done if the columns in view did not change.
+     */
+    private void showColumnsFrom(final int firstColumn) {
+        if (firstColumn == m_firstColumn && !m_slotsChanged) {
+            return;
+        }
+        m_firstColumn = firstColumn;
+        m_slotsChanged = false;
+        final DataTableSpec spec = m_dataTable.getDataTableSpec();
+        for (int i = 1; i < m_table.getColumnCount(); i++) {
+            final int col = firstColumn + i - 1;
+            m_table.getColumn(i).setText(col < spec.getNumColumns() ? spec.getColumnSpec(col).getName() : "");
+        }
+        m_table.clearAll();
+        packColumns();
+    }
+
+    /**
+     * Packs the data columns to the content of the rows in view and fits them to the table. Rows still being loaded
+     * only show a placeholder; the columns are packed again once they are available, see {@link #rowsLoaded}.
+     */
+    private void packColumns() {
+        boolean placeholders = false;
+        if (m_addDataRowListener != null) {
+            // the rows in view determine the column widths
+            final int visibleRows = getVisibleRowCount();
+            final int top = m_table.getTopIndex();
+            for (int row = top; row < Math.min(m_table.getItemCount(), top + visibleRows); row++) {
+                placeholders |= !fillTableItem(m_table.getItem(row));
+            }
+        }
+        m_packedToPlaceholders = placeholders;
+        m_packedWidths = new int[m_table.getColumnCount() - 1];
+        for (int i = 1; i < m_table.getColumnCount(); i++) {
+            final TableColumn column = m_table.getColumn(i);
+            column.pack();
+            m_packedWidths[i - 1] = column.getWidth();
+        }
+        fitColumnWidths();
+    }
+
+    /**
+     * Sets the data columns to their packed widths, cutting them where they would exceed the width of the table
+     * (which would bring up the native horizontal scrollbar next to the slider).
+     */
+    private void fitColumnWidths() {
+        int remaining = getAvailableWidth();
+        for (int i = 1; i < m_table.getColumnCount() && i <= m_packedWidths.length; i++) {
+            final int width = Math.max(0, Math.min(m_packedWidths[i - 1], remaining));
+            m_table.getColumn(i).setWidth(width);
+            remaining -= width;
         }
     }
 
+    private int getVisibleRowCount() {
+        return m_table.getClientArea().height / Math.max(1, m_table.getItemHeight()) + 1;
+    }
+
+    private int getAvailableWidth() {
+        return Math.max(0, m_table.getClientArea().width - m_table.getColumn(0).getWidth());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -271,6 +418,15 @@ public void dispose(final Table table) {
         if (m_addDataRowListener != null) {
             table.removeListener(SWT.SetData, m_addDataRowListener);
         }
+        if (m_columnSlotListener != null) {
+            table.removeListener(SWT.Resize, m_columnSlotListener);
+            table.removeListener(SWT.MouseHorizontalWheel, m_horizontalWheelListener);
+        }
+        if (m_columnSlider != null && !m_columnSlider.isDisposed()) {
+            final Composite parent = m_columnSlider.getParent();
+            m_columnSlider.dispose();
+            parent.layout();
+        }
         closeIterator();
     }
 
@@ -305,8 +461,8 @@ private void loadChunk(final int chunkIdx) throws InterruptedException, Executio
     }
 
     private void closeIterator() {
-        if (m_it instanceof CloseableRowIterator) {
-            ((CloseableRowIterator)m_it).close();
+        if (m_rowCache != null) {
+            m_rowCache.dispose();
         }
         if (m_chunkIt instanceof CloseableRowIterator) {
             ((CloseableRowIterator)m_chunkIt).close();
@@ -315,8 +471,9 @@ private void closeIterator() {
 
     /** Fills a table item (a row) with its data..
      * @param item Non-null item to be filled.
+     * @return <code>false</code> if the row is still being loaded and only a placeholder is shown
      */
-    private void fillTableItem(final TableItem item) {
+    private boolean fillTableItem(final TableItem item) {
         int index = m_table.indexOf(item);
         int itemCount;
         if (m_autoLoad && m_numRows >= 0) {
@@ -328,34 +485,55 @@ private void fillTableItem(final TableItem item) {
             m_table.setItemCount(itemCount);
         }
 
-        DataRow row = null;
-        if (index == m_currentIndex) {
-            m_currentIndex++;
-            row = m_it.next();
-        } else {
-            //reset row iterator and go to required index
-            closeIterator();
-            m_it = m_dataTable.iterator();
-            for (m_currentIndex = 0; m_currentIndex <= index; m_currentIndex++) {
-                row = m_it.next();
+        DataRow row = m_rowCache.getRow(index);
+        if (row == null) {
+            // placeholder until the row has been loaded in the background, see #rowsLoaded
+            item.setText(0, "...");
+        } else if (row != RowWindowCache.UNREADABLE_ROW) {
+            item.setText(0, row.getKey().getString());
+            // only the cells of the columns in view are turned into strings
+            for (int i = 1; i < m_table.getColumnCount(); i++) {
+                final int col = m_firstColumn + i - 1;
+                if (col < row.getNumCells()) {
+                    DataCell c = row.getCell(col);
+                    String s = c.toString().replaceAll("\\p{Cntrl}", "_");
+                    item.setText(i, s);
+                }
             }
+        } else {
+            item.setText("Row " + index + " could not be read.");
         }
-        if (row != null) {
-            item.setText(0, row.getKey().getString());
-            //get right column count: without id column (and 'remaining column skipped'-column)
-            int colCount = m_table.getColumnCount() == MAX_NUM_COLUMN ? m_table.getColumnCount() - 2
-                : m_table.getColumnCount() - 1;
-            for (int i = 0; i < colCount; i++) {
-                DataCell c = row.getCell(i);
-                String s = c.toString().replaceAll("\\p{Cntrl}", "_");
-                item.setText(i + 1, s);
+        return row != null;
+    }
+
+    /**
+     * Clears the items of the loaded rows, which makes the virtual table request (and fill) them again. If the columns
+     * were packed to placeholders and all rows in view are available now, the columns are packed to their content.
+     */
+    private void rowsLoaded(final long firstRow, final long lastRow) {
+        Display.getDefault().asyncExec(() -> {
+            if (m_table == null || m_table.isDisposed()) {
+                return;
             }
-            if (m_table.getColumnCount() == MAX_NUM_COLUMN) {
-                item.setText(MAX_NUM_COLUMN - 1, "...");
+            final int itemCount = m_table.getItemCount();
+            if (firstRow < itemCount) {
+                m_table.clear((int)firstRow, (int)Math.min(lastRow, itemCount - 1));
+            }
+            final int top = m_table.getTopIndex();
+            final int bottom = Math.min(itemCount, top + getVisibleRowCount()) - 1;
+            if (m_packedToPlaceholders && firstRow <= bottom && lastRow >= top && isLoaded(top, bottom)) {
+                packColumns();
+            }
+        });
+    }
+
+    private boolean isLoaded(final int firstRow, final int lastRow) {
+        for (int row = firstRow; row <= lastRow; row++) {
+            if (!m_rowCache.isLoaded(row)) {
+                return false;
             }
-        } else {
-            item.setText("Row " + m_currentIndex + " could not be read.");
         }
+        return true;
     }
 
     long getNumRows() {
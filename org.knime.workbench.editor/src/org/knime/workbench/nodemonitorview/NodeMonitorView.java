@@ -57,6 +57,10 @@
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.lang3.StringUtils;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jface.action.IAction;
 import org.eclipse.jface.action.IMenuManager;
 import org.eclipse.jface.action.IToolBarManager;
@@ -475,18 +479,40 @@ private void updateDataTableInfo() {
     }
 
     /*
-     * Loads and setups the table if ordinary node container is given.
+     * Loads the table data in a background job if ordinary node container is given and sets up the table afterwards
+     * (in the UI thread) unless another node or table has been selected in the meantime.
      */
     private void loadAndSetupMonitorTableForOrdinaryNC() {
         assert unwrapNC(m_lastNode) != null;
-        try {
-            //already load the data in case of an ordinary node monitor
-            m_currentMonitorTable.loadTableData(m_lastNode, unwrapNC(m_lastNode), 0);
-            m_currentMonitorTable.setupTable(m_table);
-            updateDataTableInfo();
-        } catch (LoadingFailedException e) {
-            warningMessage(e.getMessage());
-        }
+        final NodeMonitorTable monitorTable = m_currentMonitorTable;
+        final NodeContainerUI ncUI = m_lastNode;
+        final NodeContainer nc = unwrapNC(m_lastNode);
+        final Job loadJob = new Job("Loading node monitor data") {
+            @Override
+            protected IStatus run(final IProgressMonitor monitor) {
+                LoadingFailedException failure = null;
+                try {
+                    monitorTable.loadTableData(ncUI, nc, 0);
+                } catch (LoadingFailedException e) {
+                    failure = e;
+                }
+                final LoadingFailedException loadingFailure = failure;
+                Display.getDefault().asyncExec(() -> {
+                    if (m_table == null || m_table.isDisposed() || m_currentMonitorTable != monitorTable) {
+                        // outdated, the table has been disposed when it got replaced
+                        monitorTable.dispose(m_table);
+                    } else if (loadingFailure != null) {
+                        warningMessage(loadingFailure.getMessage());
+                    } else {
+                        monitorTable.setupTable(m_table);
+                        updateDataTableInfo();
+                    }
+                });
+                return Status.OK_STATUS;
+            }
+        };
+        loadJob.setSystem(true);
+        loadJob.schedule();
     }
 
     private void resetMonitorTable() {
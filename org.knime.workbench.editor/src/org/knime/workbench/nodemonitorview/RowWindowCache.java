@@ -0,0 +1,389 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.nodemonitorview;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.tableview.AsyncDataRow;
+
+/**
+ * Random access to the rows of a {@link DataTable} for the virtual table of the node monitor. Rows are read in chunks
+ * of {@link #CHUNK_SIZE} by a background job and kept in a bounded window of recently used chunks. Iterators are not
+ * closed after reading a chunk but parked at the position they stopped at; a chunk is read with the parked iterator
+ * closest before it, so scrolling down continues where the last chunk ended. Buffered tables open new iterators
+ * directly at the chunk start, others have to iterate from the closest parked iterator (or the first row); such a pass
+ * also reads the chunks preceding the requested one, so that scrolling up does not need one pass per chunk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowWindowCache {
+
+    /** Listener notified (from a background thread) when rows have been loaded. */
+    interface RowsLoadedListener {
+        /**
+         * @param firstRow index of the first loaded row
+         * @param lastRow index of the last loaded row (inclusive)
+         */
+        void rowsLoaded(long firstRow, long lastRow);
+    }
+
+    /** Stands for rows that could not be read. */
+    static final DataRow UNREADABLE_ROW = new DefaultRow("?", new DataCell[0]);
+
+    /** Number of rows read at once. */
+    static final int CHUNK_SIZE = 128;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RowWindowCache.class);
+
+    /** Bounds the number of cached cells, i.e. the number of cached chunks for wide tables. */
+    private static final long MAX_CACHED_CELLS = 1_000_000;
+
+    private static final int MIN_CACHED_CHUNKS = 2;
+
+    private static final int MAX_CACHED_CHUNKS = 32;
+
+    private static final int MAX_PARKED_ITERATORS = 4;
+
+    /** Buffered tables are re-opened at the chunk start rather than iterating more rows than this. */
+    private static final long REOPEN_DISTANCE = 4L * CHUNK_SIZE;
+
+    private final DataTable m_table;
+
+    private final long m_numRows;
+
+    private final int m_maxChunks;
+
+    private final RowsLoadedListener m_listener;
+
+    private final Map<Long, DataRow[]> m_chunks;
+
+    private final TreeMap<Long, RowIterator> m_parkedIterators = new TreeMap<>();
+
+    private final LinkedHashSet<Long> m_requestedChunks = new LinkedHashSet<>();
+
+    private final ChunkLoadJob m_job = new ChunkLoadJob();
+
+    private boolean m_disposed;
+
+    /**
+     * @param table the table to read from
+     * @param numRows the number of rows if known, otherwise -1
+     * @param numColumns the number of columns of the table
+     * @param listener notified after rows requested via {@link #getRow(long)} have been loaded
+     */
+    RowWindowCache(final DataTable table, final long numRows, final int numColumns,
+        final RowsLoadedListener listener) {
+        m_table = table;
+        m_numRows = numRows;
+        m_listener = listener;
+        final long cellsPerChunk = (long)CHUNK_SIZE * Math.max(1, numColumns);
+        m_maxChunks = (int)Math.max(MIN_CACHED_CHUNKS, Math.min(MAX_CACHED_CHUNKS, MAX_CACHED_CELLS / cellsPerChunk));
+        m_chunks = new LinkedHashMap<Long, DataRow[]>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, DataRow[]> eldest) {
+                return size() > m_maxChunks;
+            }
+        };
+    }
+
+    /**
+     * Returns a row if it is part of the cached window, otherwise schedules the loading of its chunk.
+     *
+     * @param index the row index
+     * @return the row, {@link #UNREADABLE_ROW} if it could not be read, or <code>null</code> if it is being loaded
+     */
+    synchronized DataRow getRow(final long index) {
+        final long chunk = index / CHUNK_SIZE;
+        final DataRow[] rows = m_chunks.get(chunk);
+        if (rows != null) {
+            final int offset = (int)(index % CHUNK_SIZE);
+            return (offset < rows.length) ? rows[offset] : UNREADABLE_ROW;
+        }
+        if (!m_disposed) {
+            // the most recent request is served first, old ones (scrolled out of view by now) are dropped
+            m_requestedChunks.remove(chunk);
+            m_requestedChunks.add(chunk);
+            while (m_requestedChunks.size() > m_maxChunks) {
+                final Iterator<Long> it = m_requestedChunks.iterator();
+                it.next();
+                it.remove();
+            }
+            m_job.schedule();
+        }
+        return null;
+    }
+
+    /**
+     * @param index the row index
+     * @return whether the row is part of the cached window, i.e. {@link #getRow(long)} would return it right away
+     */
+    synchronized boolean isLoaded(final long index) {
+        // unlike get, doesn't count as an access of the chunk
+        return m_chunks.containsKey(index / CHUNK_SIZE);
+    }
+
+    /**
+     * Loads the chunk containing the given row in the calling thread, e.g. to have the first rows available right
+     * away. Must not be called from the UI thread.
+     *
+     * @param index the row index
+     */
+    void preload(final long index) {
+        final long chunk = index / CHUNK_SIZE;
+        synchronized (this) {
+            if (m_disposed || m_chunks.containsKey(chunk)) {
+                return;
+            }
+        }
+        loadChunk(chunk);
+    }
+
+    /**
+     * Cancels pending loads and closes all iterators.
+     */
+    void dispose() {
+        final List<RowIterator> toClose;
+        synchronized (this) {
+            m_disposed = true;
+            m_requestedChunks.clear();
+            m_chunks.clear();
+            toClose = new ArrayList<>(m_parkedIterators.values());
+            m_parkedIterators.clear();
+        }
+        m_job.cancel();
+        toClose.forEach(RowWindowCache::close);
+    }
+
+    private void loadChunk(final long chunk) {
+        final long start = chunk * CHUNK_SIZE;
+        RowIterator it;
+        long position;
+        synchronized (this) {
+            final Map.Entry<Long, RowIterator> parked = m_parkedIterators.floorEntry(start);
+            if (parked != null) {
+                m_parkedIterators.remove(parked.getKey());
+                it = parked.getValue();
+                position = parked.getKey();
+            } else {
+                it = null;
+                position = 0;
+            }
+        }
+        final boolean buffered = m_table instanceof BufferedDataTable;
+        if (it == null || (buffered && start - position > REOPEN_DISTANCE)) {
+            close(it);
+            it = openIterator(start);
+            position = buffered ? start : 0;
+        }
+        long firstChunk = chunk;
+        if (start - position > REOPEN_DISTANCE) {
+            // iterating up to the chunk is expensive, so the chunks before it are read along the way and scrolling
+            // up does not need another pass for each chunk
+            firstChunk = Math.max((position + CHUNK_SIZE - 1) / CHUNK_SIZE, chunk - m_maxChunks / 2 + 1);
+        }
+        final long firstRow = firstChunk * CHUNK_SIZE;
+        final List<DataRow[]> chunks = new ArrayList<>();
+        try {
+            for (; position < firstRow && it.hasNext(); position++) {
+                it.next();
+            }
+            for (long c = firstChunk; c <= chunk; c++) {
+                final DataRow[] rows = newChunk(c);
+                chunks.add(rows);
+                for (int i = 0; i < rows.length && it.hasNext(); i++, position++) {
+                    final DataRow row = it.next();
+                    if (row instanceof AsyncDataRow) {
+                        ((AsyncDataRow)row).waitUntilLoaded();
+                    }
+                    if (row.getKey() == null) {
+                        // end of an asynchronously loaded table
+                        break;
+                    }
+                    rows[i] = row;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close(it);
+            it = null;
+        } catch (ExecutionException | RuntimeException e) {
+            LOGGER.debug("Rows " + firstRow + " to " + (start + CHUNK_SIZE - 1) + " could not be read: "
+                + e.getMessage(), e);
+            close(it);
+            it = null;
+        }
+        while (chunks.size() <= chunk - firstChunk) {
+            chunks.add(newChunk(firstChunk + chunks.size()));
+        }
+        long lastRow = firstRow - 1;
+        for (final DataRow[] rows : chunks) {
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] == null) {
+                    rows[i] = UNREADABLE_ROW;
+                }
+            }
+            lastRow += rows.length;
+        }
+
+        RowIterator toClose = null;
+        synchronized (this) {
+            if (m_disposed) {
+                toClose = it;
+            } else {
+                // the requested chunk is put last, i.e. it is the most recently used one
+                for (int i = 0; i < chunks.size(); i++) {
+                    m_chunks.put(firstChunk + i, chunks.get(i));
+                }
+                if (it != null && it.hasNext()) {
+                    final RowIterator replaced = m_parkedIterators.put(position, it);
+                    if (replaced != null) {
+                        toClose = replaced;
+                    } else if (m_parkedIterators.size() > MAX_PARKED_ITERATORS) {
+                        // keep the iterators that are furthest apart, they serve the most chunks
+                        toClose = m_parkedIterators.remove(closestParkedPosition());
+                    }
+                } else {
+                    toClose = it;
+                }
+            }
+        }
+        close(toClose);
+        if (lastRow >= firstRow) {
+            m_listener.rowsLoaded(firstRow, lastRow);
+        }
+    }
+
+    private DataRow[] newChunk(final long chunk) {
+        final long start = chunk * CHUNK_SIZE;
+        return new DataRow[(int)((m_numRows >= 0) ? Math.max(0, Math.min(CHUNK_SIZE, m_numRows - start)) : CHUNK_SIZE)];
+    }
+
+    private long closestParkedPosition() {
+        long result = m_parkedIterators.firstKey();
+        long minDistance = Long.MAX_VALUE;
+        Long previous = null;
+        for (final Long position : m_parkedIterators.keySet()) {
+            if (previous != null && position - previous < minDistance) {
+                minDistance = position - previous;
+                result = position;
+            }
+            previous = position;
+        }
+        return result;
+    }
+
+    private RowIterator openIterator(final long start) {
+        if (m_table instanceof BufferedDataTable) {
+            final long end = (m_numRows > 0) ? (m_numRows - 1) : Long.MAX_VALUE;
+            return ((BufferedDataTable)m_table).filter(TableFilter.filterRangeOfRows(start, Math.max(start, end)));
+        }
+        return m_table.iterator();
+    }
+
+    private static void close(final RowIterator it) {
+        if (it instanceof CloseableRowIterator) {
+            ((CloseableRowIterator)it).close();
+        }
+    }
+
+    private synchronized Long nextRequestedChunk() {
+        Long last = null;
+        for (final Long chunk : m_requestedChunks) {
+            last = chunk;
+        }
+        if (last != null) {
+            m_requestedChunks.remove(last);
+        }
+        return last;
+    }
+
+    private final class ChunkLoadJob extends Job {
+        ChunkLoadJob() {
+            super("Loading table rows");
+            setSystem(true);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected IStatus run(final IProgressMonitor monitor) {
+            Long chunk;
+            while (!monitor.isCanceled() && (chunk = nextRequestedChunk()) != null) {
+                final boolean loaded;
+                synchronized (RowWindowCache.this) {
+                    loaded = m_chunks.containsKey(chunk);
+                }
+                if (!loaded) {
+                    loadChunk(chunk);
+                }
+            }
+            return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+        }
+    }
+}
@@ -59,6 +59,7 @@
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -71,6 +72,7 @@
 import org.junit.rules.ExpectedException;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.WorkflowContext;
@@ -749,4 +751,55 @@ public void testResolveInTemporaryCopy() throws Exception {
         expectedUrl = url;
         assertThat("Unexpected resolved absolute URL in other mount point", connection.getURL(), is(expectedUrl));
     }
+
+    /**
+     * Micro-benchmark for repeated resolution of the same workflow-relative URL as done by nodes inside loops. Checks
+     * that all but the first resolution are answered by the cache and that a new workflow context isn't served
+     * stale entries.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRepeatedResolutionIsCached() throws Exception {
+        Path currentLocation = KNIMEConstants.getKNIMETempPath().resolve("root").resolve("workflow");
+        WorkflowCreationHelper ch = new WorkflowCreationHelper();
+        WorkflowContext.Factory fac = new WorkflowContext.Factory(currentLocation.toFile());
+        fac.setMountpointRoot(currentLocation.getParent().toFile());
+        ch.setWorkflowContext(fac.createContext());
+        WorkflowManager wfm = WorkflowManager.ROOT.createAndAddProject("Test" + UUID.randomUUID(), ch);
+        NodeContext.pushContext(wfm);
+
+        // a private cache, the shared one is used (and cleared) by other tests and workflows
+        ResolvedURLCache cache = new ResolvedURLCache();
+        URL url = new URL("knime://knime.workflow/../data/lookup table.csv");
+        URL expectedUrl = ExplorerURLStreamHandler.resolveKNIMEURL(url, cache);
+        assertThat("Unexpected resolved URL", expectedUrl, is(ExplorerURLStreamHandler.resolveKNIMEURL(url)));
+        assertThat("Unexpected number of cache misses", cache.getMisses(), is(1L));
+
+        final int iterations = 100000;
+        long hitsBefore = cache.getHits();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertThat("Unexpected resolved URL", ExplorerURLStreamHandler.resolveKNIMEURL(url, cache),
+                is(expectedUrl));
+        }
+        long duration = System.nanoTime() - start;
+        NodeLogger.getLogger(getClass()).info(String.format("Resolved %d knime URLs in %.1f ms (%.0f ns/resolution)",
+            iterations, duration / 1e6, duration / (double)iterations));
+        assertThat("Unexpected number of cache hits", cache.getHits() - hitsBefore, is((long)iterations));
+
+        // same URL in a workflow at a different location (e.g. after a move) must not use the cached entry
+        Path otherLocation =
+            KNIMEConstants.getKNIMETempPath().resolve("root").resolve("group").resolve("other workflow");
+        WorkflowContext.Factory otherFac = new WorkflowContext.Factory(otherLocation.toFile());
+        otherFac.setMountpointRoot(currentLocation.getParent().toFile());
+        ch.setWorkflowContext(otherFac.createContext());
+        WorkflowManager otherWfm = WorkflowManager.ROOT.createAndAddProject("Test" + UUID.randomUUID(), ch);
+        NodeContext.pushContext(otherWfm);
+
+        URL otherUrl = ExplorerURLStreamHandler.resolveKNIMEURL(url, cache);
+        assertThat("Unexpected resolved URL in other workflow", Paths.get(otherUrl.toURI()).normalize(),
+            is(otherLocation.getParent().resolve("data").resolve("lookup table.csv")));
+        assertThat("Unexpected number of cache misses", cache.getMisses(), is(2L));
+    }
 }
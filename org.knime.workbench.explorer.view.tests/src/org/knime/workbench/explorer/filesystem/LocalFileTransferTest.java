@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.filesystem;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link LocalFileTransfer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LocalFileTransferTest {
+
+    private static final int NR_DIRS = 10;
+
+    private static final int NR_FILES_PER_DIR = 20;
+
+    /** Temporary folder holding source and destination trees. */
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private Path m_src;
+
+    private List<Path> m_files;
+
+    /**
+     * Creates a source tree with a few nested directories (one of them empty) and many files.
+     *
+     * @throws IOException if the tree cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        m_src = m_tempFolder.newFolder("src").toPath();
+        m_files = new ArrayList<>();
+        for (int d = 0; d < NR_DIRS; d++) {
+            final Path dir = Files.createDirectories(m_src.resolve("dir" + d).resolve("sub"));
+            for (int f = 0; f < NR_FILES_PER_DIR; f++) {
+                final Path file = dir.resolve("file" + f + ".txt");
+                Files.write(file, contentOf(d, f));
+                Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000L * (d * NR_FILES_PER_DIR + f)));
+                m_files.add(m_src.relativize(file));
+            }
+        }
+        Files.createDirectories(m_src.resolve("empty"));
+    }
+
+    private static byte[] contentOf(final int dir, final int file) {
+        return ("content of file " + file + " in directory " + dir).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks that the parallel copy reproduces the whole tree including empty directories, file content and
+     * modification times, and leaves the source untouched.
+     *
+     * @throws IOException if the copy fails
+     */
+    @Test
+    public void testCopyDirectory() throws IOException {
+        final Path dst = m_tempFolder.getRoot().toPath().resolve("dst");
+        LocalFileTransfer.copy(m_src, dst, new NullProgressMonitor());
+
+        assertTreeCopied(dst);
+        assertTrue("Source tree must still exist", Files.isDirectory(m_src));
+        assertThat("Number of source files", m_files.stream().filter(f -> Files.exists(m_src.resolve(f))).count(),
+            is((long)m_files.size()));
+    }
+
+    /**
+     * Checks that a single file is copied, too.
+     *
+     * @throws IOException if the copy fails
+     */
+    @Test
+    public void testCopyFile() throws IOException {
+        final Path src = m_src.resolve(m_files.get(0));
+        final Path dst = m_tempFolder.getRoot().toPath().resolve("copy.txt");
+        LocalFileTransfer.copy(src, dst, null);
+
+        assertThat("Content of copied file", Files.readAllBytes(dst), is(Files.readAllBytes(src)));
+        assertThat("Modification time of copied file", Files.getLastModifiedTime(dst),
+            is(Files.getLastModifiedTime(src)));
+    }
+
+    /**
+     * Checks that a canceled copy fails with an exception instead of silently leaving an incomplete tree.
+     */
+    @Test
+    public void testCopyCanceled() {
+        final NullProgressMonitor monitor = new NullProgressMonitor();
+        monitor.setCanceled(true);
+        try {
+            LocalFileTransfer.copy(m_src, m_tempFolder.getRoot().toPath().resolve("dst"), monitor);
+            fail("Expected canceled copy to fail");
+        } catch (IOException e) {
+            assertThat("Exception message", e.getMessage(), is("Canceled."));
+        }
+    }
+
+    /**
+     * Checks the (atomic) move of a directory.
+     *
+     * @throws IOException if the move fails
+     */
+    @Test
+    public void testMoveDirectory() throws IOException {
+        final Path dst = m_tempFolder.getRoot().toPath().resolve("dst");
+        LocalFileTransfer.move(m_src, dst, null);
+
+        assertTreeCopied(dst);
+        assertFalse("Source tree must be gone", Files.exists(m_src));
+    }
+
+    /**
+     * Checks the fallback used if the source cannot be renamed (e.g. because source and destination are on different
+     * file stores): the tree is copied and the source deleted afterwards.
+     *
+     * @throws IOException if the move fails
+     */
+    @Test
+    public void testMoveFallbackDirectory() throws IOException {
+        final Path dst = m_tempFolder.getRoot().toPath().resolve("dst");
+        LocalFileTransfer.copyAndDelete(m_src, dst, new NullProgressMonitor());
+
+        assertTreeCopied(dst);
+        assertFalse("Source tree must be gone", Files.exists(m_src));
+    }
+
+    /**
+     * Checks the move fallback for a single file.
+     *
+     * @throws IOException if the move fails
+     */
+    @Test
+    public void testMoveFallbackFile() throws IOException {
+        final Path src = m_src.resolve(m_files.get(0));
+        final byte[] content = Files.readAllBytes(src);
+        final Path dst = m_tempFolder.getRoot().toPath().resolve("moved.txt");
+        LocalFileTransfer.copyAndDelete(src, dst, null);
+
+        assertThat("Content of moved file", Files.readAllBytes(dst), is(content));
+        assertFalse("Source file must be gone", Files.exists(src));
+    }
+
+    private void assertTreeCopied(final Path dst) throws IOException {
+        assertTrue("Empty directory must be copied", Files.isDirectory(dst.resolve("empty")));
+        for (int d = 0; d < NR_DIRS; d++) {
+            for (int f = 0; f < NR_FILES_PER_DIR; f++) {
+                final Path file = dst.resolve("dir" + d).resolve("sub").resolve("file" + f + ".txt");
+                assertThat("Content of " + file, Files.readAllBytes(file), is(contentOf(d, f)));
+                assertThat("Modification time of " + file, Files.getLastModifiedTime(file).toMillis(),
+                    is(1_000_000L * (d * NR_FILES_PER_DIR + f)));
+            }
+        }
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.pathresolve;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link RemoteResourceCache} against a minimal local HTTP server standing in for the remote side, which
+ * counts the requests and the actual downloads. (Plain sockets, so the test does not depend on any HTTP server
+ * library being available to the fragment.)
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RemoteResourceCacheTest {
+
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private ServerSocket m_serverSocket;
+
+    private ExecutorService m_serverExecutor;
+
+    private final Map<String, StandIn> m_resources = new ConcurrentHashMap<>();
+
+    private File m_cacheDir;
+
+    @Before
+    public void setUp() throws IOException {
+        m_serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        m_serverExecutor = Executors.newCachedThreadPool();
+        m_serverExecutor.execute(() -> {
+            while (!m_serverSocket.isClosed()) {
+                try {
+                    final Socket socket = m_serverSocket.accept();
+                    m_serverExecutor.execute(() -> serve(socket));
+                } catch (IOException e) {
+                    // closed on tear down
+                    return;
+                }
+            }
+        });
+        m_cacheDir = m_tempFolder.newFolder("cache");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        m_serverSocket.close();
+        m_serverExecutor.shutdownNow();
+    }
+
+    /**
+     * A resource with an ETag is downloaded once and revalidated afterwards; each caller gets its own file.
+     */
+    @Test
+    public void testRevalidationWithETag() throws Exception {
+        final StandIn resource = serve("/table.csv", "a,b\n1,2\n", "\"v1\"", null);
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+
+        final File first = fetch(cache, resource);
+        final File second = fetch(cache, resource);
+
+        assertThat("requests", resource.m_requests.get(), is(2));
+        assertThat("downloads", resource.m_downloads.get(), is(1));
+        assertThat(read(second), is("a,b\n1,2\n"));
+        assertThat(second, is(not(first)));
+
+        // callers may delete their files
+        Files.delete(first.toPath());
+        assertThat(read(fetch(cache, resource)), is("a,b\n1,2\n"));
+        assertThat("downloads", resource.m_downloads.get(), is(1));
+    }
+
+    /**
+     * Changed content is downloaded again, files handed out before keep their content.
+     */
+    @Test
+    public void testChangedContent() throws Exception {
+        final StandIn resource = serve("/table.csv", "old", "\"v1\"", null);
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+
+        final File before = fetch(cache, resource);
+        resource.update("new", "\"v2\"", null);
+        final File after = fetch(cache, resource);
+
+        assertThat("downloads", resource.m_downloads.get(), is(2));
+        assertThat(read(after), is("new"));
+        assertThat(read(before), is("old"));
+    }
+
+    /**
+     * A resource only having a Last-Modified header is revalidated with If-Modified-Since.
+     */
+    @Test
+    public void testRevalidationWithLastModified() throws Exception {
+        final StandIn resource = serve("/lookup.txt", "content", null, "Mon, 19 Oct 2026 08:00:00 GMT");
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+
+        fetch(cache, resource);
+        assertThat(read(fetch(cache, resource)), is("content"));
+        assertThat("downloads", resource.m_downloads.get(), is(1));
+    }
+
+    /**
+     * Resources without validators are not cached.
+     */
+    @Test
+    public void testNoValidators() throws Exception {
+        final StandIn resource = serve("/dynamic", "content", null, null);
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+
+        fetch(cache, resource);
+        assertThat(read(fetch(cache, resource)), is("content"));
+        assertThat("downloads", resource.m_downloads.get(), is(2));
+        assertThat("cached resources", cache.size(), is(0));
+    }
+
+    /**
+     * The least recently used resources are evicted once the cache exceeds its size.
+     */
+    @Test
+    public void testSizeBound() throws Exception {
+        final StandIn first = serve("/first", "12345678", "\"1\"", null);
+        final StandIn second = serve("/second", "abcdefgh", "\"2\"", null);
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 10);
+
+        fetch(cache, first);
+        fetch(cache, second);
+        assertThat("cached resources", cache.size(), is(1));
+
+        fetch(cache, second);
+        assertThat("downloads of the recent resource", second.m_downloads.get(), is(1));
+        fetch(cache, first);
+        assertThat("downloads of the evicted resource", first.m_downloads.get(), is(2));
+    }
+
+    /**
+     * Concurrent readers of the same resource share one download.
+     */
+    @Test
+    public void testConcurrentReaders() throws Exception {
+        final StandIn resource = serve("/shared", "shared content", "\"s\"", null);
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<File>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final Callable<File> fetch = () -> fetch(cache, resource);
+                futures.add(executor.submit(fetch));
+            }
+            for (final Future<File> future : futures) {
+                assertThat(read(future.get()), is("shared content"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat("downloads", resource.m_downloads.get(), is(1));
+    }
+
+    /**
+     * The cached content survives the session, i.e. a new cache instance on the same directory.
+     */
+    @Test
+    public void testPersistence() throws Exception {
+        final StandIn resource = serve("/table.csv", "persisted", "\"p\"", null);
+        fetch(new RemoteResourceCache(m_cacheDir, 1 << 20), resource);
+
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+        assertThat(read(fetch(cache, resource)), is("persisted"));
+        assertThat("downloads", resource.m_downloads.get(), is(1));
+    }
+
+    /**
+     * Callers get independent copies, writing to one of them changes neither the cache nor other callers' files.
+     */
+    @Test
+    public void testCallerFilesAreCopies() throws Exception {
+        final StandIn resource = serve("/table.csv", "cached", "\"c\"", null);
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+
+        final File first = fetch(cache, resource);
+        final File second = fetch(cache, resource);
+        assertThat(first.canWrite(), is(true));
+        Files.write(first.toPath(), "modified".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(read(second), is("cached"));
+        assertThat(read(fetch(cache, resource)), is("cached"));
+        assertThat("downloads", resource.m_downloads.get(), is(1));
+    }
+
+    /**
+     * Credentials in the URL are neither stored nor part of the key.
+     */
+    @Test
+    public void testUserInfoNotStored() throws Exception {
+        final StandIn resource = serve("/secured.csv", "secured", "\"s\"", null);
+        final RemoteResourceCache cache = new RemoteResourceCache(m_cacheDir, 1 << 20);
+        final URL urlWithUserInfo = new URL(resource.m_url.toExternalForm().replace("://", "://jdoe:s3cr3t@"));
+        assertThat(urlWithUserInfo.getUserInfo(), is("jdoe:s3cr3t"));
+
+        cache.fetch(urlWithUserInfo, () -> (HttpURLConnection)resource.m_url.openConnection());
+        assertThat(read(fetch(cache, resource)), is("secured"));
+        assertThat("downloads", resource.m_downloads.get(), is(1));
+
+        for (final File file : m_cacheDir.listFiles()) {
+            assertThat(file.getName(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8),
+                not(containsString("s3cr3t")));
+        }
+        assertThat(RemoteResourceCache.withoutUserInfo(urlWithUserInfo), is(resource.m_url));
+    }
+
+    private StandIn serve(final String path, final String content, final String etag, final String lastModified)
+        throws IOException {
+        final StandIn standIn = new StandIn(
+            new URL("http", m_serverSocket.getInetAddress().getHostAddress(), m_serverSocket.getLocalPort(), path));
+        standIn.update(content, etag, lastModified);
+        m_resources.put(path, standIn);
+        return standIn;
+    }
+
+    // one request per connection, answered with "Connection: close"
+    private void serve(final Socket socket) {
+        try (Socket s = socket;
+                BufferedReader reader =
+                    new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.ISO_8859_1));
+                OutputStream os = s.getOutputStream()) {
+            final String requestLine = reader.readLine();
+            if (requestLine == null) {
+                return;
+            }
+            final Map<String, String> headers = new ConcurrentHashMap<>();
+            String line;
+            while (((line = reader.readLine()) != null) && !line.isEmpty()) {
+                final int colon = line.indexOf(':');
+                if (colon > 0) {
+                    headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT),
+                        line.substring(colon + 1).trim());
+                }
+            }
+            final StandIn resource = m_resources.get(requestLine.split(" ")[1]);
+            if (resource == null) {
+                os.write("HTTP/1.1 404 Not Found\r\nContent-Length: 0\r\nConnection: close\r\n\r\n"
+                    .getBytes(StandardCharsets.ISO_8859_1));
+            } else {
+                resource.handle(headers, os);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static File fetch(final RemoteResourceCache cache, final StandIn resource) throws IOException {
+        return cache.fetch(resource.m_url, () -> (HttpURLConnection)resource.m_url.openConnection());
+    }
+
+    private static String read(final File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+
+    private static final class StandIn {
+        private final URL m_url;
+        private final AtomicInteger m_requests = new AtomicInteger();
+        private final AtomicInteger m_downloads = new AtomicInteger();
+
+        private byte[] m_content;
+        private String m_etag;
+        private String m_lastModified;
+
+        private StandIn(final URL url) {
+            m_url = url;
+        }
+
+        private synchronized void update(final String content, final String etag, final String lastModified) {
+            m_content = content.getBytes(StandardCharsets.UTF_8);
+            m_etag = etag;
+            m_lastModified = lastModified;
+        }
+
+        private synchronized void handle(final Map<String, String> headers, final OutputStream os)
+            throws IOException {
+            m_requests.incrementAndGet();
+            final String ifNoneMatch = headers.get("if-none-match");
+            final String ifModifiedSince = headers.get("if-modified-since");
+            final boolean notModified = (m_etag != null) ? m_etag.equals(ifNoneMatch)
+                : ((m_lastModified != null) && m_lastModified.equals(ifModifiedSince));
+
+            final StringBuilder response = new StringBuilder();
+            response.append(notModified ? "HTTP/1.1 304 Not Modified\r\n" : "HTTP/1.1 200 OK\r\n");
+            if (m_etag != null) {
+                response.append("ETag: ").append(m_etag).append("\r\n");
+            }
+            if (m_lastModified != null) {
+                response.append("Last-Modified: ").append(m_lastModified).append("\r\n");
+            }
+            response.append("Connection: close\r\n");
+            if (notModified) {
+                response.append("\r\n");
+                os.write(response.toString().getBytes(StandardCharsets.ISO_8859_1));
+            } else {
+                m_downloads.incrementAndGet();
+                response.append("Content-Length: ").append(m_content.length).append("\r\n\r\n");
+                os.write(response.toString().getBytes(StandardCharsets.ISO_8859_1));
+                os.write(m_content);
+            }
+            os.flush();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.view;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.workbench.explorer.view.WorkflowMetadataIndex.Query;
+
+/**
+ * Tests for {@link WorkflowMetadataIndex} and the incremental indexing of {@link WorkflowMetadataIndexer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowMetadataIndexTest {
+    /** Temporary folder acting as the mount point root. */
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private File m_root;
+
+    /**
+     * Creates a small workspace with two workflows in a group.
+     *
+     * @throws IOException if the workspace cannot be created
+     */
+    @Before
+    public void createWorkspace() throws IOException {
+        m_root = m_tempFolder.newFolder("workspace");
+        createWorkflow("Projects/Churn Model", "Churn prediction", "Ops Team", "Predicts customer churn.", "churn",
+            "classification");
+        createWorkflow("Projects/Sales Report", "Quarterly sales", "Finance", "Aggregates sales.", "reporting");
+        Files.write(new File(m_root, "Projects/workflowset.meta").toPath(),
+            metadata("All projects", "Ops", "Group of projects.").getBytes(StandardCharsets.UTF_8));
+        new File(m_root, ".metadata/.plugins").mkdirs();
+    }
+
+    /**
+     * Tests field queries, prefix matching and queries without field prefix.
+     *
+     * @throws IOException if indexing fails
+     */
+    @Test
+    public void testSearch() throws IOException {
+        final WorkflowMetadataIndex index = new WorkflowMetadataIndex();
+        assertThat(WorkflowMetadataIndexer.update(index, m_root.toPath(), new NullProgressMonitor()), is(true));
+        assertThat(index.size(), is(3));
+
+        assertThat(index.search(Query.parse("tag:churn author:ops")), is(paths("/Projects/Churn Model")));
+        assertThat(index.search(Query.parse("author:ops")), is(paths("/Projects", "/Projects/Churn Model")));
+        assertThat(index.search(Query.parse("tag:class")), is(paths("/Projects/Churn Model")));
+        assertThat(index.search(Query.parse("title:\"quarterly sales\"")), is(paths("/Projects/Sales Report")));
+        assertThat(index.search(Query.parse("name:report aggregates")), is(paths("/Projects/Sales Report")));
+        assertThat(index.search(Query.parse("tag:churn author:finance")), is(paths()));
+        assertThat(Query.parse("Churn Model"), is(nullValue()));
+        assertThat(Query.parse("unknown:churn"), is(nullValue()));
+    }
+
+    /**
+     * Tests that unchanged metadata files are skipped and that changed and deleted items are updated.
+     *
+     * @throws IOException if indexing fails
+     */
+    @Test
+    public void testIncrementalUpdate() throws IOException {
+        final WorkflowMetadataIndex index = new WorkflowMetadataIndex();
+        WorkflowMetadataIndexer.update(index, m_root.toPath(), new NullProgressMonitor());
+        assertThat(WorkflowMetadataIndexer.update(index, m_root.toPath(), new NullProgressMonitor()), is(false));
+
+        final File meta = new File(m_root, "Projects/Sales Report/workflowset.meta");
+        Files.write(meta.toPath(), metadata("Quarterly sales", "Ops", "Aggregates sales.", "churn")
+            .getBytes(StandardCharsets.UTF_8));
+        meta.setLastModified(meta.lastModified() + 10000);
+        deleteRecursively(new File(m_root, "Projects/Churn Model"));
+
+        assertThat(WorkflowMetadataIndexer.update(index, m_root.toPath(), new NullProgressMonitor()), is(true));
+        assertThat(index.size(), is(2));
+        assertThat(index.search(Query.parse("tag:churn author:ops")), is(paths("/Projects/Sales Report")));
+    }
+
+    /**
+     * Tests that the index survives writing and reading it, including compaction of replaced entries.
+     *
+     * @throws IOException if the index cannot be written or read
+     */
+    @Test
+    public void testPersistence() throws IOException {
+        final WorkflowMetadataIndex index = new WorkflowMetadataIndex();
+        WorkflowMetadataIndexer.update(index, m_root.toPath(), new NullProgressMonitor());
+        index.put("/Projects/Sales Report", 42, Collections.singletonMap(WorkflowMetadataIndex.Field.TAG,
+            Arrays.asList("forecast")));
+
+        final File file = new File(m_tempFolder.getRoot(), "index/LOCAL.idx");
+        index.write(file);
+        final WorkflowMetadataIndex read = WorkflowMetadataIndex.read(file);
+
+        assertThat(read.size(), is(3));
+        assertThat(read.getLastModified("/Projects/Sales Report"), is(42L));
+        assertThat(read.search(Query.parse("tag:forecast")), is(paths("/Projects/Sales Report")));
+        assertThat(read.search(Query.parse("tag:reporting")), is(paths()));
+        assertThat(read.search(Query.parse("tag:churn author:ops")), is(paths("/Projects/Churn Model")));
+        assertThat(WorkflowMetadataIndexer.update(read, m_root.toPath(), new NullProgressMonitor()), is(true));
+        assertThat(read.search(Query.parse("tag:reporting")), is(paths("/Projects/Sales Report")));
+    }
+
+    private void createWorkflow(final String path, final String title, final String author, final String description,
+        final String... tags) throws IOException {
+        final File dir = new File(m_root, path);
+        dir.mkdirs();
+        Files.write(new File(dir, "workflow.knime").toPath(), "<config/>".getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(dir, "workflowset.meta").toPath(),
+            metadata(title, author, description, tags).getBytes(StandardCharsets.UTF_8));
+        // nested directories of workflows are not indexed
+        new File(dir, "data").mkdirs();
+    }
+
+    private static String metadata(final String title, final String author, final String description,
+        final String... tags) {
+        final StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<KNIMEMetaInfo nrOfElements=\"" + (3 + tags.length) + "\">\n");
+        xml.append("<element form=\"text\" name=\"Title\" type=\"TITLE\">").append(title).append("</element>\n");
+        // legacy element without type
+        xml.append("<element form=\"text\" name=\"Author\">").append(author).append("</element>\n");
+        xml.append("<element form=\"multiline\" name=\"Comments\" type=\"DESCRIPTION\">").append(description)
+            .append("</element>\n");
+        for (final String tag : tags) {
+            xml.append("<element form=\"tag\" name=\"Tag\" type=\"TAG\">").append(tag).append("</element>\n");
+        }
+        return xml.append("</KNIMEMetaInfo>\n").toString();
+    }
+
+    private static Set<String> paths(final String... paths) {
+        return new HashSet<>(Arrays.asList(paths));
+    }
+
+    private static void deleteRecursively(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (final File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
@@ -180,6 +180,13 @@ public URLConnection openConnection(final URL url) throws IOException {
      * @throws IOException if an error occurs while resolving the URL
      */
     public static URL resolveKNIMEURL(final URL url) throws IOException {
+        return resolveKNIMEURL(url, ResolvedURLCache.getInstance());
+    }
+
+    /**
+     * Same as {@link #resolveKNIMEURL(URL)} but with the given resolution cache.
+     */
+    static URL resolveKNIMEURL(final URL url, final ResolvedURLCache cache) throws IOException {
         if (!ExplorerFileSystem.SCHEME.equalsIgnoreCase(url.getProtocol())) {
             throw new IOException("Unexpected protocol: " + url.getProtocol() + ". Only " + ExplorerFileSystem.SCHEME
                 + " is supported by this handler.");
@@ -203,14 +210,51 @@ public static URL resolveKNIMEURL(final URL url) throws IOException {
             }
         }
 
+        if (workflowContext == null) {
+            return resolveKNIMEURL(url, nodeContext, workflowContext);
+        }
+        // resolution is expensive (canonical paths, context lookups) and done over and over again by nodes in loops
+        final ResolvedURLCache.Key key = createCacheKey(url, nodeContext, workflowContext);
+        if (key == null) {
+            return resolveKNIMEURL(url, nodeContext, workflowContext);
+        }
+        URL resolvedUrl = cache.get(key);
+        if (resolvedUrl == null) {
+            resolvedUrl = resolveKNIMEURL(url, nodeContext, workflowContext);
+            cache.put(key, resolvedUrl);
+        }
+        return resolvedUrl;
+    }
+
+    /**
+     * Creates the key for the resolution cache or returns <code>null</code> if the URL must not be cached (purely
+     * remote workflow, whose URLs are left to the resolution and its errors, or node relative URL of an unsaved node).
+     */
+    private static ResolvedURLCache.Key createCacheKey(final URL url, final NodeContext nodeContext,
+        final WorkflowContextUI workflowContext) {
+        if (!wraps(workflowContext, WorkflowContext.class)) {
+            return null;
+        }
+        final WorkflowContext context = unwrap(workflowContext, WorkflowContext.class);
+        if (NODE_RELATIVE.equalsIgnoreCase(url.getHost())) {
+            ReferencedFile nodeDirectoryRef = nodeContext.getNodeContainer().getNodeContainerDirectory();
+            if (nodeDirectoryRef == null) {
+                return null;
+            }
+            return new ResolvedURLCache.Key(url, context, nodeDirectoryRef.getFile().getAbsolutePath());
+        }
+        return new ResolvedURLCache.Key(url, context, null);
+    }
+
+    private static URL resolveKNIMEURL(final URL url, final NodeContext nodeContext,
+        final WorkflowContextUI workflowContext) throws IOException {
         if (WORKFLOW_RELATIVE.equalsIgnoreCase(url.getHost())) {
             return UTF8_ENCODER.encodePathSegments(resolveWorkflowRelativeUrl(url, workflowContext));
         } else if (MOUNTPOINT_RELATIVE.equalsIgnoreCase(url.getHost()) || ((workflowContext != null)
             && url.getHost().equalsIgnoreCase(getRemoteMountId(workflowContext).orElse(null)))) {
             return UTF8_ENCODER.encodePathSegments(resolveMountpointRelativeUrl(url, workflowContext));
         } else if (NODE_RELATIVE.equalsIgnoreCase(url.getHost())) {
-            return UTF8_ENCODER
-                .encodePathSegments(resolveNodeRelativeUrl(url, NodeContext.getContext(), workflowContext));
+            return UTF8_ENCODER.encodePathSegments(resolveNodeRelativeUrl(url, nodeContext, workflowContext));
         } else {
             return UTF8_ENCODER.encodePathSegments(url);
         }
@@ -0,0 +1,251 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.workbench.ui.navigator.ProjectWorkflowMap;
+
+/**
+ * Bounded LRU cache for resolved <tt>knime</tt> URLs, used by {@link ExplorerURLStreamHandler#resolveKNIMEURL(URL)}.
+ * Entries are keyed by the URL, the workflow context (by identity, a moved or saved-as workflow gets a new context)
+ * and, for node-relative URLs, the node's directory. The cache is cleared whenever the mount table changes or a
+ * workflow project is added to or removed from the {@link ProjectWorkflowMap} (which includes moves of opened
+ * workflows). Only successful resolutions are cached. The workflow contexts are only weakly referenced, entries of
+ * contexts that have been garbage collected are removed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ResolvedURLCache {
+
+    /** Maximum number of cached resolutions. */
+    static final int MAX_SIZE = 2048;
+
+    private static final ResolvedURLCache INSTANCE = new ResolvedURLCache().registerListeners();
+
+    private final Map<Key, URL> m_cache = new LinkedHashMap<Key, URL>(64, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, URL> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    private long m_hits;
+
+    private long m_misses;
+
+    /** Queue of the references to collected workflow contexts, their entries are removed on the next access. */
+    private final ReferenceQueue<Object> m_collectedContexts = new ReferenceQueue<>();
+
+    /**
+     * Creates a new, empty cache that is not cleared on mount table or workflow changes. Use {@link #getInstance()}
+     * except for tests.
+     */
+    ResolvedURLCache() {
+    }
+
+    private ResolvedURLCache registerListeners() {
+        ExplorerMountTable.addPropertyChangeListener(e -> {
+            if (ExplorerMountTable.MOUNT_POINT_PROPERTY.equals(e.getProperty())) {
+                clear();
+            }
+        });
+        ProjectWorkflowMap.addWorkflowListener(e -> {
+            if ((e.getType() == WorkflowEvent.Type.NODE_ADDED || e.getType() == WorkflowEvent.Type.NODE_REMOVED)
+                && e.getID().hasSamePrefix(WorkflowManager.ROOT.getID())) {
+                clear();
+            }
+        });
+        return this;
+    }
+
+    /**
+     * @return the singleton instance
+     */
+    static ResolvedURLCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param key the key
+     * @return the resolved URL or <code>null</code> if not cached
+     */
+    synchronized URL get(final Key key) {
+        expungeCollectedContexts();
+        URL url = m_cache.get(key);
+        if (url == null) {
+            m_misses++;
+        } else {
+            m_hits++;
+        }
+        return url;
+    }
+
+    /**
+     * @param key the key
+     * @param resolvedUrl the resolved URL
+     */
+    synchronized void put(final Key key, final URL resolvedUrl) {
+        expungeCollectedContexts();
+        final Key storedKey = key.withQueue(m_collectedContexts);
+        if (storedKey != null) {
+            m_cache.put(storedKey, resolvedUrl);
+        }
+    }
+
+    private void expungeCollectedContexts() {
+        ContextReference ref;
+        while ((ref = (ContextReference)m_collectedContexts.poll()) != null) {
+            m_cache.remove(ref.m_key);
+        }
+    }
+
+    /** Removes all cached resolutions. */
+    synchronized void clear() {
+        m_cache.clear();
+    }
+
+    /**
+     * @return the number of cached resolutions
+     */
+    synchronized int size() {
+        return m_cache.size();
+    }
+
+    /**
+     * @return number of lookups that were answered from the cache
+     */
+    synchronized long getHits() {
+        return m_hits;
+    }
+
+    /**
+     * @return number of lookups that had to resolve the URL
+     */
+    synchronized long getMisses() {
+        return m_misses;
+    }
+
+    /** Cache key; the context object is compared by identity and only weakly referenced. */
+    static final class Key {
+        private final String m_url;
+
+        private final ContextReference m_context;
+
+        private final int m_contextHash;
+
+        private final String m_nodeDirectory;
+
+        /**
+         * @param url the unresolved URL
+         * @param context the (unwrapped) workflow context the URL is resolved against
+         * @param nodeDirectory the node's directory for node-relative URLs, <code>null</code> otherwise
+         */
+        Key(final URL url, final Object context, final String nodeDirectory) {
+            m_url = url.toExternalForm();
+            m_context = new ContextReference(context, this, null);
+            m_contextHash = System.identityHashCode(context);
+            m_nodeDirectory = nodeDirectory;
+        }
+
+        private Key(final Key key, final Object context, final ReferenceQueue<Object> queue) {
+            m_url = key.m_url;
+            m_context = new ContextReference(context, this, queue);
+            m_contextHash = key.m_contextHash;
+            m_nodeDirectory = key.m_nodeDirectory;
+        }
+
+        /**
+         * @return a copy of this key whose context reference is registered with the given queue, <code>null</code>
+         *         if the context has already been collected
+         */
+        Key withQueue(final ReferenceQueue<Object> queue) {
+            final Object context = m_context.get();
+            return context == null ? null : new Key(this, context, queue);
+        }
+
+        @Override
+        public int hashCode() {
+            return (m_url.hashCode() * 31 + m_contextHash) * 31 + Objects.hashCode(m_nodeDirectory);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            final Object context = m_context.get();
+            // keys of collected contexts are only equal to themselves
+            return (context != null) && (context == other.m_context.get()) && m_url.equals(other.m_url)
+                && Objects.equals(m_nodeDirectory, other.m_nodeDirectory);
+        }
+    }
+
+    /** Weak reference to the workflow context of a key, knowing the key it belongs to. */
+    private static final class ContextReference extends WeakReference<Object> {
+        private final Key m_key;
+
+        ContextReference(final Object context, final Key key, final ReferenceQueue<Object> queue) {
+            super(context, queue);
+            m_key = key;
+        }
+    }
+}
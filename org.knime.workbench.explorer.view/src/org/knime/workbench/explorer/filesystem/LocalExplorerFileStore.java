@@ -51,7 +51,6 @@
 import java.io.IOException;
 import java.util.Arrays;
 
-import org.apache.commons.io.FileUtils;
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileStore;
 import org.eclipse.core.runtime.CoreException;
@@ -163,10 +162,8 @@ public void copy(final IFileStore destination, final int options, final IProgres
 
                 super.cleanupDestination(destination, options, monitor);
                 try {
-                    if (srcFile.isDirectory()) {
-                        FileUtils.copyDirectory(srcFile, dstFile);
-                    } else if (srcFile.isFile()) {
-                        FileUtils.copyFile(srcFile, dstFile);
+                    if (srcFile.isDirectory() || srcFile.isFile()) {
+                        LocalFileTransfer.copy(srcFile.toPath(), dstFile.toPath(), monitor);
                     }
                 } catch (IOException e) {
                     String message =
@@ -0,0 +1,232 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.filesystem;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Copies and moves files and directories between locations on the local file system(s) using NIO. Moves are done
+ * atomically if source and destination are on the same file store, copies walk the tree once (creating the
+ * directories) and copy the files concurrently. If the fast path is disabled via {@value #PROPERTY_DISABLE_FAST_COPY}
+ * the previous commons-io based implementation is used.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 8.6
+ */
+public final class LocalFileTransfer {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LocalFileTransfer.class);
+
+    /** System property to fall back to the (single-threaded, stream based) copy as used in previous versions. */
+    public static final String PROPERTY_DISABLE_FAST_COPY = "knime.explorer.localcopy.legacy";
+
+    private static final int MAX_COPY_THREADS = 4;
+
+    private static final long PROGRESS_POLL_MILLIS = 100;
+
+    private LocalFileTransfer() {
+        // utility class
+    }
+
+    /**
+     * Moves the source to the destination. If both are on the same file store an atomic rename is done. Otherwise
+     * (or if the rename fails for any other reason) the source is copied and deleted afterwards.
+     *
+     * @param src the file or directory to move
+     * @param dst the destination, must not exist
+     * @param monitor a progress monitor, may be <code>null</code>
+     * @throws IOException if the move fails
+     */
+    public static void move(final Path src, final Path dst, final IProgressMonitor monitor) throws IOException {
+        try {
+            Files.move(src, dst, StandardCopyOption.ATOMIC_MOVE);
+            return;
+        } catch (AtomicMoveNotSupportedException e) {
+            LOGGER.debug("Atomic move from \"" + src + "\" to \"" + dst + "\" not supported, copying instead: "
+                + e.getMessage());
+        } catch (IOException e) {
+            // e.g. locked files or junctions on Windows - like File#renameTo failing, copy & delete may still work
+            LOGGER.debug("Could not rename \"" + src + "\" to \"" + dst + "\", copying instead: " + e.getMessage(),
+                e);
+        }
+        copyAndDelete(src, dst, monitor);
+    }
+
+    /**
+     * Fallback of {@link #move(Path, Path, IProgressMonitor)}: copies the source and deletes it afterwards.
+     */
+    static void copyAndDelete(final Path src, final Path dst, final IProgressMonitor monitor) throws IOException {
+        copy(src, dst, monitor);
+        if (Files.isDirectory(src)) {
+            FileUtils.deleteDirectory(src.toFile());
+        } else {
+            Files.delete(src);
+        }
+    }
+
+    /**
+     * Copies the source file or directory (recursively) to the destination, preserving file attributes.
+     *
+     * @param src the file or directory to copy
+     * @param dst the destination
+     * @param monitor a progress monitor, may be <code>null</code>
+     * @throws IOException if the copy fails or is canceled
+     */
+    public static void copy(final Path src, final Path dst, final IProgressMonitor monitor) throws IOException {
+        if (Boolean.getBoolean(PROPERTY_DISABLE_FAST_COPY)) {
+            if (Files.isDirectory(src)) {
+                FileUtils.copyDirectory(src.toFile(), dst.toFile());
+            } else {
+                FileUtils.copyFile(src.toFile(), dst.toFile());
+            }
+            return;
+        }
+        if (!Files.isDirectory(src)) {
+            Files.copy(src, dst, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+            return;
+        }
+        final List<Path[]> files = createDirectoryTree(src, dst);
+        copyFiles(files, SubMonitor.convert(monitor, files.size()));
+    }
+
+    /**
+     * Walks the source tree, creates all directories in the destination tree and returns the (source, destination)
+     * pairs of all regular files.
+     */
+    private static List<Path[]> createDirectoryTree(final Path src, final Path dst) throws IOException {
+        final List<Path[]> files = new ArrayList<>();
+        Files.walkFileTree(src, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+                throws IOException {
+                Files.createDirectories(dst.resolve(src.relativize(dir)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                files.add(new Path[]{file, dst.resolve(src.relativize(file))});
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return files;
+    }
+
+    private static void copyFiles(final List<Path[]> files, final SubMonitor progress) throws IOException {
+        if (files.isEmpty()) {
+            return;
+        }
+        final int nrThreads =
+            Math.min(files.size(), Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_COPY_THREADS)));
+        final ExecutorService executor = Executors.newFixedThreadPool(nrThreads, new ThreadFactory() {
+            private final AtomicInteger m_threadIDs = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, "Local-File-Copy-" + m_threadIDs.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        final CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        try {
+            for (Path[] f : files) {
+                completion.submit(() -> {
+                    Files.copy(f[0], f[1], StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                    return null;
+                });
+            }
+            int remaining = files.size();
+            while (remaining > 0) {
+                if (progress.isCanceled()) {
+                    throw new IOException("Canceled.");
+                }
+                final Future<Void> done = completion.poll(PROGRESS_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (done != null) {
+                    done.get();
+                    progress.worked(1);
+                    remaining--;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while copying files.", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -45,6 +45,10 @@
 package org.knime.workbench.explorer.localworkspace;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -229,7 +233,44 @@ public AbstractExplorerFileStore getParent(final Object element) {
      */
     @Override
     public boolean hasChildren(final Object element) {
-        return getChildren(element).length > 0;
+        if (!(element instanceof LocalWorkspaceFileStore)) {
+            return false;
+        }
+        LocalExplorerFileStore parent = (LocalExplorerFileStore)element;
+        if (AbstractExplorerFileStore.isNode(parent) || AbstractExplorerFileStore.isWorkflow(parent)) {
+            return false;
+        }
+        final boolean isWorkflowGroup = AbstractExplorerFileStore.isWorkflowGroup(parent);
+        if (!isWorkflowGroup && AbstractExplorerFileStore.isWorkflowTemplate(parent)) {
+            return false;
+        }
+        // probe the directory until the first child that getChildren would return - don't create all children
+        try {
+            File dir = parent.toLocalFile();
+            if (dir == null) {
+                return getChildren(element).length > 0;
+            }
+            try (DirectoryStream<java.nio.file.Path> stream = Files.newDirectoryStream(dir.toPath())) {
+                for (java.nio.file.Path p : stream) {
+                    String name = p.getFileName().toString();
+                    if (AbstractContentProvider.isHiddenFile(name)) {
+                        continue;
+                    }
+                    LocalExplorerFileStore c = parent.getChild(name);
+                    if (AbstractExplorerFileStore.isWorkflowGroup(c) || AbstractExplorerFileStore.isWorkflow(c)) {
+                        return true;
+                    }
+                    if (isWorkflowGroup && (AbstractExplorerFileStore.isWorkflowTemplate(c)
+                            || AbstractExplorerFileStore.isDataFile(c))) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } catch (CoreException | IOException | DirectoryIteratorException e) {
+            LOGGER.debug("Unable to probe children of \"" + parent + "\": " + e.getMessage(), e);
+            return getChildren(element).length > 0;
+        }
     }
 
     /*
@@ -70,6 +70,7 @@
 import org.knime.workbench.explorer.ExplorerActivator;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
 import org.knime.workbench.explorer.filesystem.LocalExplorerFileStore;
+import org.knime.workbench.explorer.filesystem.LocalFileTransfer;
 import org.knime.workbench.explorer.view.AbstractContentProvider;
 import org.osgi.framework.FrameworkUtil;
 
@@ -300,28 +301,22 @@ public void move(final IFileStore destination, final int options,
         super.cleanupDestination(destination, options, monitor);
 
         try {
-            if (srcFile.renameTo(dstFile)) {
-                // if rename works: refresh
-                final LocalExplorerFileStore srcParent = getParent();
-                IFileStore destParent = destination.getParent();
-                if (!srcParent.equals(destParent)
-                        && destParent instanceof AbstractExplorerFileStore) {
-                    ((AbstractExplorerFileStore)destParent).refresh();
-                }
-                refreshResource(srcParent);
-            } else {
-                copy(destination, options, monitor);
-                delete(options, monitor);
-                // copy/delete refreshes
-            }
-        } catch (SecurityException e) {
+            // atomic rename if on the same file store, otherwise copy & delete
+            LocalFileTransfer.move(srcFile.toPath(), dstFile.toPath(), monitor);
+        } catch (IOException | SecurityException e) {
             String message =
-                    "Could not rename file \"" + srcFile.getAbsolutePath()
-                            + "\" to \"" + dstFile.getAbsolutePath()
-                            + "\" due to missing access rights.";
+                    "Could not move file \"" + srcFile.getAbsolutePath()
+                            + "\" to \"" + dstFile.getAbsolutePath() + "\".";
             throw new CoreException(new Status(IStatus.ERROR,
                     ExplorerActivator.PLUGIN_ID, message, e));
         }
+        final LocalExplorerFileStore srcParent = getParent();
+        IFileStore destParent = destination.getParent();
+        if (!srcParent.equals(destParent)
+                && destParent instanceof AbstractExplorerFileStore) {
+            ((AbstractExplorerFileStore)destParent).refresh();
+        }
+        refreshResource(srcParent);
     }
 
     /**
@@ -0,0 +1,458 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.pathresolve;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.io.IOUtils;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+
+/**
+ * A disk-backed, size-bounded cache for resources downloaded by the {@link URIToFileResolveImpl}, keyed by the
+ * resolved URL. Each request for a cached resource is revalidated with the server by a conditional request
+ * (<code>If-None-Match</code> with the stored ETag, <code>If-Modified-Since</code> with the stored Last-Modified), so
+ * the content is only downloaded again if it has changed - and access rights are still checked by the server.
+ *
+ * Callers get their own copy of the cached content, so they can modify or delete it as they always could without
+ * affecting the cache. Resources without validators or marked as <code>no-store</code> are not cached.
+ *
+ * The key and the URL stored along with the content don't contain the user info (credentials) of the URL; a resource
+ * fetched by several users is cached once, each user's access is checked by the revalidation request.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RemoteResourceCache {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RemoteResourceCache.class);
+
+    private static final String CONTENT_SUFFIX = ".bin";
+    private static final String INFO_SUFFIX = ".properties";
+
+    private static final String INFO_URL = "url";
+    private static final String INFO_ETAG = "etag";
+    private static final String INFO_LAST_MODIFIED = "lastModified";
+
+    /** The default size of the cache in MB, can be changed with the system property named below. */
+    private static final long DEFAULT_MAX_SIZE_MB = 512;
+    private static final String MAX_SIZE_PROPERTY = "knime.remote.resource.cache.mb";
+
+    /** The number of locks the keys are spread over, see {@link #lockFor(String)}. */
+    private static final int NR_LOCKS = 64;
+
+    private static RemoteResourceCache defaultInstance;
+
+    /**
+     * Opens the connection to a resource, including authentication; invoked once per request.
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        /**
+         * @return a not yet connected connection to the resource
+         * @throws IOException if the connection cannot be opened
+         */
+        HttpURLConnection open() throws IOException;
+    }
+
+    private final File m_directory;
+    private final long m_maxSize;
+
+    /** The cached entries by key, least recently used first. Guarded by itself. */
+    private final LinkedHashMap<String, Entry> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long m_size;
+    private boolean m_loaded;
+
+    /**
+     * Serializes the requests for the same resource, so concurrent readers share one download. Striped by key, so the
+     * number of locks is fixed no matter how many resources are fetched.
+     */
+    private final ReentrantLock[] m_locks = new ReentrantLock[NR_LOCKS];
+
+    /**
+     * @param directory the directory holding the cached content, created if needed
+     * @param maxSize the maximum size of the cached content in bytes
+     */
+    RemoteResourceCache(final File directory, final long maxSize) {
+        m_directory = directory;
+        m_maxSize = maxSize;
+        for (int i = 0; i < NR_LOCKS; i++) {
+            m_locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @return the cache used for the downloads of the {@link URIToFileResolveImpl}, located in the KNIME temp
+     *         directory
+     */
+    static synchronized RemoteResourceCache getDefault() {
+        if (defaultInstance == null) {
+            final long maxSizeMB = Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE_MB).longValue();
+            defaultInstance = new RemoteResourceCache(new File(KNIMEConstants.getKNIMETempDir(), "remote-resources"),
+                maxSizeMB << 20);
+        }
+        return defaultInstance;
+    }
+
+    /**
+     * Returns a local file with the current content of the resource, downloading it only if it is not cached or has
+     * changed on the server.
+     *
+     * @param url the resolved URL of the resource, the cache key
+     * @param connectionFactory opens the connection to the resource
+     * @return a file owned by the caller
+     * @throws IOException if the resource cannot be fetched
+     */
+    File fetch(final URL resourceUrl, final ConnectionFactory connectionFactory) throws IOException {
+        // never stored or logged with credentials
+        final URL url = withoutUserInfo(resourceUrl);
+        final String key = keyFor(url);
+        final ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            final Entry entry = getEntry(key);
+            final Entry cached = ((entry != null) && entry.contentFile().isFile()) ? entry : null;
+
+            final HttpURLConnection connection = connectionFactory.open();
+            if (cached != null) {
+                if (cached.m_etag != null) {
+                    connection.setRequestProperty("If-None-Match", cached.m_etag);
+                }
+                if (cached.m_lastModified != null) {
+                    connection.setRequestProperty("If-Modified-Since", cached.m_lastModified);
+                }
+            }
+
+            final int responseCode = connection.getResponseCode();
+            if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                connection.disconnect();
+                if (cached == null) {
+                    throw new IOException("Unexpected response for resource at '" + url + "': not modified");
+                }
+                LOGGER.debug("Using cached copy of resource at '" + url + "', not modified.");
+                return provideCopy(cached.contentFile());
+            }
+
+            return download(key, url, connection);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // requests for different resources sharing a lock are serialized, too, which is rare enough with a few dozen locks
+    private ReentrantLock lockFor(final String key) {
+        return m_locks[Math.floorMod(key.hashCode(), NR_LOCKS)];
+    }
+
+    private File download(final String key, final URL url, final HttpURLConnection connection) throws IOException {
+        ensureDirectory();
+        final File temp = File.createTempFile("download", ".part", m_directory);
+        try {
+            // throws for error responses
+            try (InputStream is = connection.getInputStream(); OutputStream os = Files.newOutputStream(temp.toPath())) {
+                IOUtils.copy(is, os);
+            }
+
+            final String etag = connection.getHeaderField("ETag");
+            final String lastModified = connection.getHeaderField("Last-Modified");
+            final String cacheControl = connection.getHeaderField("Cache-Control");
+            final boolean cacheable = ((etag != null) || (lastModified != null))
+                && ((cacheControl == null) || !cacheControl.toLowerCase(Locale.ROOT).contains("no-store"))
+                && (temp.length() <= m_maxSize);
+            if (!cacheable) {
+                removeEntry(key);
+                return moveToCallerFile(temp);
+            }
+
+            final Entry entry = new Entry(key, url.toExternalForm(), etag, lastModified, temp.length());
+            final File content = entry.contentFile();
+            Files.move(temp.toPath(), content.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            entry.writeInfo();
+            putEntry(entry);
+
+            return provideCopy(content);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    private static File moveToCallerFile(final File temp) throws IOException {
+        final File file = FileUtil.createTempFile("download", ".bin");
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    // a copy, not a link: callers writing to their file must not change the cached content
+    private static File provideCopy(final File content) throws IOException {
+        final File file = FileUtil.createTempFile("download", ".bin");
+        Files.copy(content.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return file;
+    }
+
+    private Entry getEntry(final String key) {
+        synchronized (m_entries) {
+            loadIfNecessary();
+            return m_entries.get(key);
+        }
+    }
+
+    private void putEntry(final Entry entry) {
+        synchronized (m_entries) {
+            loadIfNecessary();
+            final Entry previous = m_entries.put(entry.m_key, entry);
+            if (previous != null) {
+                m_size -= previous.m_size;
+            }
+            m_size += entry.m_size;
+            evictIfNecessary(entry.m_key);
+        }
+    }
+
+    private void removeEntry(final String key) {
+        final Entry removed;
+        synchronized (m_entries) {
+            loadIfNecessary();
+            removed = m_entries.remove(key);
+            if (removed != null) {
+                m_size -= removed.m_size;
+            }
+        }
+        if (removed != null) {
+            removed.delete();
+        }
+    }
+
+    // entries being fetched right now are skipped (as are the ones sharing their lock, unless it is held by the fetch
+    // of this thread); copies already handed out are not affected by the eviction
+    private void evictIfNecessary(final String keep) {
+        final Iterator<Entry> it = m_entries.values().iterator();
+        while ((m_size > m_maxSize) && it.hasNext()) {
+            final Entry entry = it.next();
+            if (entry.m_key.equals(keep)) {
+                continue;
+            }
+            final ReentrantLock lock = lockFor(entry.m_key);
+            if (lock.tryLock()) {
+                try {
+                    it.remove();
+                    m_size -= entry.m_size;
+                    entry.delete();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    // the cache outlives the session; entries of previous sessions are picked up, least recently fetched first
+    private void loadIfNecessary() {
+        if (m_loaded) {
+            return;
+        }
+        m_loaded = true;
+        final File[] partialFiles = m_directory.listFiles((dir, name) -> name.endsWith(".part"));
+        if (partialFiles != null) {
+            // left over by a previous session
+            Arrays.stream(partialFiles).forEach(File::delete);
+        }
+        final File[] infoFiles = m_directory.listFiles((dir, name) -> name.endsWith(INFO_SUFFIX));
+        if (infoFiles == null) {
+            return;
+        }
+        final List<Entry> entries = new ArrayList<>();
+        for (final File infoFile : infoFiles) {
+            final String name = infoFile.getName();
+            final Entry entry = readEntry(name.substring(0, name.length() - INFO_SUFFIX.length()));
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Comparator.comparingLong(e -> e.contentFile().lastModified()));
+        for (final Entry entry : entries) {
+            m_entries.put(entry.m_key, entry);
+            m_size += entry.m_size;
+        }
+        evictIfNecessary(null);
+    }
+
+    private Entry readEntry(final String key) {
+        final File infoFile = new File(m_directory, key + INFO_SUFFIX);
+        final File content = new File(m_directory, key + CONTENT_SUFFIX);
+        if (content.isFile()) {
+            final Properties info = new Properties();
+            try (Reader reader = Files.newBufferedReader(infoFile.toPath(), StandardCharsets.UTF_8)) {
+                info.load(reader);
+                final String url = info.getProperty(INFO_URL);
+                if ((url != null) && (new URL(url).getUserInfo() == null) && keyFor(new URL(url)).equals(key)) {
+                    return new Entry(key, url, info.getProperty(INFO_ETAG), info.getProperty(INFO_LAST_MODIFIED),
+                        content.length());
+                }
+            } catch (final IOException | IllegalArgumentException e) {
+                LOGGER.debug("Discarding unreadable cache entry " + infoFile + ": " + e.getMessage());
+            }
+        }
+        infoFile.delete();
+        content.setWritable(true);
+        content.delete();
+        return null;
+    }
+
+    private void ensureDirectory() throws IOException {
+        if (!m_directory.isDirectory()) {
+            Files.createDirectories(m_directory.toPath());
+        }
+    }
+
+    /**
+     * @param url a URL, possibly containing user info (e.g. <code>user:password</code> for basic authentication)
+     * @return the URL without the user info
+     * @throws IOException if the URL cannot be rebuilt
+     */
+    static URL withoutUserInfo(final URL url) throws IOException {
+        if (url.getUserInfo() == null) {
+            return url;
+        }
+        final String ref = url.getRef();
+        return new URL(url.getProtocol(), url.getHost(), url.getPort(),
+            (ref == null) ? url.getFile() : (url.getFile() + "#" + ref));
+    }
+
+    private static String keyFor(final URL url) {
+        try {
+            final byte[] digest =
+                MessageDigest.getInstance("SHA-256").digest(url.toExternalForm().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder key = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                key.append(String.format("%02x", b & 0xff));
+            }
+            return key.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory for every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return the number of cached resources
+     */
+    int size() {
+        synchronized (m_entries) {
+            loadIfNecessary();
+            return m_entries.size();
+        }
+    }
+
+
+    private final class Entry {
+        private final String m_key;
+        private final String m_url;
+        private final String m_etag;
+        private final String m_lastModified;
+        private final long m_size;
+
+        private Entry(final String key, final String url, final String etag, final String lastModified,
+            final long size) {
+            m_key = key;
+            m_url = url;
+            m_etag = etag;
+            m_lastModified = lastModified;
+            m_size = size;
+        }
+
+        private File contentFile() {
+            return new File(m_directory, m_key + CONTENT_SUFFIX);
+        }
+
+        private File infoFile() {
+            return new File(m_directory, m_key + INFO_SUFFIX);
+        }
+
+        private void writeInfo() throws IOException {
+            final Properties info = new Properties();
+            info.setProperty(INFO_URL, m_url);
+            if (m_etag != null) {
+                info.setProperty(INFO_ETAG, m_etag);
+            }
+            if (m_lastModified != null) {
+                info.setProperty(INFO_LAST_MODIFIED, m_lastModified);
+            }
+            try (Writer writer = Files.newBufferedWriter(infoFile().toPath(), StandardCharsets.UTF_8)) {
+                info.store(writer, null);
+            }
+        }
+
+        private void delete() {
+            final File content = contentFile();
+            content.setWritable(true);
+            if (!content.delete() && content.exists()) {
+                LOGGER.debug("Could not delete cached content " + content);
+            }
+            infoFile().delete();
+        }
+    }
+}
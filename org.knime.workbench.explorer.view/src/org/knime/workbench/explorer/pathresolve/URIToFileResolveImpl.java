@@ -159,7 +159,8 @@ private static File resolveToLocalOrTempFileInternal(final URI uri, final IProgr
         } else if (ExplorerFileSystem.SCHEME.equalsIgnoreCase(scheme)) {
             return resolveKnimeUriToLocalOrTempFile(uri, monitor, ifModifiedSince);
         } else if ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) {
-            return fetchRemoteFile(uri.toURL(), ifModifiedSince);
+            final URL url = uri.toURL();
+            return fetchRemoteFile(url, url, ifModifiedSince);
         } else {
             throw new IOException("Unable to resolve URI \"" + uri + "\" to local file, unknown scheme");
         }
@@ -181,7 +182,7 @@ private static File resolveKnimeUriToLocalOrTempFile(final URI uri, final IProgr
             }
         } else {
             // use the original URL because otherwise the handler may not be invoked correctly
-            return fetchRemoteFile(uri.toURL(), ifModifiedSince);
+            return fetchRemoteFile(uri.toURL(), url, ifModifiedSince);
         }
     }
 
@@ -203,7 +204,20 @@ private static File fetchRemoteFileStore(final RemoteExplorerFileStore source, f
         }
     }
 
-    private static File fetchRemoteFile(final URL url, final ZonedDateTime ifModifiedSince) throws IOException {
+    /**
+     * Downloads the resource at the given URL. Unconditional requests are served by the {@link RemoteResourceCache},
+     * which only downloads the resource again if it has changed.
+     *
+     * @param url the URL to open the connection to
+     * @param resolvedUrl the resolved URL identifying the resource, the key of the cache
+     * @param ifModifiedSince the time for a conditional request, or null
+     * @return the local file or null if the resource has not been modified since the given time
+     */
+    private static File fetchRemoteFile(final URL url, final URL resolvedUrl, final ZonedDateTime ifModifiedSince)
+        throws IOException {
+        if (ifModifiedSince == null) {
+            return RemoteResourceCache.getDefault().fetch(resolvedUrl, () -> openConnection(url));
+        }
         InputStream inputStream = addAuthHeaderAndOpenStream(url, ifModifiedSince);
         File f = null;
         if (inputStream != null) {
@@ -217,15 +231,7 @@ private static File fetchRemoteFile(final URL url, final ZonedDateTime ifModifie
 
     private static InputStream addAuthHeaderAndOpenStream(final URL url, final ZonedDateTime ifModifiedSince)
         throws IOException {
-        HttpURLConnection uc = (HttpURLConnection)url.openConnection();
-        String userInfo = url.getUserInfo();
-        if (userInfo != null) {
-            String urlDecodedUserInfo = URLDecoder.decode(userInfo, StandardCharsets.UTF_8.name());
-            String basicAuth =
-                "Basic " + new String(Base64.getEncoder().encode(urlDecodedUserInfo.getBytes(StandardCharsets.UTF_8)),
-                    StandardCharsets.UTF_8);
-            uc.setRequestProperty("Authorization", basicAuth);
-        }
+        HttpURLConnection uc = openConnection(url);
         if (ifModifiedSince != null) {
             uc.setIfModifiedSince(ifModifiedSince.toInstant().toEpochMilli());
             uc.connect();
@@ -238,6 +244,19 @@ private static InputStream addAuthHeaderAndOpenStream(final URL url, final Zoned
         return uc.getInputStream();
     }
 
+    private static HttpURLConnection openConnection(final URL url) throws IOException {
+        HttpURLConnection uc = (HttpURLConnection)url.openConnection();
+        String userInfo = url.getUserInfo();
+        if (userInfo != null) {
+            String urlDecodedUserInfo = URLDecoder.decode(userInfo, StandardCharsets.UTF_8.name());
+            String basicAuth =
+                "Basic " + new String(Base64.getEncoder().encode(urlDecodedUserInfo.getBytes(StandardCharsets.UTF_8)),
+                    StandardCharsets.UTF_8);
+            uc.setRequestProperty("Authorization", basicAuth);
+        }
+        return uc;
+    }
+
     /**
      * {@inheritDoc}
      *
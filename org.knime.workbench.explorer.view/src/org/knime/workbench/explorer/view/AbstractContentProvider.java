@@ -1267,7 +1267,10 @@ public static AbstractExplorerFileStore[] getMetaNodeChildren(
      * @return the icon/image for the passed file store
      */
     public static Image getWorkspaceImage(final AbstractExplorerFileStore efs) {
+        return ExplorerDecorationCache.getImage(efs, AbstractContentProvider::computeWorkspaceImage);
+    }
 
+    private static Image computeWorkspaceImage(final AbstractExplorerFileStore efs) {
         if (AbstractExplorerFileStore.isNode(efs)) {
             return ImageRepository.getIconImage(SharedImages.Node);
         }
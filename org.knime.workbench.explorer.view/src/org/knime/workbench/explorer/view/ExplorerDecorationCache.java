@@ -0,0 +1,204 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.view;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.swt.graphics.Image;
+import org.knime.core.node.workflow.NodeMessageEvent;
+import org.knime.core.node.workflow.NodeMessageListener;
+import org.knime.core.node.workflow.NodeStateChangeListener;
+import org.knime.core.node.workflow.NodeStateEvent;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
+import org.knime.workbench.ui.navigator.ProjectWorkflowMap;
+
+/**
+ * Caches the icons of explorer items so that repaints don't need to query the file system or the
+ * {@link ProjectWorkflowMap} again. Icons of workflows depend on the state (and node messages) of the opened workflow
+ * and are dropped on any workflow, state or message event of the {@link ProjectWorkflowMap}; all other entries are
+ * dropped on explorer refreshes (see {@link ExplorerView}).
+ *
+ * <p>
+ * The cache is only used while at least one explorer view is {@link #connect() connected}; the listeners are
+ * registered with the {@link ProjectWorkflowMap} for that time only.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ExplorerDecorationCache {
+
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    /** Keys (of {@link #IMAGES}) of workflows, i.e. the entries that depend on the workflow state. */
+    private static final Map<String, Boolean> WORKFLOW_KEYS = new ConcurrentHashMap<>();
+
+    /** Incremented on every invalidation, images computed during an invalidation are not kept. */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private static final Object CLIENTS_LOCK = new Object();
+
+    /** Number of connected explorer views, guarded by {@link #CLIENTS_LOCK}. */
+    private static int clients;
+
+    private static final WorkflowListener WORKFLOW_LISTENER = new WorkflowListener() {
+        @Override
+        public void workflowChanged(final WorkflowEvent event) {
+            invalidateWorkflows();
+        }
+    };
+
+    private static final NodeStateChangeListener STATE_LISTENER = new NodeStateChangeListener() {
+        @Override
+        public void stateChanged(final NodeStateEvent state) {
+            invalidateWorkflows();
+        }
+    };
+
+    private static final NodeMessageListener MESSAGE_LISTENER = new NodeMessageListener() {
+        @Override
+        public void messageChanged(final NodeMessageEvent messageEvent) {
+            invalidateWorkflows();
+        }
+    };
+
+    private ExplorerDecorationCache() {
+        // utility class
+    }
+
+    /** Registers a client (explorer view); the first one enables the cache and its listeners. */
+    static void connect() {
+        synchronized (CLIENTS_LOCK) {
+            if (clients++ == 0) {
+                ProjectWorkflowMap.addWorkflowListener(WORKFLOW_LISTENER);
+                ProjectWorkflowMap.addStateListener(STATE_LISTENER);
+                ProjectWorkflowMap.addNodeMessageListener(MESSAGE_LISTENER);
+            }
+        }
+    }
+
+    /** Unregisters a client; the last one removes the listeners and drops all cached entries. */
+    static void disconnect() {
+        synchronized (CLIENTS_LOCK) {
+            if (clients > 0 && --clients == 0) {
+                ProjectWorkflowMap.removeWorkflowListener(WORKFLOW_LISTENER);
+                ProjectWorkflowMap.removeStateListener(STATE_LISTENER);
+                ProjectWorkflowMap.removeNodeMessageListener(MESSAGE_LISTENER);
+                invalidateAll();
+            }
+        }
+    }
+
+    private static boolean isConnected() {
+        synchronized (CLIENTS_LOCK) {
+            return clients > 0;
+        }
+    }
+
+    /**
+     * @param efs the file store
+     * @param imageFunction computes the image if not cached, may return <code>null</code> (which is not cached)
+     * @return the (cached) image
+     */
+    static Image getImage(final AbstractExplorerFileStore efs,
+        final Function<AbstractExplorerFileStore, Image> imageFunction) {
+        if (!isConnected()) {
+            // nobody invalidates the entries
+            return imageFunction.apply(efs);
+        }
+        final String key = efs.getMountIDWithFullPath();
+        Image img = IMAGES.get(key);
+        if (img == null) {
+            final long generation = GENERATION.get();
+            img = imageFunction.apply(efs);
+            if (img != null) {
+                if (AbstractExplorerFileStore.isWorkflow(efs)) {
+                    WORKFLOW_KEYS.put(key, Boolean.TRUE);
+                }
+                IMAGES.put(key, img);
+                if (GENERATION.get() != generation) {
+                    // invalidated while computing, the image may be stale
+                    IMAGES.remove(key, img);
+                }
+            }
+        }
+        return img;
+    }
+
+    /** Drops all entries that depend on the state of an opened workflow. */
+    static void invalidateWorkflows() {
+        GENERATION.incrementAndGet();
+        for (String key : WORKFLOW_KEYS.keySet()) {
+            WORKFLOW_KEYS.remove(key);
+            IMAGES.remove(key);
+        }
+    }
+
+    /**
+     * Drops the entries of the passed file store and everything underneath.
+     *
+     * @param efs the refreshed file store
+     */
+    static void invalidate(final AbstractExplorerFileStore efs) {
+        GENERATION.incrementAndGet();
+        final String key = efs.getMountIDWithFullPath();
+        final String prefix = key.endsWith("/") ? key : (key + "/");
+        IMAGES.keySet().removeIf(k -> k.equals(key) || k.startsWith(prefix));
+        WORKFLOW_KEYS.keySet().removeIf(k -> k.equals(key) || k.startsWith(prefix));
+    }
+
+    /** Drops all cached entries. */
+    static void invalidateAll() {
+        GENERATION.incrementAndGet();
+        IMAGES.clear();
+        WORKFLOW_KEYS.clear();
+    }
+}
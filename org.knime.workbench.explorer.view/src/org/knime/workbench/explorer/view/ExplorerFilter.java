@@ -44,8 +44,10 @@
  */
 package org.knime.workbench.explorer.view;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.Path;
@@ -65,9 +67,15 @@ public class ExplorerFilter extends TextualViewFilter {
 
     private String m_queryString;
 
+    private WorkflowMetadataIndex.Query m_metadataQuery;
+
+    private final Map<String, Set<String>> m_metadataMatches = new HashMap<String, Set<String>>();
+
     /**
      *  An element is selected if itself, a parent or a
-     * child contains the query string in its name.
+     * child contains the query string in its name. For metadata queries
+     * (e.g. "tag:churn author:ops") the metadata of itself or a child has to
+     * match instead.
      * {@inheritDoc}
      */
     @Override
@@ -91,7 +99,8 @@ protected boolean doSelect(final Object parentElement,
             }
             String fullName = fileStore.getFullName();
 
-            final String cachekey = m_usingKnimeProtocol ? contentProvider.getMountID() + fullName : fullName;
+            final boolean keyWithMountID = m_usingKnimeProtocol || (m_metadataQuery != null);
+            final String cachekey = keyWithMountID ? contentProvider.getMountID() + fullName : fullName;
 
             Boolean selected = m_cache.get(cachekey);
             if (selected != null) {
@@ -110,7 +119,10 @@ protected boolean doSelect(final Object parentElement,
             if (AbstractExplorerFileStore.isWorkflowGroup(fileStore)) {
                 /* Directories are shown if their name matches or if the name
                  * of any child matches. */
-                if (!selectThis) {
+                if (!selectThis && (m_metadataQuery != null)) {
+                    // the index knows all matches of the mount point, no need to walk the children
+                    selectThis = hasMetadataMatchBelow(fileStore);
+                } else if (!selectThis) {
                     for (AbstractExplorerFileStore child
                             : contentProvider.getChildren(fileStore)) {
                         // parent is not necessary (->null)
@@ -131,7 +143,7 @@ protected boolean doSelect(final Object parentElement,
 //                        LOGGER.debug("Caching " + pathString + ": " + (
 //                                selectThis || existsAndTrue));
                         final String key =
-                            m_usingKnimeProtocol ? contentProvider.getMountID() + pathString : pathString;
+                            keyWithMountID ? contentProvider.getMountID() + pathString : pathString;
                         m_cache.put(key, selectThis || existsAndTrue);
                     }
                 }
@@ -142,6 +154,9 @@ protected boolean doSelect(final Object parentElement,
     }
 
     private boolean match(final AbstractExplorerFileStore fileStore) {
+        if (m_metadataQuery != null) {
+            return getMetadataMatches(fileStore).contains(fileStore.getFullName());
+        }
         if (m_usingKnimeProtocol) {
             // searching using the knime protocol, check url of the store.
             return !(fileStore instanceof MessageFileStore)
@@ -150,6 +165,45 @@ private boolean match(final AbstractExplorerFileStore fileStore) {
         return match(fileStore.getFullName());
     }
 
+    private boolean hasMetadataMatchBelow(final AbstractExplorerFileStore group) {
+        final String fullName = group.getFullName();
+        final String prefix = fullName.endsWith("/") ? fullName : fullName + "/";
+        for (String path : getMetadataMatches(group)) {
+            if (path.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Metadata queries are answered by the index of local mount points, remote items never match. Nothing matches until
+     * the index has been read in the background, the view is refreshed then (see {@link #metadataIndexUpdated()}).
+     */
+    private Set<String> getMetadataMatches(final AbstractExplorerFileStore fileStore) {
+        final AbstractContentProvider provider = fileStore.getContentProvider();
+        if ((fileStore instanceof MessageFileStore) || (provider == null) || provider.isRemote()) {
+            return Collections.emptySet();
+        }
+        return m_metadataMatches.computeIfAbsent(provider.getMountID(),
+            id -> WorkflowMetadataIndexer.getInstance().search(id, m_metadataQuery));
+    }
+
+    /**
+     * @return whether the current query searches the workflow metadata, e.g. <code>tag:churn author:ops</code>
+     */
+    boolean isMetadataQuery() {
+        return m_metadataQuery != null;
+    }
+
+    /**
+     * Forgets the matches of the current metadata query, so that they are looked up again in the updated index.
+     */
+    void metadataIndexUpdated() {
+        m_cache.clear();
+        m_metadataMatches.clear();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -159,6 +213,11 @@ public void setQueryString(final String query) {
         m_cache.clear();
         m_queryString = query.toUpperCase();
         m_usingKnimeProtocol = m_queryString.startsWith("KNIME://");
+        m_metadataMatches.clear();
+        m_metadataQuery = m_usingKnimeProtocol ? null : WorkflowMetadataIndex.Query.parse(query);
+        if (m_metadataQuery != null) {
+            WorkflowMetadataIndexer.getInstance().scheduleUpdate();
+        }
 //        LOGGER.debug("Clearing cache...");
     }
 }
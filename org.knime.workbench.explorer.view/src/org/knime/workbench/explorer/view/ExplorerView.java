@@ -222,6 +222,24 @@ public void focusGained(final FocusEvent e) {
 
     private Clipboard m_clipboard;
 
+    private final ExplorerFilter m_filter = new ExplorerFilter();
+
+    // re-applies a metadata query once the background indexer has updated the index
+    private final Runnable m_metadataIndexListener = new Runnable() {
+        @Override
+        public void run() {
+            Display.getDefault().asyncExec(new Runnable() {
+                @Override
+                public void run() {
+                    if (m_viewer != null && !m_viewer.getControl().isDisposed() && m_filter.isMetadataQuery()) {
+                        m_filter.metadataIndexUpdated();
+                        m_viewer.refresh();
+                    }
+                }
+            });
+        }
+    };
+
     private CutCopyToClipboardAction m_copyAction;
     private CutCopyToClipboardAction m_cutAction;
     private PasteFromClipboardAction m_pasteAction;
@@ -355,7 +373,8 @@ private void createLocalToolBar() {
         toolBarMgr.add(synchronize);
         toolBarMgr.add(new Separator());
         FilterViewContributionItemExtension filterViewContributionItem =
-                new FilterViewContributionItemExtension(m_viewer, new ExplorerFilter(), false);
+                new FilterViewContributionItemExtension(m_viewer, m_filter, false);
+        WorkflowMetadataIndexer.getInstance().addListener(m_metadataIndexListener);
 
         toolBarMgr.add(filterViewContributionItem);
         toolBarMgr.add(new Separator());
@@ -451,7 +470,9 @@ private boolean onDoubleClickInTreeViewerInSWT() {
 
     private void createTreeViewer(final Composite parent,
             final ContentDelegator provider) {
-        m_viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL);
+        // virtual: tree items are only created, labeled and decorated when they become visible
+        m_viewer = new TreeViewer(parent, SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL | SWT.VIRTUAL);
+        m_viewer.setUseHashlookup(true);
         m_viewer.getTree().setLayoutData(new GridData(GridData.FILL_BOTH));
         m_viewer.setComparator(new ExplorerViewComparator());
         m_viewer.setContentProvider(provider);
@@ -492,6 +513,7 @@ public void run() {
 
         ProjectWorkflowMap.addStateListener(this);
         ProjectWorkflowMap.addWorkflowListener(this);
+        ExplorerDecorationCache.connect();
         //ProjectWorkflowMap.addNodeMessageListener(this);
         //ProjectWorkflowMap.addNodePropertyChangedListener(this);
 
@@ -571,11 +593,15 @@ public void propertyChange(final PropertyChangeEvent event) {
         if (event != null
                 && ContentDelegator.CONTENT_CHANGED.equals(event.getProperty())) {
             if (event.getNewValue() instanceof AbstractExplorerFileStore) {
-                refreshAsync(ContentDelegator.getTreeObjectFor((AbstractExplorerFileStore)event.getNewValue()));
+                AbstractExplorerFileStore fs = (AbstractExplorerFileStore)event.getNewValue();
+                ExplorerDecorationCache.invalidate(fs);
+                refreshAsync(ContentDelegator.getTreeObjectFor(fs));
             } else {
+                ExplorerDecorationCache.invalidateAll();
                 refreshAsync();
             }
         } else {
+            ExplorerDecorationCache.invalidateAll();
             refreshAsync();
         }
     }
@@ -840,8 +866,10 @@ public void run() {
     public void dispose() {
         m_contentDelegator.removePropertyChangeListener(this);
         m_contentDelegator.dispose();
+        WorkflowMetadataIndexer.getInstance().removeListener(m_metadataIndexListener);
         ProjectWorkflowMap.removeStateListener(this);
         ProjectWorkflowMap.removeWorkflowListener(this);
+        ExplorerDecorationCache.disconnect();
 //        ProjectWorkflowMap.removeNodePropertyChangedListener(this);
 //        ProjectWorkflowMap.removeNodeMessageListener(this);
         if (m_clipboard != null) {
@@ -47,6 +47,8 @@
  */
 package org.knime.workbench.explorer.view;
 
+import java.util.Arrays;
+
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
@@ -76,6 +78,56 @@ public int compare(final Viewer viewer, final Object e1, final Object e2) {
         return 0;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Computes rank and lower case name only once per element (instead of once per comparison, which involves file
+     * system access) and sorts on these keys.
+     */
+    @Override
+    public void sort(final Viewer viewer, final Object[] elements) {
+        for (Object o : elements) {
+            if (!(o instanceof ContentObject)) {
+                // don't sort AbstractContentProviders. They have their own order
+                super.sort(viewer, elements);
+                return;
+            }
+        }
+        final SortKey[] keys = new SortKey[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            AbstractExplorerFileStore efs = ((ContentObject)elements[i]).getObject();
+            keys[i] = new SortKey(elements[i], rank(efs), efs.getName().toLowerCase());
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            elements[i] = keys[i].m_element;
+        }
+    }
+
+    /** Precomputed sort criteria of a single tree element. */
+    private static final class SortKey implements Comparable<SortKey> {
+        private final Object m_element;
+
+        private final int m_rank;
+
+        private final String m_name;
+
+        SortKey(final Object element, final int rank, final String name) {
+            m_element = element;
+            m_rank = rank;
+            m_name = name;
+        }
+
+        @Override
+        public int compareTo(final SortKey o) {
+            int cmp = o.m_rank - m_rank;
+            if (cmp == 0) {
+                return m_name.compareTo(o.m_name);
+            }
+            return cmp;
+        }
+    }
+
     private int rank(final AbstractExplorerFileStore f) {
         // we want to see message at the top
         if (AbstractExplorerFileStore.isMessage(f)) {
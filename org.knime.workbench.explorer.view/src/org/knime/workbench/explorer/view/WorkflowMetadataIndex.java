@@ -0,0 +1,511 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.view;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index over the metadata (title, description, author, tags) of the workflows and workflow groups of one
+ * local mount point. Each item is a document identified by its full path in the mount point; the terms of each field
+ * point to sorted lists of document ids. Updating an item retires its old document and appends a new one, so posting
+ * lists stay sorted without being rewritten; retired documents are dropped when the index is compacted, which
+ * happens before it is written to disk.
+ *
+ * <p>
+ * Terms are the lower-cased letter-or-digit runs of the field values, queries match terms by prefix. Instances are
+ * thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowMetadataIndex {
+
+    /** The searchable fields. */
+    enum Field {
+        /** The name of the workflow or group. */
+        NAME("name"),
+        /** The title of the metadata. */
+        TITLE("title"),
+        /** The description of the metadata. */
+        DESCRIPTION("description"),
+        /** The author of the metadata. */
+        AUTHOR("author"),
+        /** The tags of the metadata. */
+        TAG("tag");
+
+        private final String m_prefix;
+
+        Field(final String prefix) {
+            m_prefix = prefix;
+        }
+
+        static Field forPrefix(final String prefix) {
+            for (final Field f : values()) {
+                if (f.m_prefix.equalsIgnoreCase(prefix)) {
+                    return f;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final int MAGIC = 0x4B4D4958;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final List<String> m_paths = new ArrayList<>();
+
+    private long[] m_lastModified = new long[64];
+
+    private final Map<String, Integer> m_liveDocuments = new HashMap<>();
+
+    private final BitSet m_retired = new BitSet();
+
+    private final Map<Field, TreeMap<String, Postings>> m_postings = new EnumMap<>(Field.class);
+
+    WorkflowMetadataIndex() {
+        for (final Field f : Field.values()) {
+            m_postings.put(f, new TreeMap<>());
+        }
+    }
+
+    /**
+     * @param path the full path of an item
+     * @return the modification time of the metadata file the item was indexed with, or -1 if it is not indexed
+     */
+    synchronized long getLastModified(final String path) {
+        final Integer doc = m_liveDocuments.get(path);
+        return (doc == null) ? -1 : m_lastModified[doc];
+    }
+
+    /** @return the full paths of all indexed items */
+    synchronized Set<String> getPaths() {
+        return new HashSet<>(m_liveDocuments.keySet());
+    }
+
+    /** @return the number of indexed items */
+    synchronized int size() {
+        return m_liveDocuments.size();
+    }
+
+    /**
+     * Adds an item to the index, replacing the entry it had before.
+     *
+     * @param path the full path of the item
+     * @param lastModified the modification time of its metadata file
+     * @param values the values of its fields
+     */
+    synchronized void put(final String path, final long lastModified,
+        final Map<Field, ? extends Collection<String>> values) {
+        remove(path);
+        final int doc = m_paths.size();
+        m_paths.add(path);
+        if (doc == m_lastModified.length) {
+            m_lastModified = Arrays.copyOf(m_lastModified, doc * 2);
+        }
+        m_lastModified[doc] = lastModified;
+        m_liveDocuments.put(path, doc);
+        for (final Map.Entry<Field, ? extends Collection<String>> e : values.entrySet()) {
+            final TreeMap<String, Postings> terms = m_postings.get(e.getKey());
+            final Set<String> seen = new HashSet<>();
+            for (final String value : e.getValue()) {
+                for (final String term : tokenize(value)) {
+                    if (seen.add(term)) {
+                        terms.computeIfAbsent(term, t -> new Postings()).add(doc);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param path the full path of the item to remove
+     * @return whether the item was indexed
+     */
+    synchronized boolean remove(final String path) {
+        final Integer doc = m_liveDocuments.remove(path);
+        if (doc == null) {
+            return false;
+        }
+        m_retired.set(doc);
+        return true;
+    }
+
+    /**
+     * @param query the query to evaluate
+     * @return the full paths of all items matching every clause of the query
+     */
+    synchronized Set<String> search(final Query query) {
+        BitSet result = null;
+        for (final Clause clause : query.m_clauses) {
+            for (final String token : clause.m_tokens) {
+                final BitSet matches = new BitSet(m_paths.size());
+                if (clause.m_field == null) {
+                    for (final TreeMap<String, Postings> terms : m_postings.values()) {
+                        collect(terms, token, matches);
+                    }
+                } else {
+                    collect(m_postings.get(clause.m_field), token, matches);
+                }
+                if (result == null) {
+                    result = matches;
+                } else {
+                    result.and(matches);
+                }
+                if (result.isEmpty()) {
+                    return Collections.emptySet();
+                }
+            }
+        }
+        if (result == null) {
+            return Collections.emptySet();
+        }
+        result.andNot(m_retired);
+        final Set<String> paths = new HashSet<>();
+        for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+            paths.add(m_paths.get(doc));
+        }
+        return paths;
+    }
+
+    private static void collect(final TreeMap<String, Postings> terms, final String prefix, final BitSet matches) {
+        for (final Postings p : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            for (int i = 0; i < p.m_size; i++) {
+                matches.set(p.m_docs[i]);
+            }
+        }
+    }
+
+    /**
+     * Drops retired documents and renumbers the remaining ones.
+     */
+    synchronized void compact() {
+        if (m_retired.isEmpty()) {
+            return;
+        }
+        final int[] newIds = new int[m_paths.size()];
+        final List<String> paths = new ArrayList<>(m_liveDocuments.size());
+        final long[] lastModified = new long[Math.max(64, m_liveDocuments.size())];
+        for (int doc = 0; doc < newIds.length; doc++) {
+            if (m_retired.get(doc)) {
+                newIds[doc] = -1;
+            } else {
+                newIds[doc] = paths.size();
+                lastModified[paths.size()] = m_lastModified[doc];
+                paths.add(m_paths.get(doc));
+            }
+        }
+        for (final TreeMap<String, Postings> terms : m_postings.values()) {
+            terms.values().removeIf(p -> p.remap(newIds) == 0);
+        }
+        m_paths.clear();
+        m_paths.addAll(paths);
+        m_lastModified = lastModified;
+        m_liveDocuments.clear();
+        for (int doc = 0; doc < m_paths.size(); doc++) {
+            m_liveDocuments.put(m_paths.get(doc), doc);
+        }
+        m_retired.clear();
+    }
+
+    /**
+     * Compacts the index and writes it to the given file; the file is replaced atomically.
+     *
+     * @param file the destination
+     * @throws IOException if the file cannot be written
+     */
+    synchronized void write(final File file) throws IOException {
+        compact();
+        Files.createDirectories(file.getParentFile().toPath());
+        final File tmp = new File(file.getParentFile(), file.getName() + ".part");
+        try (final DataOutputStream out =
+            new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeVarInt(out, m_paths.size());
+            for (int doc = 0; doc < m_paths.size(); doc++) {
+                out.writeUTF(m_paths.get(doc));
+                out.writeLong(m_lastModified[doc]);
+            }
+            for (final Field f : Field.values()) {
+                final TreeMap<String, Postings> terms = m_postings.get(f);
+                writeVarInt(out, terms.size());
+                for (final Map.Entry<String, Postings> e : terms.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    e.getValue().write(out);
+                }
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @param file a file previously written by {@link #write(File)}
+     * @return the index read from the file
+     * @throws IOException if the file cannot be read or has an unknown format
+     */
+    static WorkflowMetadataIndex read(final File file) throws IOException {
+        final WorkflowMetadataIndex index = new WorkflowMetadataIndex();
+        try (final DataInputStream in =
+            new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)) {
+                throw new IOException("Unknown format of metadata index " + file.getAbsolutePath());
+            }
+            final int documents = readVarInt(in);
+            index.m_lastModified = new long[Math.max(64, documents)];
+            for (int doc = 0; doc < documents; doc++) {
+                final String path = in.readUTF();
+                index.m_paths.add(path);
+                index.m_lastModified[doc] = in.readLong();
+                index.m_liveDocuments.put(path, doc);
+            }
+            for (final Field f : Field.values()) {
+                final TreeMap<String, Postings> terms = index.m_postings.get(f);
+                final int termCount = readVarInt(in);
+                for (int i = 0; i < termCount; i++) {
+                    final String term = in.readUTF();
+                    terms.put(term, Postings.read(in, documents));
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @param value a field value or a query value
+     * @return the lower-cased runs of letters and digits in the value
+     */
+    static List<String> tokenize(final String value) {
+        final List<String> tokens = new ArrayList<>();
+        if (value == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= value.length(); i++) {
+            final boolean partOfToken = (i < value.length()) && Character.isLetterOrDigit(value.charAt(i));
+            if (partOfToken && (start < 0)) {
+                start = i;
+            } else if (!partOfToken && (start >= 0)) {
+                tokens.add(value.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void writeVarInt(final OutputStream out, final int value) throws IOException {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            out.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write(v);
+    }
+
+    private static int readVarInt(final InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = in.read();
+            if (b < 0) {
+                throw new IOException("Unexpected end of metadata index");
+            }
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed metadata index");
+    }
+
+    /** A sorted list of document ids, written as deltas. */
+    private static final class Postings {
+        private int[] m_docs = new int[2];
+
+        private int m_size;
+
+        void add(final int doc) {
+            if (m_size == m_docs.length) {
+                m_docs = Arrays.copyOf(m_docs, m_size * 2);
+            }
+            m_docs[m_size++] = doc;
+        }
+
+        int remap(final int[] newIds) {
+            int size = 0;
+            for (int i = 0; i < m_size; i++) {
+                final int doc = newIds[m_docs[i]];
+                if (doc >= 0) {
+                    m_docs[size++] = doc;
+                }
+            }
+            m_size = size;
+            return size;
+        }
+
+        void write(final DataOutputStream out) throws IOException {
+            writeVarInt(out, m_size);
+            int previous = 0;
+            for (int i = 0; i < m_size; i++) {
+                writeVarInt(out, m_docs[i] - previous);
+                previous = m_docs[i];
+            }
+        }
+
+        static Postings read(final DataInputStream in, final int documents) throws IOException {
+            final Postings p = new Postings();
+            final int size = readVarInt(in);
+            p.m_docs = new int[Math.max(2, size)];
+            int doc = 0;
+            for (int i = 0; i < size; i++) {
+                doc += readVarInt(in);
+                if (doc >= documents) {
+                    throw new IOException("Malformed metadata index");
+                }
+                p.m_docs[i] = doc;
+            }
+            p.m_size = size;
+            return p;
+        }
+    }
+
+    /**
+     * A parsed metadata query such as <code>tag:churn author:ops</code>. Values can be quoted to include spaces, words
+     * without a field prefix match any field. An item matches if it matches every word of every clause.
+     */
+    static final class Query {
+        private final List<Clause> m_clauses;
+
+        private Query(final List<Clause> clauses) {
+            m_clauses = clauses;
+        }
+
+        /**
+         * @param query the query entered by the user
+         * @return the parsed query or <code>null</code> if it does not contain any clause with a field prefix, i.e. if
+         *         it is not meant as a metadata query
+         */
+        static Query parse(final String query) {
+            final List<Clause> clauses = new ArrayList<>();
+            boolean hasField = false;
+            int i = 0;
+            final int length = query.length();
+            while (i < length) {
+                while ((i < length) && Character.isWhitespace(query.charAt(i))) {
+                    i++;
+                }
+                final int start = i;
+                Field field = null;
+                while ((i < length) && !Character.isWhitespace(query.charAt(i)) && (query.charAt(i) != ':')
+                    && (query.charAt(i) != '"')) {
+                    i++;
+                }
+                if ((i < length) && (query.charAt(i) == ':')) {
+                    field = Field.forPrefix(query.substring(start, i));
+                    if (field != null) {
+                        hasField = true;
+                        i++;
+                    } else {
+                        i = start;
+                    }
+                } else {
+                    i = start;
+                }
+                final String value;
+                if ((i < length) && (query.charAt(i) == '"')) {
+                    final int end = query.indexOf('"', i + 1);
+                    value = query.substring(i + 1, (end < 0) ? length : end);
+                    i = (end < 0) ? length : end + 1;
+                } else {
+                    final int valueStart = i;
+                    while ((i < length) && !Character.isWhitespace(query.charAt(i))) {
+                        i++;
+                    }
+                    value = query.substring(valueStart, i);
+                }
+                final List<String> tokens = tokenize(value);
+                if (!tokens.isEmpty()) {
+                    clauses.add(new Clause(field, tokens));
+                }
+            }
+            return hasField ? new Query(clauses) : null;
+        }
+    }
+
+    private static final class Clause {
+        private final Field m_field;
+
+        private final List<String> m_tokens;
+
+        Clause(final Field field, final List<String> tokens) {
+            m_field = field;
+            m_tokens = tokens;
+        }
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ------------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.workbench.explorer.view;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.node.workflow.metadata.MetadataXML;
+import org.knime.workbench.explorer.ExplorerActivator;
+import org.knime.workbench.explorer.ExplorerMountTable;
+import org.knime.workbench.explorer.view.WorkflowMetadataIndex.Field;
+import org.knime.workbench.ui.workflow.metadata.MetadataItemType;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Keeps a {@link WorkflowMetadataIndex} for each local mount point up to date. A background job reads the indexes from
+ * the plug-in's state location in its first pass, then walks the mount points and re-parses only those metadata files
+ * whose modification time differs from the one they were indexed with. Searches always answer from the current index
+ * and find nothing in mount points whose index has not been read yet; listeners are notified once indexes have been
+ * read or a pass has changed an index.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowMetadataIndexer {
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowMetadataIndexer.class);
+
+    /** A mount point is not walked again within this many milliseconds after it was last walked. */
+    private static final long RESCAN_INTERVAL = 30000;
+
+    private static final WorkflowMetadataIndexer INSTANCE = new WorkflowMetadataIndexer();
+
+    private final Map<String, WorkflowMetadataIndex> m_indexes = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> m_lastScans = new ConcurrentHashMap<>();
+
+    private final List<Runnable> m_listeners = new CopyOnWriteArrayList<>();
+
+    private final IndexJob m_job = new IndexJob();
+
+    private WorkflowMetadataIndexer() {
+    }
+
+    /** @return the singleton instance */
+    static WorkflowMetadataIndexer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param listener called (from a background thread) after indexes have been read or an indexing pass has changed
+     *            at least one index
+     */
+    void addListener(final Runnable listener) {
+        m_listeners.add(listener);
+    }
+
+    /** @param listener a listener previously added */
+    void removeListener(final Runnable listener) {
+        m_listeners.remove(listener);
+    }
+
+    /**
+     * @param mountID the id of a local mount point
+     * @param query the query
+     * @return the full paths of the items in the mount point that match the query, as of the last indexing pass;
+     *         empty as long as the index of the mount point has not been read
+     */
+    Set<String> search(final String mountID, final WorkflowMetadataIndex.Query query) {
+        // never reads the index, searches run in the UI thread
+        final WorkflowMetadataIndex index = m_indexes.get(mountID);
+        return (index == null) ? Collections.emptySet() : index.search(query);
+    }
+
+    /**
+     * Schedules an indexing pass unless one is running or all local mount points have been walked recently.
+     */
+    void scheduleUpdate() {
+        if (m_job.getState() != Job.NONE) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        for (final String mountID : ExplorerMountTable.getAllVisibleLocalMountIDs()) {
+            final Long lastScan = m_lastScans.get(mountID);
+            if ((lastScan == null) || (now - lastScan.longValue() > RESCAN_INTERVAL)) {
+                m_job.schedule();
+                return;
+            }
+        }
+    }
+
+    private static WorkflowMetadataIndex readIndex(final String mountID) {
+        final File file = getIndexFile(mountID);
+        if ((file != null) && file.isFile()) {
+            try {
+                return WorkflowMetadataIndex.read(file);
+            } catch (IOException e) {
+                LOGGER.debug("Could not read metadata index of mount point " + mountID + ", rebuilding it: "
+                    + e.getMessage(), e);
+            }
+        }
+        return new WorkflowMetadataIndex();
+    }
+
+    private static File getIndexFile(final String mountID) {
+        final ExplorerActivator plugin = ExplorerActivator.getDefault();
+        if (plugin == null) {
+            return null;
+        }
+        try {
+            return plugin.getStateLocation().append("metadata-index")
+                .append(URLEncoder.encode(mountID, "UTF-8") + ".idx").toFile();
+        } catch (IllegalStateException | UnsupportedEncodingException e) {
+            LOGGER.debug("No state location for the metadata index: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Walks a mount point and brings its index up to date. Workflows and groups are indexed with their name and, if
+     * present, the content of their metadata file; files whose modification time matches the indexed one are not
+     * parsed again. Items that no longer exist are removed.
+     *
+     * @param index the index of the mount point
+     * @param root the root directory of the mount point
+     * @param monitor for cancellation
+     * @return whether the index was changed
+     * @throws IOException if the mount point cannot be walked
+     */
+    static boolean update(final WorkflowMetadataIndex index, final Path root, final IProgressMonitor monitor)
+        throws IOException {
+        final MetadataParser parser = new MetadataParser();
+        final Set<String> seen = new HashSet<>();
+        final boolean[] changed = new boolean[1];
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                if (monitor.isCanceled()) {
+                    return FileVisitResult.TERMINATE;
+                }
+                if (dir.equals(root)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                final String name = dir.getFileName().toString();
+                if (name.startsWith(".")) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                final StringBuilder path = new StringBuilder();
+                for (final Path segment : root.relativize(dir)) {
+                    path.append('/').append(segment.toString());
+                }
+                final String fullName = path.toString();
+                seen.add(fullName);
+
+                final File metaFile = dir.resolve(WorkflowPersistor.METAINFO_FILE).toFile();
+                // 0 stands for items without metadata, they are still found by name
+                final long lastModified = metaFile.isFile() ? Math.max(1, metaFile.lastModified()) : 0;
+                if (index.getLastModified(fullName) != lastModified) {
+                    final Map<Field, List<String>> values =
+                        (lastModified > 0) ? parser.parse(metaFile) : new EnumMap<>(Field.class);
+                    values.computeIfAbsent(Field.NAME, f -> new ArrayList<>()).add(name);
+                    index.put(fullName, lastModified, values);
+                    changed[0] = true;
+                }
+                return Files.exists(dir.resolve(WorkflowPersistor.WORKFLOW_FILE)) ? FileVisitResult.SKIP_SUBTREE
+                    : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        if (!monitor.isCanceled()) {
+            for (final String path : index.getPaths()) {
+                if (!seen.contains(path)) {
+                    changed[0] |= index.remove(path);
+                }
+            }
+        }
+        return changed[0];
+    }
+
+    /** @return the root directories of the local mount points by mount id */
+    private static Map<String, File> getLocalRoots() {
+        final Map<String, File> roots = new LinkedHashMap<>();
+        for (final Map.Entry<String, AbstractContentProvider> e : ExplorerMountTable.getMountedContent().entrySet()) {
+            final AbstractContentProvider provider = e.getValue();
+            if (provider.isRemote()) {
+                continue;
+            }
+            final String mountID = e.getKey();
+            final File root;
+            try {
+                root = provider.getRootStore().toLocalFile();
+            } catch (CoreException ex) {
+                LOGGER.debug("Could not determine the root of mount point " + mountID + ": " + ex.getMessage(), ex);
+                continue;
+            }
+            if ((root != null) && root.isDirectory()) {
+                roots.put(mountID, root);
+            }
+        }
+        return roots;
+    }
+
+    private void runPass(final IProgressMonitor monitor) {
+        final Map<String, File> roots = getLocalRoots();
+        // the persisted indexes answer the searches until the mount points have been walked
+        boolean read = false;
+        for (final String mountID : roots.keySet()) {
+            if (!m_indexes.containsKey(mountID)) {
+                m_indexes.put(mountID, readIndex(mountID));
+                read = true;
+            }
+        }
+        if (read) {
+            notifyListeners();
+        }
+
+        boolean changed = false;
+        for (final Map.Entry<String, File> e : roots.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            final String mountID = e.getKey();
+            final WorkflowMetadataIndex index = m_indexes.get(mountID);
+            try {
+                if (update(index, e.getValue().toPath(), monitor)) {
+                    changed = true;
+                    final File file = getIndexFile(mountID);
+                    if (file != null) {
+                        index.write(file);
+                    }
+                }
+                if (!monitor.isCanceled()) {
+                    m_lastScans.put(mountID, System.currentTimeMillis());
+                }
+            } catch (IOException ex) {
+                LOGGER.warn("Could not index the metadata of mount point " + mountID + ": " + ex.getMessage(), ex);
+            }
+        }
+        if (changed) {
+            notifyListeners();
+        }
+    }
+
+    private void notifyListeners() {
+        for (final Runnable l : m_listeners) {
+            l.run();
+        }
+    }
+
+    private final class IndexJob extends Job {
+        IndexJob() {
+            super("Indexing workflow metadata");
+            setSystem(true);
+            setPriority(Job.DECORATE);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected IStatus run(final IProgressMonitor monitor) {
+            runPass((monitor == null) ? new NullProgressMonitor() : monitor);
+            return (monitor != null) && monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+        }
+    }
+
+    /**
+     * Extracts the searchable values from metadata files; the parser is reused across files. Metadata written before
+     * 3.8 carries no type attribute, its author and description are recognized by their labels.
+     */
+    private static final class MetadataParser extends DefaultHandler {
+        private final StringBuilder m_content = new StringBuilder();
+
+        private SAXParser m_parser;
+
+        private Map<Field, List<String>> m_values;
+
+        private Field m_currentField;
+
+        Map<Field, List<String>> parse(final File metaFile) {
+            m_values = new EnumMap<>(Field.class);
+            try {
+                if (m_parser == null) {
+                    final SAXParserFactory factory = SAXParserFactory.newInstance();
+                    factory.setNamespaceAware(true);
+                    m_parser = factory.newSAXParser();
+                }
+                m_parser.parse(metaFile, this);
+            } catch (ParserConfigurationException | SAXException | IOException e) {
+                LOGGER.debug("Could not parse metadata file " + metaFile.getAbsolutePath() + ": " + e.getMessage(), e);
+            } finally {
+                if (m_parser != null) {
+                    m_parser.reset();
+                }
+                m_currentField = null;
+                m_content.setLength(0);
+            }
+            return m_values;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void startElement(final String uri, final String localName, final String name,
+            final Attributes attributes) throws SAXException {
+            if (localName.equals(MetadataXML.ATOM_ELEMENT)) {
+                m_currentField = getField(attributes.getValue(MetadataXML.TYPE), attributes.getValue(MetadataXML.NAME));
+                m_content.setLength(0);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void characters(final char[] ch, final int start, final int length) throws SAXException {
+            if (m_currentField != null) {
+                m_content.append(ch, start, length);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void endElement(final String uri, final String localName, final String name) throws SAXException {
+            if (localName.equals(MetadataXML.ATOM_ELEMENT) && (m_currentField != null)) {
+                m_values.computeIfAbsent(m_currentField, f -> new ArrayList<>()).add(m_content.toString());
+                m_currentField = null;
+            }
+        }
+
+        private static Field getField(final String type, final String label) {
+            final MetadataItemType itemType;
+            if (type == null) {
+                if (MetadataXML.AUTHOR_LABEL.equals(label)) {
+                    itemType = MetadataItemType.AUTHOR;
+                } else if (MetadataXML.DESCRIPTION_LABEL.equals(label)) {
+                    itemType = MetadataItemType.DESCRIPTION;
+                } else {
+                    return null;
+                }
+            } else {
+                itemType = MetadataItemType.getInfoTypeForType(type);
+            }
+            if (itemType == null) {
+                return null;
+            }
+            switch (itemType) {
+                case TITLE:
+                    return Field.TITLE;
+                case DESCRIPTION:
+                    return Field.DESCRIPTION;
+                case AUTHOR:
+                    return Field.AUTHOR;
+                case TAG:
+                    return Field.TAG;
+                default:
+                    return null;
+            }
+        }
+    }
+}
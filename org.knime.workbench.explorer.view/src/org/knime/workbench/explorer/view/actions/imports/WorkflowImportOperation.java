@@ -50,14 +50,32 @@
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.io.FileUtils;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.runtime.CoreException;
@@ -71,6 +89,7 @@
 import org.eclipse.ui.actions.WorkspaceModifyOperation;
 import org.eclipse.ui.internal.wizards.datatransfer.ArchiveFileManipulations;
 import org.eclipse.ui.internal.wizards.datatransfer.ILeveledImportStructureProvider;
+import org.eclipse.ui.internal.wizards.datatransfer.ZipLeveledStructureProvider;
 import org.knime.core.node.workflow.WorkflowPersistor;
 import org.knime.core.util.FileUtil;
 import org.knime.workbench.explorer.ExplorerMountTable;
@@ -85,6 +104,11 @@
 public class WorkflowImportOperation extends WorkspaceModifyOperation {
     private static final int BUFFSIZE = 1024 * 2048;
 
+    /** Upper bound for the number of threads extracting files from a zip archive concurrently. */
+    private static final int MAX_EXTRACT_THREADS = 4;
+
+    private static final long PROGRESS_POLL_MILLIS = 100;
+
     private final Collection<IWorkflowImportElement> m_workflows;
 
     /** Collection containing all unchecked workflows and workflows group. */
@@ -96,6 +120,9 @@ public class WorkflowImportOperation extends WorkspaceModifyOperation {
 
     private final Set<String> m_importedFiles = new HashSet<>();
 
+    /** Normalized archive paths of {@link #m_uncheckedWorkflows}, lazily initialized. */
+    private Set<String> m_uncheckedArchivePaths;
+
     // stores those directories which not yet contain a metainfo file and
     // hence are not displayed - meta info file has to be created after the
     // import -> occurs when importing archive files containing directories
@@ -269,13 +296,51 @@ protected void importWorkflowFromArchive(final WorkflowImportElementFromArchive
     }
 
     /**
-     * Import the entire subtree.
+     * Import the entire subtree. Folders are created first (in archive order), afterwards the collected files are
+     * extracted - in parallel if the provider allows concurrent reads (zip files).
      */
+    @SuppressWarnings("restriction")
     private void importArchiveEntry(final ILeveledImportStructureProvider importProvider, final Object entry,
         final AbstractExplorerFileStore destination, final IProgressMonitor monitor) throws IOException {
+        final List<ArchiveFileEntry> files = new ArrayList<>();
+        collectArchiveEntries(importProvider, entry, destination, files, monitor);
+
+        long totalBytes = 0;
+        for (ArchiveFileEntry f : files) {
+            if (f.m_size < 0) {
+                // size not known upfront (e.g. tar entries) - progress is reported per file then
+                totalBytes = -1;
+                break;
+            }
+            totalBytes += f.m_size;
+        }
+        final ArchiveExtractProgress progress = new ArchiveExtractProgress(monitor, files.size(), totalBytes);
 
-        //assert !destination.fetchInfo().exists();
+        if ((importProvider instanceof ZipLeveledStructureProvider) && (files.size() > 1)) {
+            // java.util.zip.ZipFile supports concurrent reads of different entries, tar files don't
+            extractInParallel(importProvider, files, progress);
+        } else {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFSIZE);
+            for (ArchiveFileEntry f : files) {
+                extractFile(importProvider, f, buffer, progress);
+                progress.fileDone();
+                progress.report();
+            }
+        }
+    }
 
+    /**
+     * Walks the archive subtree, creates all folders and collects the files to extract. Unchecked elements and their
+     * subtrees are skipped.
+     */
+    @SuppressWarnings("restriction")
+    private void collectArchiveEntries(final ILeveledImportStructureProvider importProvider, final Object entry,
+        final AbstractExplorerFileStore destination, final List<ArchiveFileEntry> files,
+        final IProgressMonitor monitor) throws IOException {
+        if (monitor.isCanceled()) {
+            throw new IOException("Canceled.");
+        }
+        final String path = normalizeArchivePath(importProvider.getFullPath(entry));
         if (importProvider.isFolder(entry)) {
             // first create the destination
             try {
@@ -285,36 +350,242 @@ private void importArchiveEntry(final ILeveledImportStructureProvider importProv
             }
 
             // import all sub elements
+            final Set<String> uncheckedPaths = getUncheckedArchivePaths();
             for (Object child : importProvider.getChildren(entry)) {
-                String path = importProvider.getFullPath(child);
+                String childPath = normalizeArchivePath(importProvider.getFullPath(child));
 
                 /* Check if it is an unchecked item (AP-13299). */
-                final boolean isUnchecked = m_uncheckedWorkflows.stream()
-                    .anyMatch(e -> ((WorkflowImportElementFromArchive)e).getEntry().equals(child));
-
-                if (!isUnchecked) {
-                    AbstractExplorerFileStore childDest = destination.getChild(new Path(path).lastSegment());
-                    importArchiveEntry(importProvider, child, childDest, monitor);
+                if (!uncheckedPaths.contains(childPath)) {
+                    AbstractExplorerFileStore childDest = destination.getChild(new Path(childPath).lastSegment());
+                    collectArchiveEntries(importProvider, child, childDest, files, monitor);
                 }
             }
         } else {
-            try (InputStream inStream = importProvider.getContents(entry);
-                    OutputStream outStream = destination.openOutputStream(EFS.NONE, monitor)) {
-                byte[] buffer = new byte[BUFFSIZE];
-                int read;
-                while ((read = inStream.read(buffer)) >= 0) {
-                    if (monitor.isCanceled()) {
-                        throw new IOException("Canceled.");
-                    }
-                    outStream.write(buffer, 0, read);
+            final long size = (entry instanceof ZipEntry) ? ((ZipEntry)entry).getSize() : -1;
+            files.add(new ArchiveFileEntry(entry, destination, size));
+        }
+        m_importedFiles.add(path);
+    }
+
+    /**
+     * Extracts the files using a small pool of worker threads, each with its own direct buffer. Progress and
+     * cancellation are handled on the calling thread only as the monitor is not thread-safe.
+     */
+    @SuppressWarnings("restriction")
+    private static void extractInParallel(final ILeveledImportStructureProvider importProvider,
+        final List<ArchiveFileEntry> files, final ArchiveExtractProgress progress) throws IOException {
+        final int nrThreads = Math.min(files.size(),
+            Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_EXTRACT_THREADS)));
+        final ExecutorService executor = Executors.newFixedThreadPool(nrThreads, new ThreadFactory() {
+            private final AtomicInteger m_threadIDs = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable r) {
+                final Thread t = new Thread(r, "Workflow-Import-Extractor-" + m_threadIDs.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        final ThreadLocal<ByteBuffer> buffers = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFSIZE));
+        final CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        try {
+            for (ArchiveFileEntry f : files) {
+                completion.submit(() -> {
+                    extractFile(importProvider, f, buffers.get(), progress);
+                    return null;
+                });
+            }
+            int remaining = files.size();
+            while (remaining > 0) {
+                final Future<Void> done = completion.poll(PROGRESS_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (done != null) {
+                    done.get();
+                    progress.fileDone();
+                    remaining--;
+                }
+                progress.report();
+                if (progress.isCanceled()) {
+                    throw new IOException("Canceled.");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.cancel();
+            throw new IOException("Interrupted while extracting archive.", e);
+        } catch (ExecutionException e) {
+            progress.cancel();
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Copies a single archive entry to its destination (via a file channel if the destination is local). */
+    @SuppressWarnings("restriction")
+    private static void extractFile(final ILeveledImportStructureProvider importProvider, final ArchiveFileEntry file,
+        final ByteBuffer buffer, final ArchiveExtractProgress progress) throws IOException {
+        File localDest;
+        try {
+            localDest = file.m_destination.toLocalFile();
+        } catch (CoreException e) {
+            localDest = null;
+        }
+        try (InputStream inStream = importProvider.getContents(file.m_entry)) {
+            // check the entry before the destination is created, an unreadable entry must not leave an empty file
+            if (inStream == null) {
+                throw new IOException("Unable to read archive entry \"" + importProvider.getFullPath(file.m_entry)
+                    + "\".");
+            }
+            copyEntry(inStream, localDest != null
+                ? FileChannel.open(localDest.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)
+                : Channels.newChannel(file.m_destination.openOutputStream(EFS.NONE, null)), buffer, progress);
+        } catch (CoreException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    private static void copyEntry(final InputStream inStream, final WritableByteChannel out, final ByteBuffer buffer,
+        final ArchiveExtractProgress progress) throws IOException {
+        try (WritableByteChannel outChannel = out) {
+            final ReadableByteChannel inChannel = Channels.newChannel(inStream);
+            buffer.clear();
+            int read;
+            while ((read = inChannel.read(buffer)) >= 0) {
+                if (progress.isCanceled()) {
+                    throw new IOException("Canceled.");
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    outChannel.write(buffer);
+                }
+                buffer.clear();
+                progress.bytesCopied(read);
+            }
+        }
+    }
+
+    /**
+     * Returns the normalized archive paths of all unchecked archive elements, computed once so that the
+     * check per archive entry is a hash lookup instead of a scan over all unchecked elements.
+     */
+    @SuppressWarnings("restriction")
+    private Set<String> getUncheckedArchivePaths() {
+        if (m_uncheckedArchivePaths == null) {
+            final Set<String> paths = new HashSet<>();
+            for (IWorkflowImportElement e : m_uncheckedWorkflows) {
+                if (e instanceof WorkflowImportElementFromArchive) {
+                    final WorkflowImportElementFromArchive archiveElement = (WorkflowImportElementFromArchive)e;
+                    paths.add(
+                        normalizeArchivePath(archiveElement.getProvider().getFullPath(archiveElement.getEntry())));
                 }
-            } catch (CoreException ex) {
-                throw new IOException(ex);
             }
+            m_uncheckedArchivePaths = paths;
+        }
+        return m_uncheckedArchivePaths;
+    }
+
+    private static String normalizeArchivePath(final String path) {
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    /** A file entry in the archive along with its (already resolved) destination. */
+    private static final class ArchiveFileEntry {
+        private final Object m_entry;
+
+        private final AbstractExplorerFileStore m_destination;
+
+        /** Uncompressed size or -1 if not known. */
+        private final long m_size;
+
+        ArchiveFileEntry(final Object entry, final AbstractExplorerFileStore destination, final long size) {
+            m_entry = entry;
+            m_destination = destination;
+            m_size = size;
         }
+    }
+
+    /**
+     * Progress of an archive extraction. Workers only update the counters, the monitor itself is updated by the
+     * thread that runs the import. Progress is reported by bytes if the uncompressed sizes are known, otherwise by
+     * number of files.
+     */
+    private static final class ArchiveExtractProgress {
+        private static final int TOTAL_WORK = 1000;
+
+        private final IProgressMonitor m_monitor;
+
+        private final int m_totalFiles;
+
+        private final long m_totalBytes;
 
-        final String path = importProvider.getFullPath(entry);
-        m_importedFiles.add(path.endsWith("/") ? path.substring(0, path.length() - 1) : path);
+        private final AtomicLong m_bytesCopied = new AtomicLong();
+
+        private final AtomicInteger m_filesDone = new AtomicInteger();
+
+        private volatile boolean m_canceled;
+
+        private int m_reportedWork;
+
+        /** The thread running the import, the only one allowed to access the monitor. */
+        private final Thread m_ownerThread;
+
+        ArchiveExtractProgress(final IProgressMonitor monitor, final int totalFiles, final long totalBytes) {
+            m_monitor = SubMonitor.convert(monitor, TOTAL_WORK);
+            m_ownerThread = Thread.currentThread();
+            m_totalFiles = totalFiles;
+            m_totalBytes = totalBytes;
+        }
+
+        void bytesCopied(final long bytes) {
+            m_bytesCopied.addAndGet(bytes);
+        }
+
+        void fileDone() {
+            m_filesDone.incrementAndGet();
+        }
+
+        void cancel() {
+            m_canceled = true;
+        }
+
+        /**
+         * Workers see the cancellation once the owner thread has noticed it in {@link #report()}. The owner thread
+         * (sequential extraction) checks the monitor directly so that large entries can be canceled while copying.
+         */
+        boolean isCanceled() {
+            if (!m_canceled && (Thread.currentThread() == m_ownerThread) && m_monitor.isCanceled()) {
+                m_canceled = true;
+            }
+            return m_canceled;
+        }
+
+        /** Must only be called from the thread owning the monitor. */
+        void report() {
+            if (m_monitor.isCanceled()) {
+                m_canceled = true;
+            }
+            final long bytes = m_bytesCopied.get();
+            final double fraction;
+            if (m_totalBytes > 0) {
+                fraction = Math.min(1.0, bytes / (double)m_totalBytes);
+            } else {
+                fraction = m_totalFiles > 0 ? m_filesDone.get() / (double)m_totalFiles : 1.0;
+            }
+            final int work = (int)(fraction * TOTAL_WORK);
+            if (work > m_reportedWork) {
+                m_monitor.worked(work - m_reportedWork);
+                m_reportedWork = work;
+            }
+            m_monitor.subTask(m_totalBytes > 0
+                ? String.format("Extracted %s of %s", FileUtils.byteCountToDisplaySize(bytes),
+                    FileUtils.byteCountToDisplaySize(m_totalBytes))
+                : String.format("Extracted %d of %d files", m_filesDone.get(), m_totalFiles));
+        }
     }
 
     /**
@@ -217,6 +217,46 @@ public interface PreferenceConstants {
     public static final String P_EDITOR_ZOOM_MODIFIED_DELTA = "knime.zoom.alternate_delta";
     /** The default value for the delta in modifier zoom change */
     public static final int P_DEFAULT_EDITOR_ZOOM_MODIFIED_DELTA = 5;
+    /**
+     * Preference constant for the zoom level (in percent) below which nodes are rendered as plain boxes without text
+     * and icons, and annotations as filled rectangles.
+     *
+     * @since 4.3
+     */
+    public static final String P_EDITOR_ZOOM_SIMPLIFIED_FIGURES = "knime.zoom.simplified_figures";
+    /**
+     * The default value for {@link #P_EDITOR_ZOOM_SIMPLIFIED_FIGURES}.
+     *
+     * @since 4.3
+     */
+    public static final int P_DEFAULT_EDITOR_ZOOM_SIMPLIFIED_FIGURES = 40;
+    /**
+     * Preference constant for the zoom level (in percent) below which curved connections are rendered as straight
+     * lines.
+     *
+     * @since 4.3
+     */
+    public static final String P_EDITOR_ZOOM_STRAIGHT_CONNECTIONS = "knime.zoom.straight_connections";
+    /**
+     * The default value for {@link #P_EDITOR_ZOOM_STRAIGHT_CONNECTIONS}.
+     *
+     * @since 4.3
+     */
+    public static final int P_DEFAULT_EDITOR_ZOOM_STRAIGHT_CONNECTIONS = 50;
+    /**
+     * Preference constant for the heap budget (in MB) of the workflow editor's undo history. Undo data exceeding the
+     * budget is discarded, the oldest first, i.e. the respective commands can't be undone anymore. A budget of 0 (the
+     * default) doesn't limit the undo history.
+     *
+     * @since 4.3
+     */
+    public static final String P_EDITOR_UNDO_HISTORY_BUDGET_MB = "knime.editor.undo_history_budget";
+    /**
+     * The default value for {@link #P_EDITOR_UNDO_HISTORY_BUDGET_MB}.
+     *
+     * @since 4.3
+     */
+    public static final int P_DEFAULT_EDITOR_UNDO_HISTORY_BUDGET_MB = 0;
 
     /**
      * Preference constant for the comma delimited list of custom colors (chosen in the native color picker
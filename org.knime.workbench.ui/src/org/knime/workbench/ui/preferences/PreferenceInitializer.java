@@ -142,6 +142,12 @@ public void run() {
         store.setDefault(PreferenceConstants.P_EDITOR_ZOOM_LEVELS, PreferenceConstants.P_DEFAULT_EDITOR_ZOOM_LEVELS);
         store.setDefault(PreferenceConstants.P_EDITOR_ZOOM_MODIFIED_DELTA,
             PreferenceConstants.P_DEFAULT_EDITOR_ZOOM_MODIFIED_DELTA);
+        store.setDefault(PreferenceConstants.P_EDITOR_ZOOM_SIMPLIFIED_FIGURES,
+            PreferenceConstants.P_DEFAULT_EDITOR_ZOOM_SIMPLIFIED_FIGURES);
+        store.setDefault(PreferenceConstants.P_EDITOR_ZOOM_STRAIGHT_CONNECTIONS,
+            PreferenceConstants.P_DEFAULT_EDITOR_ZOOM_STRAIGHT_CONNECTIONS);
+        store.setDefault(PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB,
+            PreferenceConstants.P_DEFAULT_EDITOR_UNDO_HISTORY_BUDGET_MB);
 
         store.setDefault(PreferenceConstants.P_EDITOR_SELECTED_NODE_HIGHLIGHT_CONNECTIONS,
             PreferenceConstants.P_DEFAULT_EDITOR_SELECTED_NODE_HIGHLIGHT_CONNECTIONS);
@@ -144,6 +144,21 @@ protected void valueChanged(final boolean old, final boolean neu) {
             new IntegerFieldEditor(PreferenceConstants.P_EDITOR_ZOOM_MODIFIED_DELTA, labelText, parent);
         zoomDelta.setValidRange(1, 100);
         addField(zoomDelta);
+        final IntegerFieldEditor simplifiedFigures = new IntegerFieldEditor(
+            PreferenceConstants.P_EDITOR_ZOOM_SIMPLIFIED_FIGURES,
+            "Zoom level (%) below which nodes and annotations are drawn simplified: ", parent);
+        simplifiedFigures.setValidRange(0, 500);
+        addField(simplifiedFigures);
+        final IntegerFieldEditor straightConnections = new IntegerFieldEditor(
+            PreferenceConstants.P_EDITOR_ZOOM_STRAIGHT_CONNECTIONS,
+            "Zoom level (%) below which curved connections are drawn straight: ", parent);
+        straightConnections.setValidRange(0, 500);
+        addField(straightConnections);
+        final IntegerFieldEditor undoBudget = new IntegerFieldEditor(
+            PreferenceConstants.P_EDITOR_UNDO_HISTORY_BUDGET_MB,
+            "Memory for the undo history of an editor (MB, 0 for unlimited): ", parent);
+        undoBudget.setValidRange(0, 65536);
+        addField(undoBudget);
 
         addField(new HorizontalLineField(parent));
         addField(new BooleanFieldEditor(PreferenceConstants.P_EDITOR_SELECTED_NODE_HIGHLIGHT_CONNECTIONS,